@@ -0,0 +1,81 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of spec elements into the codegen model, without template rendering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodegenBenchmark {
+
+    @Param({"10", "100"})
+    public int models;
+
+    @Param({"10", "50"})
+    public int properties;
+
+    private DefaultCodegen codegen;
+    private Swagger swagger;
+    private Map<String, Model> definitions;
+
+    @Setup
+    public void setUp() {
+        swagger = new SyntheticSpec(models, properties, models * 2, 1).create();
+        definitions = swagger.getDefinitions();
+        codegen = new JavaClientCodegen();
+        codegen.processOpts();
+        codegen.preprocessSwagger(swagger);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        for (Map.Entry<String, Model> entry : definitions.entrySet()) {
+            blackhole.consume(codegen.fromModel(entry.getKey(), entry.getValue(), definitions));
+        }
+    }
+
+    @Benchmark
+    public void fromProperty(Blackhole blackhole) {
+        Model model = definitions.get(SyntheticSpec.modelName(0));
+        for (Map.Entry<String, Property> entry : model.getProperties().entrySet()) {
+            blackhole.consume(codegen.fromProperty(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        for (Map.Entry<String, Path> path : swagger.getPaths().entrySet()) {
+            for (Map.Entry<HttpMethod, Operation> operation : path.getValue().getOperationMap().entrySet()) {
+                blackhole.consume(codegen.fromOperation(path.getKey(), operation.getKey().name().toLowerCase(),
+                        operation.getValue(), definitions, swagger));
+            }
+        }
+    }
+}
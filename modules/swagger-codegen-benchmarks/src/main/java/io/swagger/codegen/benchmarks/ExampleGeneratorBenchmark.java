@@ -0,0 +1,52 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.models.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Json and xml examples of models referencing each other, as rendered for api docs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExampleGeneratorBenchmark {
+
+    @Param({"10", "100"})
+    public int models;
+
+    private Map<String, Model> definitions;
+    private final List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+
+    @Setup
+    public void setUp() {
+        definitions = new SyntheticSpec(models, 20, 0, 1).create().getDefinitions();
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        ExampleGenerator generator = new ExampleGenerator(definitions);
+        for (String name : definitions.keySet()) {
+            blackhole.consume(generator.generate(null, mediaTypes, name));
+        }
+    }
+}
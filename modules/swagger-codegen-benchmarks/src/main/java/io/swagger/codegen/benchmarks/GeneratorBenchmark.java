@@ -0,0 +1,71 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.InMemoryGeneratorOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A complete generation, from the parsed spec to rendered files. Files are written to memory, so disk speed
+ * does not affect the results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"java", "python", "typescript-angular"})
+    public String lang;
+
+    @Param({"10", "100"})
+    public int models;
+
+    private File outputDir;
+    private ClientOptInput input;
+
+    @Setup(Level.Trial)
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("swagger-codegen-benchmark").toFile();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        CodegenConfig config = CodegenConfigLoader.forName(lang);
+        config.setOutputDir(outputDir.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .swagger(new SyntheticSpec(models, 20, models * 2, 1).create())
+                .config(config)
+                .output(new InMemoryGeneratorOutput(outputDir));
+    }
+
+    @Benchmark
+    public List<File> generate() {
+        return new DefaultGenerator().opts(input).generate();
+    }
+}
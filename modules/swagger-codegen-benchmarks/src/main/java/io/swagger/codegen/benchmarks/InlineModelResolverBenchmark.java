@@ -0,0 +1,49 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flattening of inline models. The spec is modified by the resolver, so a new one is built for every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineModelResolverBenchmark {
+
+    @Param({"10", "100"})
+    public int models;
+
+    @Param({"1", "3"})
+    public int depth;
+
+    private Swagger swagger;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        swagger = new SyntheticSpec(models, 20, models * 2, depth).create();
+    }
+
+    @Benchmark
+    public Swagger flatten() {
+        new InlineModelResolver().flatten(swagger);
+        return swagger;
+    }
+}
@@ -0,0 +1,83 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Naming helpers, which are called many times for every model, property and operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingBenchmark {
+    private static final String[] NAMES = {
+            "pet", "Pet", "pet_store", "petStore", "PetStore", "pet-store", "pet.store", "pet store",
+            "get_pet_by_id", "X-Rate-Limit", "api_key", "$special[name]", "property_name_12", "ABCValue",
+            "io.swagger.model.Pet", "_underscored", "with/slash", "some123number"
+    };
+
+    private DefaultCodegen codegen;
+
+    @Setup
+    public void setUp() {
+        codegen = new JavaClientCodegen();
+    }
+
+    @Benchmark
+    public void camelize(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(DefaultCodegen.camelize(name));
+        }
+    }
+
+    @Benchmark
+    public void camelizeLowercaseFirstLetter(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(DefaultCodegen.camelize(name, true));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(DefaultCodegen.underscore(name));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeName(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(codegen.sanitizeName(name));
+        }
+    }
+
+    @Benchmark
+    public void toVarName(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(codegen.toVarName(name));
+        }
+    }
+
+    @Benchmark
+    public void toModelName(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(codegen.toModelName(name));
+        }
+    }
+}
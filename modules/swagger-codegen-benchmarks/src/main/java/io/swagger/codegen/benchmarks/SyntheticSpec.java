@@ -0,0 +1,151 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.models.Info;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.PathParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.BooleanProperty;
+import io.swagger.models.properties.DateTimeProperty;
+import io.swagger.models.properties.DoubleProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.LongProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds specs of a given size, so that benchmarks can show how the pipeline scales.
+ *
+ * Every model has the requested number of properties, cycling through primitive, array, reference and
+ * inline object properties; inline objects are nested up to the requested depth. Operations come in
+ * pairs (a GET by id and a POST with a body) spread over five tags.
+ */
+public class SyntheticSpec {
+    private static final int TAGS = 5;
+
+    private final int models;
+    private final int properties;
+    private final int operations;
+    private final int depth;
+
+    public SyntheticSpec(int models, int properties, int operations, int depth) {
+        this.models = Math.max(1, models);
+        this.properties = properties;
+        this.operations = operations;
+        this.depth = depth;
+    }
+
+    public static String modelName(int index) {
+        return "SyntheticModel" + index;
+    }
+
+    /**
+     * @return a new spec, callers may modify it
+     */
+    public Swagger create() {
+        Swagger swagger = new Swagger()
+                .info(new Info().title("Synthetic API").version("1.0.0").description("Generated for benchmarks"))
+                .host("api.example.com")
+                .basePath("/v1");
+        swagger.setConsumes(Arrays.asList("application/json", "application/xml"));
+        swagger.setProduces(Arrays.asList("application/json", "application/xml"));
+
+        for (int i = 0; i < models; i++) {
+            ModelImpl model = new ModelImpl().type(ModelImpl.OBJECT).description("Synthetic model " + i);
+            model.setProperties(properties(i, depth));
+            swagger.addDefinition(modelName(i), model);
+        }
+
+        for (int i = 0; i < TAGS; i++) {
+            swagger.addTag(new Tag().name(tag(i)).description("Synthetic tag " + i));
+        }
+        for (int i = 0; i < operations; i += 2) {
+            String model = modelName(i % models);
+            swagger.path("/resource" + i + "/{resourceId}", new Path().get(getOperation(i, model)));
+            if (i + 1 < operations) {
+                swagger.path("/resource" + i, new Path().post(postOperation(i + 1, model)));
+            }
+        }
+        return swagger;
+    }
+
+    private Map<String, Property> properties(int model, int nesting) {
+        Map<String, Property> result = new LinkedHashMap<String, Property>();
+        for (int i = 0; i < properties; i++) {
+            String name = i % 2 == 0 ? "property_name_" + i : "propertyName" + i;
+            result.put(name, property(model, i, nesting));
+        }
+        return result;
+    }
+
+    private Property property(int model, int index, int nesting) {
+        switch (index % 9) {
+            case 0:
+                return new StringProperty().example("example").description("a string");
+            case 1:
+                return new IntegerProperty().description("an integer");
+            case 2:
+                return new LongProperty();
+            case 3:
+                return new DoubleProperty();
+            case 4:
+                return new BooleanProperty();
+            case 5:
+                return new DateTimeProperty();
+            case 6:
+                return new ArrayProperty(new StringProperty());
+            case 7:
+                return new RefProperty("#/definitions/" + modelName((model + 1) % models));
+            default:
+                if (nesting <= 0) {
+                    return new StringProperty()._enum(Arrays.asList("available", "pending", "sold"));
+                }
+                ObjectProperty inline = new ObjectProperty();
+                inline.setProperties(properties(model, nesting - 1));
+                return inline;
+        }
+    }
+
+    private static Operation getOperation(int index, String model) {
+        Operation operation = new Operation()
+                .operationId("getResource" + index)
+                .summary("Get resource " + index)
+                .tag(tag(index))
+                .parameter(new PathParameter().name("resourceId").type("integer").format("int64"))
+                .parameter(new QueryParameter().name("include_details").type("boolean"))
+                .parameter(new QueryParameter().name("X-Page-Size").type("integer"));
+        operation.response(200, new Response().description("found").schema(new RefProperty("#/definitions/" + model)));
+        operation.response(404, new Response().description("not found"));
+        return operation;
+    }
+
+    private static Operation postOperation(int index, String model) {
+        BodyParameter body = new BodyParameter().name("body").schema(new RefModel("#/definitions/" + model));
+        body.setRequired(true);
+        Operation operation = new Operation()
+                .operationId("createResource" + index)
+                .summary("Create resource " + index)
+                .tag(tag(index))
+                .parameter(body);
+        operation.response(201, new Response().description("created")
+                .schema(new ArrayProperty(new RefProperty("#/definitions/" + model))));
+        return operation;
+    }
+
+    private static String tag(int index) {
+        return "tag" + (index % TAGS);
+    }
+}
@@ -2,10 +2,13 @@ package io.swagger.codegen;
 
 import io.airlift.airline.Cli;
 import io.airlift.airline.Help;
+import io.swagger.codegen.cmd.Batch;
 import io.swagger.codegen.cmd.ConfigHelp;
+import io.swagger.codegen.cmd.Daemon;
 import io.swagger.codegen.cmd.Generate;
 import io.swagger.codegen.cmd.Langs;
 import io.swagger.codegen.cmd.Meta;
+import io.swagger.codegen.cmd.Remote;
 import io.swagger.codegen.cmd.Validate;
 import io.swagger.codegen.cmd.Version;
 
@@ -20,6 +23,13 @@ public class SwaggerCodegen {
 
 
     public static void main(String[] args) {
+        cli().parse(args).run();
+    }
+
+    /**
+     * @return the command line parser, shared with the daemon which runs the commands sent by clients
+     */
+    public static Cli<Runnable> cli() {
         String version = Version.readVersionFromResources();
         @SuppressWarnings("unchecked")
         Cli.CliBuilder<Runnable> builder =
@@ -30,8 +40,8 @@ public class SwaggerCodegen {
                                         version))
                         .withDefaultCommand(Langs.class)
                         .withCommands(Generate.class, Meta.class, Langs.class, Help.class,
-                                ConfigHelp.class, Validate.class, Version.class);
+                                ConfigHelp.class, Validate.class, Version.class, Batch.class, Daemon.class, Remote.class);
 
-        builder.build().parse(args).run();
+        return builder.build();
     }
 }
@@ -0,0 +1,57 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.config.BatchGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Runs the generation jobs of a manifest, see {@link BatchGenerator}.
+ */
+@Command(name = "batch", description = "Generate code for the jobs of a manifest in one run, "
+        + "specs and templates being read once for all the jobs")
+public class Batch implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(Batch.class);
+
+    @Option(name = {"-m", "--manifest"}, title = "manifest file", required = true,
+            description = CodegenConstants.BATCH_MANIFEST_DESC)
+    private String manifest;
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = CodegenConstants.BATCH_THREADS_DESC)
+    private Integer threads;
+
+    @Override
+    public void run() {
+        List<CodegenConfigurator> jobs;
+        try {
+            jobs = BatchGenerator.readManifest(new File(manifest));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read manifest " + manifest + ": " + e.getMessage(), e);
+        }
+
+        int poolSize = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+        List<BatchGenerator.Result> results = new BatchGenerator(poolSize).generate(jobs);
+
+        int failures = 0;
+        for (BatchGenerator.Result result : results) {
+            if (result.isSuccess()) {
+                LOG.info(result.toString());
+            } else {
+                LOG.error(result.toString());
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            throw new RuntimeException(failures + " of " + results.size() + " generation jobs failed");
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package io.swagger.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.airlift.airline.ParseException;
+import io.swagger.codegen.SwaggerCodegen;
+import io.swagger.codegen.TemplateCache;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long running generation server, so that repeated generations don't pay for the JVM startup, class loading
+ * and template compilation each time.
+ *
+ * The daemon listens on a loopback port and accepts:
+ * <ul>
+ * <li>POST /generate with {"workingDirectory": "...", "args": ["generate", "-l", "java", ...]}, see {@link Remote}</li>
+ * <li>GET /status</li>
+ * <li>POST /shutdown</li>
+ * </ul>
+ * The POST requests must carry the secret token of the daemon in the {@value #TOKEN_HEADER} header, and a json
+ * content type. The token is written to a file only readable by the user running the daemon, see
+ * {@link #defaultTokenFile(int)}. Requests with an Origin header are refused, so that web pages can't drive the
+ * daemon from a browser.
+ * Generations run one at a time on the thread which started the daemon, their system properties (-D) apply to
+ * them only. The generated files are the same as with the generate command, except that the specs some
+ * generators copy as supporting files (swagger.json, swagger.yaml) may list properties in another order: Jackson
+ * orders them by reflection, which depends on the state of the JVM.
+ */
+@Command(name = "daemon", description = "Run a generation daemon on a loopback port, serving the generate "
+        + "commands sent with the remote command without starting a JVM for each of them")
+public class Daemon implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(Daemon.class);
+
+    public static final int DEFAULT_PORT = 9797;
+
+    public static final String TOKEN_HEADER = "X-Swagger-Codegen-Token";
+
+    @Option(name = {"-p", "--port"}, title = "port",
+            description = "loopback port to listen on (" + DEFAULT_PORT + " by default, 0 for any free port)")
+    private int port = DEFAULT_PORT;
+
+    @Option(name = {"--token-file"}, title = "token file",
+            description = "file receiving the token clients must send, only readable by the current user "
+                    + "(~/.swagger-codegen/daemon-<port>.token by default)")
+    private String tokenFile;
+
+    private final TemplateCache templateCache = new TemplateCache();
+    private final BlockingQueue<FutureTask<?>> jobs = new LinkedBlockingQueue<FutureTask<?>>();
+    private final FutureTask<?> shutdown = new FutureTask<Void>(new Runnable() {
+        @Override
+        public void run() {
+        }
+    }, null);
+    private final AtomicLong generations = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+    private String token;
+    private File writtenTokenFile;
+
+    /**
+     * @param port port of the daemon
+     * @return the file holding the token of a daemon started without --token-file
+     */
+    public static File defaultTokenFile(int port) {
+        return new File(System.getProperty("user.home"),
+                ".swagger-codegen" + File.separator + "daemon-" + port + ".token");
+    }
+
+    @Override
+    public void run() {
+        int boundPort;
+        try {
+            boundPort = start();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not start the daemon on port " + port, e);
+        }
+        LOG.info("Daemon listening on " + server.getAddress().getAddress().getHostAddress() + ":" + boundPort
+                + ", token in " + writtenTokenFile);
+        try {
+            serve();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stop();
+        }
+        LOG.info("Daemon stopped after " + generations.get() + " generation(s)");
+    }
+
+    /**
+     * Runs the generations sent by clients on the current thread, until the daemon is shut down.
+     *
+     * @throws InterruptedException if the thread is interrupted
+     */
+    void serve() throws InterruptedException {
+        for (FutureTask<?> job = jobs.take(); job != shutdown; job = jobs.take()) {
+            job.run();
+        }
+    }
+
+    /**
+     * Starts accepting requests in the background, {@link #serve()} runs the generations.
+     *
+     * @return the port listened on
+     * @throws IOException if the port can't be bound
+     */
+    int start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        int boundPort = server.getAddress().getPort();
+        token = newToken();
+        writtenTokenFile = tokenFile != null ? new File(tokenFile) : defaultTokenFile(boundPort);
+        try {
+            writeToken(writtenTokenFile, token);
+        } catch (IOException e) {
+            server.stop(0);
+            server = null;
+            throw e;
+        }
+        server.createContext("/generate", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    respond(exchange, 405, "error", "Use POST to send a generate command", 0);
+                    return;
+                }
+                if (authorize(exchange)) {
+                    handleGenerate(exchange);
+                }
+            }
+        });
+        server.createContext("/status", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange, 200, "ok", generations.get() + " generation(s), "
+                        + templateCache.size() + " compiled template(s)", 0);
+            }
+        });
+        server.createContext("/shutdown", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    respond(exchange, 405, "error", "Use POST to stop the daemon", 0);
+                    return;
+                }
+                if (!authorize(exchange)) {
+                    return;
+                }
+                respond(exchange, 200, "ok", "Stopping", 0);
+                jobs.add(shutdown);
+            }
+        });
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+        return boundPort;
+    }
+
+    /**
+     * @return the token clients must send in the {@value #TOKEN_HEADER} header
+     */
+    String getToken() {
+        return token;
+    }
+
+    void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+        }
+        if (writtenTokenFile != null) {
+            if (writtenTokenFile.exists() && !writtenTokenFile.delete()) {
+                LOG.warn("Could not delete the token file " + writtenTokenFile);
+            }
+            writtenTokenFile = null;
+        }
+        for (FutureTask<?> job = jobs.poll(); job != null; job = jobs.poll()) {
+            job.cancel(false);
+        }
+    }
+
+    /**
+     * Runs a generate command, as if it was run from the working directory, and waits for its completion.
+     *
+     * @param workingDirectory directory against which the relative paths of the command are resolved
+     * @param args command line, starting with "generate"
+     * @throws InterruptedException if interrupted while waiting for the generation
+     */
+    void generate(File workingDirectory, List<String> args) throws InterruptedException {
+        if (workingDirectory == null || !workingDirectory.isAbsolute()) {
+            throw new IllegalArgumentException("An absolute working directory is required");
+        }
+        Runnable command = SwaggerCodegen.cli().parse(args);
+        if (!(command instanceof Generate)) {
+            throw new IllegalArgumentException("Only the generate command can be sent to the daemon");
+        }
+        final Generate generate = (Generate) command;
+        generate.setWorkingDirectory(workingDirectory);
+        generate.setTemplateCache(templateCache);
+
+        FutureTask<Void> job = new FutureTask<Void>(new Callable<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    generate.run();
+                } finally {
+                    generations.incrementAndGet();
+                }
+                return null;
+            }
+        });
+        jobs.add(job);
+        try {
+            job.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        long start = System.currentTimeMillis();
+        try {
+            JsonNode request = Json.mapper().readTree(exchange.getRequestBody());
+            File workingDirectory = null;
+            List<String> args = new ArrayList<String>();
+            if (request != null) {
+                if (request.hasNonNull("workingDirectory")) {
+                    workingDirectory = new File(request.get("workingDirectory").asText());
+                }
+                if (request.has("args")) {
+                    for (JsonNode arg : request.get("args")) {
+                        args.add(arg.asText());
+                    }
+                }
+            }
+            generate(workingDirectory, args);
+            respond(exchange, 200, "ok", "Generated", System.currentTimeMillis() - start);
+        } catch (ParseException | IllegalArgumentException | IOException e) {
+            respond(exchange, 400, "error", e.getMessage(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "error", "Interrupted", System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            LOG.error("Generation failed", e);
+            respond(exchange, 500, "error", String.valueOf(e.getMessage()), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Checks that a request comes from a client of the user running the daemon rather than from a web page.
+     *
+     * @return false if the request was refused, the response is sent already
+     */
+    private boolean authorize(HttpExchange exchange) throws IOException {
+        Headers headers = exchange.getRequestHeaders();
+        if (headers.containsKey("Origin")) {
+            respond(exchange, 403, "error", "Requests from web pages are not accepted", 0);
+            return false;
+        }
+        String contentType = headers.getFirst("Content-Type");
+        if (contentType == null || !contentType.trim().toLowerCase(Locale.ROOT).startsWith("application/json")) {
+            respond(exchange, 415, "error", "The content type must be application/json", 0);
+            return false;
+        }
+        String sent = headers.getFirst(TOKEN_HEADER);
+        if (sent == null || !MessageDigest.isEqual(sent.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8))) {
+            respond(exchange, 401, "error", "Missing or invalid " + TOKEN_HEADER + " header", 0);
+            return false;
+        }
+        return true;
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        return token.toString();
+    }
+
+    private static void writeToken(File file, String token) throws IOException {
+        Path path = file.getAbsoluteFile().toPath();
+        Files.createDirectories(path.getParent());
+        Files.deleteIfExists(path);
+        try {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system
+            Files.createFile(path);
+            File created = path.toFile();
+            if (!(created.setReadable(false, false) && created.setReadable(true, true)
+                    && created.setWritable(false, false) && created.setWritable(true, true))) {
+                throw new IOException("Could not restrict the permissions of " + file);
+            }
+        }
+        Files.write(path, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int code, String status, String message, long millis)
+            throws IOException {
+        Map<String, Object> response = new LinkedHashMap<String, Object>();
+        response.put("status", status);
+        response.put("message", message);
+        response.put("millis", millis);
+        byte[] body = Json.mapper().writeValueAsBytes(response);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package io.swagger.codegen.cmd;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.GenerationProfiler;
+import io.swagger.codegen.TemplateCache;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.config.GenerationCache;
+import io.swagger.util.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static io.swagger.codegen.config.CodegenConfiguratorUtils.*;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -175,14 +184,63 @@ public class Generate implements Runnable {
     @Option(name = {"--skip-alias-generation"}, title = "skip alias generation.", description = "skip code generation for models identified as alias.")
     private Boolean skipAliasGeneration;
 
+    @Option(name = {"--generation-threads"}, title = "generation threads",
+            description = CodegenConstants.GENERATION_THREADS_DESC)
+    private Integer generationThreads;
+
+    @Option(name = {"--incremental"}, title = "incremental generation",
+            description = CodegenConstants.INCREMENTAL_DESC)
+    private Boolean incremental;
+
+    @Option(name = {"--low-memory"}, title = "low memory generation",
+            description = CodegenConstants.LOW_MEMORY_DESC)
+    private Boolean lowMemory;
+
+    @Option(name = {"--generation-cache"}, title = "generation cache",
+            description = CodegenConstants.GENERATION_CACHE_DESC)
+    private Boolean generationCache;
+
+    @Option(name = {"--generation-cache-dir"}, title = "generation cache directory",
+            description = CodegenConstants.GENERATION_CACHE_DIR_DESC)
+    private String generationCacheDir;
+
+    @Option(name = {"--profile"}, title = "profile report",
+            description = CodegenConstants.PROFILE_DESC)
+    private String profile;
+
     @Option(name = {"--ignore-import-mapping"}, title = "ignore import mapping", description = "allow generate model classes using names previously listed on import mappings.")
     private String ignoreImportMappings;
 
+    private File workingDirectory;
+
+    private TemplateCache templateCache;
+
+    /**
+     * Resolves the relative paths of the options against the directory instead of the current one, used by the
+     * daemon to run the generate commands of clients started in other directories.
+     */
+    void setWorkingDirectory(File workingDirectory) {
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Shares compiled templates with other generations, used by the daemon. The cache is only used for
+     * the built-in templates, custom template folders may be edited between generations.
+     */
+    void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
     @Override
     public void run() {
 
+        if (workingDirectory != null) {
+            resolvePaths();
+        }
+
         // attempt to read from config file
-        CodegenConfigurator configurator = CodegenConfigurator.fromFile(configFile);
+        CodegenConfigurator configurator = workingDirectory != null ? readConfigFile()
+                : CodegenConfigurator.fromFile(configFile);
 
         // if a config file wasn't specified or we were unable to read it
         if (configurator == null) {
@@ -283,6 +341,18 @@ public class Generate implements Runnable {
             configurator.setSkipAliasGeneration(skipAliasGeneration);
         }
 
+        if (generationThreads != null) {
+            configurator.setGenerationThreads(generationThreads);
+        }
+
+        if (incremental != null) {
+            configurator.setIncremental(incremental);
+        }
+
+        if (lowMemory != null) {
+            configurator.setLowMemory(lowMemory);
+        }
+
         if (ignoreImportMappings != null) {
             additionalProperties.add(String.format("%s=%s", CodegenConstants.IGNORE_IMPORT_MAPPING_OPTION, Boolean.parseBoolean(ignoreImportMappings)));
         }
@@ -294,8 +364,125 @@ public class Generate implements Runnable {
         applyAdditionalPropertiesKvpList(additionalProperties, configurator);
         applyLanguageSpecificPrimitivesCsvList(languageSpecificPrimitives, configurator);
         applyReservedWordsMappingsKvpList(reservedWordsMappings, configurator);
-        final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
-        new DefaultGenerator().opts(clientOptInput).generate();
+        GenerationProfiler profiler = null;
+        if (isNotEmpty(profile)) {
+            profiler = new GenerationProfiler();
+            configurator.setProfiler(profiler);
+        }
+
+        if (Boolean.TRUE.equals(generationCache)) {
+            generateCached(configurator);
+        } else {
+            final ClientOptInput clientOptInput = configurator.toClientOptInput();
+
+            newGenerator(configurator).opts(clientOptInput).generate();
+        }
+
+        if (profiler != null) {
+            try {
+                profiler.writeReport(new File(profile));
+                LOG.info("Profile report written to " + profile);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write profile report " + profile, e);
+            }
+        }
+    }
+
+    private void generateCached(CodegenConfigurator configurator) {
+        GenerationCache cache = new GenerationCache(isNotEmpty(generationCacheDir) ? new File(generationCacheDir)
+                : GenerationCache.defaultDirectory());
+        String key;
+        try {
+            key = cache.key(configurator, null);
+        } catch (IOException e) {
+            LOG.warn("Unable to compute generation cache key, generating without cache", e);
+            key = null;
+        }
+        if (key == null) {
+            newGenerator(configurator).opts(configurator.toClientOptInput()).generate();
+            return;
+        }
+
+        File outputDir = new File(configurator.getOutputDir());
+        if (!cache.restore(key, outputDir)) {
+            List<File> files = newGenerator(configurator).opts(configurator.toClientOptInput()).generate();
+            cache.store(key, outputDir, files);
+        }
+    }
+
+    private DefaultGenerator newGenerator(CodegenConfigurator configurator) {
+        DefaultGenerator generator = new DefaultGenerator();
+        if (templateCache != null && isEmpty(configurator.getTemplateDir())
+                && !configurator.getAdditionalProperties().containsKey(CodegenConstants.TEMPLATE_DIR)) {
+            generator.setTemplateCache(templateCache);
+        }
+        return generator;
+    }
+
+    private void resolvePaths() {
+        if (isEmpty(output) && isEmpty(configFile)) {
+            output = workingDirectory.getAbsolutePath();
+        }
+        output = resolve(output);
+        configFile = resolve(configFile);
+        templateDir = resolve(templateDir);
+        ignoreFileOverride = resolve(ignoreFileOverride);
+        generationCacheDir = resolve(generationCacheDir);
+        profile = resolve(profile);
+        spec = resolveSpec(spec);
+    }
+
+    /**
+     * Reads the config file with its relative paths resolved against the working directory, the configurator
+     * would resolve them against the current directory.
+     */
+    private CodegenConfigurator readConfigFile() {
+        if (isEmpty(configFile)) {
+            return null;
+        }
+        try {
+            JsonNode node = Json.mapper().readTree(new File(configFile));
+            if (node instanceof ObjectNode) {
+                ObjectNode config = (ObjectNode) node;
+                if (!config.hasNonNull("outputDir")) {
+                    config.put("outputDir", workingDirectory.getAbsolutePath());
+                }
+                resolveField(config, "outputDir");
+                resolveField(config, "templateDir");
+                resolveField(config, "ignoreFileOverride");
+                if (config.get("inputSpec") != null && config.get("inputSpec").isTextual()) {
+                    config.put("inputSpec", resolveSpec(config.get("inputSpec").asText()));
+                }
+                if (config.get("additionalProperties") instanceof ObjectNode) {
+                    resolveField((ObjectNode) config.get("additionalProperties"), CodegenConstants.TEMPLATE_DIR);
+                }
+            }
+            return Json.mapper().treeToValue(node, CodegenConfigurator.class);
+        } catch (IOException e) {
+            LOG.error("Unable to deserialize config file: " + configFile, e);
+            return null;
+        }
+    }
+
+    private void resolveField(ObjectNode config, String field) {
+        JsonNode value = config.get(field);
+        if (value != null && value.isTextual()) {
+            config.put(field, resolve(value.asText()));
+        }
+    }
+
+    private String resolveSpec(String spec) {
+        if (spec != null && !spec.contains("://") && !spec.startsWith("file:")) {
+            return resolve(spec);
+        }
+        return spec;
+    }
+
+    private String resolve(String path) {
+        if (isEmpty(path) || new File(path).isAbsolute()) {
+            return path;
+        }
+        return new File(workingDirectory, path).getAbsolutePath();
     }
 }
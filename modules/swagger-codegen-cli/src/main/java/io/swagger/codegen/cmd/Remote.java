@@ -0,0 +1,95 @@
+package io.swagger.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thin client of the {@link Daemon}: sends a generate command along with the current directory and waits for
+ * the generation to complete.
+ */
+@Command(name = "remote", description = "Send a generate command to a running daemon, "
+        + "e.g. remote -- generate -l java -i swagger.yaml -o out")
+public class Remote implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(Remote.class);
+
+    @Option(name = {"-p", "--port"}, title = "port",
+            description = "loopback port of the daemon (" + Daemon.DEFAULT_PORT + " by default)")
+    private int port = Daemon.DEFAULT_PORT;
+
+    @Option(name = {"--token-file"}, title = "token file",
+            description = "file holding the token of the daemon (~/.swagger-codegen/daemon-<port>.token by default)")
+    private String tokenFile;
+
+    @Arguments(title = "command", required = true,
+            description = "generate command and its options, after --")
+    private List<String> command = new ArrayList<>();
+
+    @Override
+    public void run() {
+        Map<String, Object> request = new LinkedHashMap<String, Object>();
+        request.put("workingDirectory", new File("").getAbsolutePath());
+        request.put("args", command);
+
+        File file = tokenFile != null ? new File(tokenFile) : Daemon.defaultTokenFile(port);
+        String token;
+        try {
+            token = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read the token of the daemon from " + file
+                    + ", start a daemon with the daemon command", e);
+        }
+
+        JsonNode response;
+        int code;
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http", loopbackHost(), port, "/generate").openConnection();
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setRequestProperty(Daemon.TOKEN_HEADER, token);
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(Json.mapper().writeValueAsBytes(request));
+            }
+            code = connection.getResponseCode();
+            try (InputStream in = code < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                response = Json.mapper().readTree(in);
+            }
+        } catch (ConnectException e) {
+            throw new RuntimeException("No daemon listening on port " + port + ", start one with the daemon command", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not send the command to the daemon on port " + port, e);
+        }
+
+        String message = response == null ? null : response.path("message").asText(null);
+        if (code != 200) {
+            throw new RuntimeException("Daemon failed to run the command: " + message);
+        }
+        LOG.info(message + " by the daemon in " + response.path("millis").asLong() + " ms");
+    }
+
+    private static String loopbackHost() {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        return host.contains(":") ? "[" + host + "]" : host;
+    }
+}
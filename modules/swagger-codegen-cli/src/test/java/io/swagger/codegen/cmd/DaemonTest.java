@@ -0,0 +1,247 @@
+package io.swagger.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.SwaggerCodegen;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class DaemonTest {
+
+    private static final String SPEC = "{\"swagger\":\"2.0\",\"info\":{\"title\":\"Pets\",\"version\":\"1.0\"},"
+            + "\"paths\":{\"/pets\":{\"get\":{\"operationId\":\"listPets\",\"responses\":{\"200\":{\"description\":\"ok\","
+            + "\"schema\":{\"$ref\":\"#/definitions/Pet\"}}}}}},"
+            + "\"definitions\":{\"Pet\":{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}}}";
+
+    private File workingDirectory;
+    private Daemon daemon;
+    private Thread worker;
+    private int port;
+    private File tokenFile;
+    private String token;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workingDirectory = Files.createTempDirectory("daemon").toFile();
+        FileUtils.writeStringToFile(new File(workingDirectory, "api.json"), SPEC, StandardCharsets.UTF_8);
+
+        tokenFile = new File(Files.createTempDirectory("daemon-token").toFile(), "daemon.token");
+        daemon = (Daemon) SwaggerCodegen.cli().parse("daemon", "--port", "0", "--token-file", tokenFile.getPath());
+        port = daemon.start();
+        token = FileUtils.readFileToString(tokenFile, StandardCharsets.UTF_8);
+        worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    daemon.serve();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        worker.start();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        assertEquals(post("/shutdown", null).get("status").asText(), "ok");
+        worker.join(10000);
+        daemon.stop();
+        assertFalse(tokenFile.exists());
+        FileUtils.deleteDirectory(workingDirectory);
+        FileUtils.deleteDirectory(tokenFile.getParentFile());
+    }
+
+    @Test
+    public void testGeneratesRelativeToWorkingDirectory() throws Exception {
+        JsonNode response = post("/generate", request("generate", "-l", "java", "-i", "api.json", "-o", "out",
+                "-DhideGenerationTimestamp=true"));
+
+        assertEquals(response.get("status").asText(), "ok");
+        assertTrue(new File(workingDirectory, "out/pom.xml").isFile());
+        assertTrue(new File(workingDirectory, "out/src/main/java/io/swagger/client/model/Pet.java").isFile());
+        assertNull(System.getProperty("hideGenerationTimestamp"));
+
+        post("/generate", request("generate", "-l", "python", "-i", "api.json", "-o", "python"));
+        assertTrue(new File(workingDirectory, "python/swagger_client/models/pet.py").isFile());
+        assertTrue(post("/status", null).get("message").asText().startsWith("2 generation(s)"));
+    }
+
+    @Test
+    public void testResolvesConfigFileRelativeToWorkingDirectory() throws Exception {
+        assertFalse(workingDirectory.getAbsoluteFile().equals(new File("").getAbsoluteFile()));
+        assertTrue(new File(workingDirectory, "templates").mkdir());
+        FileUtils.writeStringToFile(new File(workingDirectory, "codegen-ignore"), "**/*.md\n", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(workingDirectory, "config.json"), "{\"outputDir\": \"configured\", "
+                + "\"templateDir\": \"templates\", \"ignoreFileOverride\": \"codegen-ignore\"}", StandardCharsets.UTF_8);
+
+        JsonNode response = post("/generate", request("generate", "-l", "java", "-i", "api.json", "-c", "config.json"));
+
+        assertEquals(response.get("status").asText(), "ok", response.toString());
+        assertTrue(new File(workingDirectory, "configured/pom.xml").isFile());
+        assertFalse(new File(workingDirectory, "configured/README.md").exists());
+        assertFalse(new File("configured").exists());
+
+        // without an output dir, the generation writes to the working directory like without config file
+        final File other = new File(workingDirectory, "other");
+        FileUtils.writeStringToFile(new File(other, "config.json"), "{\"modelPackage\": \"pets\"}",
+                StandardCharsets.UTF_8);
+        response = post("/generate", request(other, "generate", "-l", "java", "-i", "../api.json",
+                "-c", "config.json"));
+
+        assertEquals(response.get("status").asText(), "ok", response.toString());
+        assertTrue(new File(other, "src/main/java/pets/Pet.java").isFile());
+    }
+
+    @Test
+    public void testRejectsInvalidCommands() throws Exception {
+        JsonNode response = post("/generate", request("langs"));
+        assertEquals(response.get("status").asText(), "error");
+        assertEquals(response.get("message").asText(), "Only the generate command can be sent to the daemon");
+
+        response = post("/generate", request("generate", "-l", "java"));
+        assertEquals(response.get("status").asText(), "error");
+        assertEquals(response.get("message").asText(), "Required option '-i' is missing");
+    }
+
+    @Test
+    public void testReportsGenerationFailures() throws Exception {
+        JsonNode response = post("/generate", request("generate", "-l", "no-such-lang", "-i", "api.json"));
+        assertEquals(response.get("status").asText(), "error");
+        assertEquals(workingDirectory.list().length, 1);
+
+        response = post("/generate", request("generate", "-l", "java", "-i", "api.json", "-o", "out"));
+        assertEquals(response.get("status").asText(), "ok");
+    }
+
+    @Test
+    public void testTokenFileIsPrivate() throws Exception {
+        assertEquals(token, daemon.getToken());
+        assertEquals(token.length(), 64);
+        if (Files.getFileStore(tokenFile.toPath()).supportsFileAttributeView("posix")) {
+            assertEquals(Files.getPosixFilePermissions(tokenFile.toPath()),
+                    PosixFilePermissions.fromString("rw-------"));
+        }
+    }
+
+    @Test
+    public void testRejectsUnauthorizedRequests() throws Exception {
+        Map<String, Object> request = request("generate", "-l", "java", "-i", "api.json", "-o", "out");
+
+        assertEquals(send("/generate", request, "application/json", null), 401);
+        assertEquals(send("/generate", request, "application/json", "wrong"), 401);
+        assertEquals(send("/generate", request, "text/plain", token), 415);
+        assertEquals(sendFromPage("/generate", request), 403);
+        assertEquals(send("/shutdown", null, "application/json", null), 401);
+        assertEquals(sendFromPage("/shutdown", null), 403);
+        assertFalse(new File(workingDirectory, "out").exists());
+
+        assertEquals(send("/generate", request, "application/json", token), 200);
+        assertTrue(new File(workingDirectory, "out/pom.xml").isFile());
+    }
+
+    @Test
+    public void testRemoteSendsToken() throws Exception {
+        File output = new File(workingDirectory, "remote");
+        SwaggerCodegen.cli().parse("remote", "--port", String.valueOf(port), "--token-file", tokenFile.getPath(),
+                "--", "generate", "-l", "java", "-i", new File(workingDirectory, "api.json").getAbsolutePath(),
+                "-o", output.getAbsolutePath()).run();
+
+        assertTrue(new File(output, "pom.xml").isFile());
+    }
+
+    private Map<String, Object> request(String... args) {
+        return request(workingDirectory, args);
+    }
+
+    private Map<String, Object> request(File workingDirectory, String... args) {
+        Map<String, Object> request = new LinkedHashMap<String, Object>();
+        request.put("workingDirectory", workingDirectory.getAbsolutePath());
+        request.put("args", Arrays.asList(args));
+        return request;
+    }
+
+    private JsonNode post(String path, Map<String, Object> request) throws Exception {
+        HttpURLConnection connection = open(path, request, "application/json", token);
+        int code = connection.getResponseCode();
+        try (InputStream in = code < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return Json.mapper().readTree(in);
+        }
+    }
+
+    private int send(String path, Map<String, Object> request, String contentType, String token) throws Exception {
+        HttpURLConnection connection = open(path, request, contentType, token);
+        int code = connection.getResponseCode();
+        (code < 400 ? connection.getInputStream() : connection.getErrorStream()).close();
+        return code;
+    }
+
+    /**
+     * Sends a request with the token and an Origin header, as a browser would. HttpURLConnection doesn't allow
+     * setting the Origin header, so the request is written on a socket.
+     */
+    private int sendFromPage(String path, Map<String, Object> request) throws Exception {
+        byte[] body = request == null ? new byte[0] : Json.mapper().writeValueAsBytes(request);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            OutputStream out = socket.getOutputStream();
+            String head = "POST " + path + " HTTP/1.1\r\n"
+                    + "Host: localhost:" + port + "\r\n"
+                    + "Origin: http://example.com\r\n"
+                    + "Content-Type: application/json\r\n"
+                    + Daemon.TOKEN_HEADER + ": " + token + "\r\n"
+                    + "Content-Length: " + body.length + "\r\n"
+                    + "Connection: close\r\n\r\n";
+            out.write(head.getBytes(StandardCharsets.US_ASCII));
+            out.write(body);
+            out.flush();
+            String status = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+            return Integer.parseInt(status.split(" ")[1]);
+        }
+    }
+
+    private HttpURLConnection open(String path, Map<String, Object> request, String contentType, String token)
+            throws Exception {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), port, path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        if (path.equals("/status")) {
+            connection.setRequestMethod("GET");
+            return connection;
+        }
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", contentType);
+        if (token != null) {
+            connection.setRequestProperty(Daemon.TOKEN_HEADER, token);
+        }
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            if (request != null) {
+                out.write(Json.mapper().writeValueAsBytes(request));
+            }
+        }
+        return connection;
+    }
+}
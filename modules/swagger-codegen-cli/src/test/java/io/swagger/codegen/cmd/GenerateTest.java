@@ -2,6 +2,7 @@ package io.swagger.codegen.cmd;
 
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.GenerationProfiler;
 import io.swagger.codegen.SwaggerCodegen;
 import io.swagger.codegen.config.CodegenConfigurator;
 import mockit.Expectations;
@@ -12,6 +13,10 @@ import mockit.Verifications;
 import org.apache.commons.lang3.ArrayUtils;
 import org.testng.annotations.Test;
 
+import java.io.File;
+
+import static org.testng.Assert.assertTrue;
+
 @SuppressWarnings("unused")
 public class GenerateTest {
 
@@ -487,6 +492,57 @@ public class GenerateTest {
         };
     }
 
+    @Test
+    public void testGenerationThreads() throws Exception {
+        setupAndRunGenericTest("--generation-threads", "4");
+
+        new FullVerifications() {
+            {
+                configurator.setGenerationThreads(4);
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testIncremental() throws Exception {
+        setupAndRunGenericTest("--incremental");
+
+        new FullVerifications() {
+            {
+                configurator.setIncremental(true);
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testProfile() throws Exception {
+        final File report = new File("target/profile-report.json");
+        report.delete();
+        setupAndRunGenericTest("--profile", report.getPath());
+
+        new FullVerifications() {
+            {
+                configurator.setProfiler((GenerationProfiler) any);
+                times = 1;
+            }
+        };
+        assertTrue(report.isFile());
+    }
+
+    @Test
+    public void testGenerationCacheWithoutLocalSpec() throws Exception {
+        setupAndRunGenericTest("--generation-cache", "--generation-cache-dir", "target/cache");
+
+        new FullVerifications() {
+            {
+                configurator.getInputSpec();
+                minTimes = 1;
+            }
+        };
+    }
+
     private void setupAndRunTest(String specFlag, final String spec, String langFlag,
             final String lang, String outputDirFlag, final String outputDir,
             boolean configuratorFromFile, final String configFile, String... additionalParameters) {
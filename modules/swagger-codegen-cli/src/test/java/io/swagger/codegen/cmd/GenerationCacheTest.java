@@ -0,0 +1,69 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.SwaggerCodegen;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class GenerationCacheTest {
+
+    private static final String SPEC = "{\"swagger\":\"2.0\",\"info\":{\"title\":\"Pets\",\"version\":\"1.0\"},"
+            + "\"paths\":{},\"definitions\":{\"Pet\":{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}}}";
+
+    private static final String PET = "out/src/main/java/io/swagger/client/model/Pet.java";
+    private static final String API_CLIENT = "out/src/main/java/io/swagger/client/ApiClient.java";
+
+    private File directory;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("generation-cache").toFile();
+        FileUtils.writeStringToFile(new File(directory, "api.json"), SPEC, StandardCharsets.UTF_8);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Test
+    public void testSecondGenerationIsRestoredFromCache() throws Exception {
+        generate();
+        final File pet = new File(directory, PET);
+        final File apiClient = new File(directory, API_CLIENT);
+        final String generated = FileUtils.readFileToString(pet, StandardCharsets.UTF_8);
+        assertTrue(new File(directory, "cache").list().length > 0);
+
+        // a hit restores the deleted file and leaves the intact ones untouched
+        assertTrue(pet.delete());
+        assertTrue(apiClient.setLastModified(1000L));
+        generate();
+        assertEquals(FileUtils.readFileToString(pet, StandardCharsets.UTF_8), generated);
+        assertEquals(apiClient.lastModified(), 1000L);
+
+        // a changed input misses the cache and generates again
+        FileUtils.writeStringToFile(new File(directory, "api.json"), SPEC.replace("\"name\"", "\"nickname\""),
+                StandardCharsets.UTF_8);
+        generate();
+        assertNotEquals(apiClient.lastModified(), 1000L);
+        assertTrue(FileUtils.readFileToString(pet, StandardCharsets.UTF_8).contains("nickname"));
+    }
+
+    private void generate() {
+        SwaggerCodegen.cli().parse("generate", "-l", "java", "-i", path("api.json"), "-o", path("out"),
+                "-DhideGenerationTimestamp=true", "--generation-cache", "--generation-cache-dir", path("cache")).run();
+    }
+
+    private String path(String name) {
+        return new File(directory, name).getAbsolutePath();
+    }
+}
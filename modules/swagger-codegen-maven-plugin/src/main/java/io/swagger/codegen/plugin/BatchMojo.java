@@ -0,0 +1,108 @@
+package io.swagger.codegen.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.config.BatchGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+
+/**
+ * Goal which runs the generation jobs of a manifest, many specs and languages in one execution, see
+ * {@link BatchGenerator}.
+ */
+@Mojo(name = "batch", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class BatchMojo extends AbstractMojo {
+
+    /**
+     * JSON or YAML manifest of the generation jobs.
+     */
+    @Parameter(name = "manifest", property = "codegen.manifest", required = true)
+    private File manifest;
+
+    /**
+     * Maximum number of jobs running at the same time, defaults to the number of processors.
+     */
+    @Parameter(name = "threads", property = "codegen.threads", required = false)
+    private Integer threads;
+
+    /**
+     * Skip the execution. The manifest is not read, so the outputs of the jobs are not added as source roots either.
+     */
+    @Parameter(name = "skip", property = "codegen.skip", required = false, defaultValue = "false")
+    private Boolean skip;
+
+    /**
+     * Add the source folder of each job output to the project as a source root, when it exists.
+     */
+    @Parameter(defaultValue = "true")
+    private boolean addCompileSourceRoot = true;
+
+    /**
+     * The project being built.
+     */
+    @Parameter(readonly = true, required = true, defaultValue = "${project}")
+    private MavenProject project;
+
+    /**
+     * The current build session, which shares the parsed specs between executions.
+     */
+    @Parameter(readonly = true, defaultValue = "${session}")
+    private MavenSession session;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (Boolean.TRUE.equals(skip)) {
+            getLog().info("Code generation is skipped.");
+            return;
+        }
+
+        List<CodegenConfigurator> jobs;
+        try {
+            jobs = BatchGenerator.readManifest(manifest);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not read manifest " + manifest + ": " + e.getMessage(), e);
+        }
+
+        int poolSize = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+        List<BatchGenerator.Result> results = new BatchGenerator(poolSize, SessionSpecCache.get(session)).generate(jobs);
+
+        int failures = 0;
+        for (BatchGenerator.Result result : results) {
+            if (result.isSuccess()) {
+                getLog().info(result.toString());
+            } else {
+                getLog().error(result.toString());
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            throw new MojoExecutionException(failures + " of " + results.size()
+                    + " generation jobs failed. See above for the errors.");
+        }
+
+        addCompileSourceRoots(jobs);
+    }
+
+    private void addCompileSourceRoots(List<CodegenConfigurator> jobs) {
+        if (!addCompileSourceRoot) {
+            return;
+        }
+        for (CodegenConfigurator job : jobs) {
+            Object sourceFolder = job.getAdditionalProperties().get(CodegenConstants.SOURCE_FOLDER);
+            File sourceRoot = new File(job.getOutputDir(), sourceFolder == null ? "src/main/java" : sourceFolder.toString());
+            if (sourceRoot.isDirectory()) {
+                project.addCompileSourceRoot(sourceRoot.getPath());
+            }
+        }
+    }
+}
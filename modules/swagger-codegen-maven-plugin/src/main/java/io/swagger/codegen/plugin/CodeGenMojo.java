@@ -29,23 +29,36 @@ import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyReservedWo
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.GenerationProfiler;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.config.GenerationCache;
+import io.swagger.codegen.config.GenerationState;
+import io.swagger.util.Json;
 
 /**
  * Goal which generates client/server code from a swagger json/yaml definition.
@@ -178,6 +191,50 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "ignoreFileOverride", required = false)
     private String ignoreFileOverride;
 
+    /**
+     * Number of threads used to convert operations and render model and api files in parallel
+     */
+    @Parameter(name = "generationThreads", property = "codegen.generationThreads", required = false)
+    private Integer generationThreads;
+
+    /**
+     * Only rewrite files whose content changed since the previous generation
+     */
+    @Parameter(name = "incremental", property = "codegen.incremental", required = false)
+    private Boolean incremental;
+
+    /**
+     * Release models and apis once their files are written, supporting files only get their names and imports
+     */
+    @Parameter(name = "lowMemory", property = "codegen.lowMemory", required = false)
+    private Boolean lowMemory;
+
+    /**
+     * Report of the time spent in each generation phase and template, CSV if the file name ends with .csv
+     * and JSON otherwise
+     */
+    @Parameter(name = "profileReport", property = "codegen.profileReport", required = false)
+    private File profileReport;
+
+    /**
+     * Skip generation when the spec, templates and options are unchanged, restoring the outputs from the cache
+     */
+    @Parameter(name = "generationCache", property = "codegen.generationCache", required = false)
+    private Boolean generationCache;
+
+    /**
+     * Directory of the generation cache, defaults to ~/.swagger-codegen/cache
+     */
+    @Parameter(name = "generationCacheDirectory", property = "codegen.generationCacheDirectory", required = false)
+    private File generationCacheDirectory;
+
+    /**
+     * Skip generation when its inputs are unchanged since the last generation of this execution: the spec and the
+     * files it references, the templates, the configuration file, the parameters and the plugin
+     */
+    @Parameter(name = "skipIfUpToDate", property = "codegen.skipIfUpToDate", defaultValue = "true")
+    private boolean skipIfUpToDate = true;
+
     /**
      * A map of language-specific parameters as passed with the -c option to the command line
      */
@@ -299,9 +356,6 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter
     protected Map<String, String> environmentVariables = new HashMap<String, String>();
 
-    @Parameter
-    protected Map<String, String> originalEnvironmentVariables = new HashMap<String, String>();
-
     @Parameter
     private boolean configHelp = false;
 
@@ -311,14 +365,26 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(readonly = true, required = true, defaultValue = "${project}")
     private MavenProject project;
 
+    /**
+     * The current build session, which shares the parsed specs between executions.
+     */
+    @Parameter(readonly = true, defaultValue = "${session}")
+    private MavenSession session;
+
+    @Parameter(readonly = true, defaultValue = "${mojoExecution}")
+    private MojoExecution mojoExecution;
+
+    @Parameter(readonly = true, defaultValue = "${plugin}")
+    private PluginDescriptor plugin;
+
+    @Component
+    private BuildContext buildContext;
+
 
 
     @Override
     public void execute() throws MojoExecutionException {
-        // Using the naive approach for achieving thread safety
-        synchronized (CodeGenMojo.class) {
-            execute_();
-        }
+        execute_();
     }
 
     protected void execute_() throws MojoExecutionException {
@@ -409,34 +475,42 @@ public class CodeGenMojo extends AbstractMojo {
             configurator.setModelNameSuffix(modelNameSuffix);
         }
 
-        if (null != templateDirectory) {
-            configurator.setTemplateDir(templateDirectory.getAbsolutePath());
+        if (null != generationThreads) {
+            configurator.setGenerationThreads(generationThreads);
+        }
+
+        if (null != incremental) {
+            configurator.setIncremental(incremental);
         }
 
-        // Set generation options
-        if (null != generateApis && generateApis) {
-            System.setProperty(CodegenConstants.APIS, "");
-        } else {
-            System.clearProperty(CodegenConstants.APIS);
+        if (null != lowMemory) {
+            configurator.setLowMemory(lowMemory);
         }
 
-        if (null != generateModels && generateModels) {
-            System.setProperty(CodegenConstants.MODELS, modelsToGenerate);
-        } else {
-            System.clearProperty(CodegenConstants.MODELS);
+        if (null != profileReport) {
+            configurator.setProfiler(new GenerationProfiler());
         }
 
-        if (null != generateSupportingFiles && generateSupportingFiles) {
-            System.setProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesToGenerate);
-        } else {
-            System.clearProperty(CodegenConstants.SUPPORTING_FILES);
+        if (null != templateDirectory) {
+            configurator.setTemplateDir(templateDirectory.getAbsolutePath());
         }
 
-        System.setProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
-        System.setProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
-        System.setProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
-        System.setProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
-        System.setProperty(CodegenConstants.WITH_XML, withXml.toString());
+        // Set generation options, on the generation rather than on the JVM so that executions can run in
+        // parallel. A null value hides the system property of the JVM.
+        configurator.addSystemProperty(CodegenConstants.APIS,
+                null != generateApis && generateApis ? "" : null);
+        configurator.addSystemProperty(CodegenConstants.MODELS,
+                null != generateModels && generateModels ? modelsToGenerate : null);
+        configurator.addSystemProperty(CodegenConstants.SUPPORTING_FILES,
+                null != generateSupportingFiles && generateSupportingFiles ? supportingFilesToGenerate : null);
+
+        configurator.addSystemProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
+        configurator.addSystemProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
+        configurator.addSystemProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
+        configurator.addSystemProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
+        if (withXml) {
+            configurator.addSystemProperty(CodegenConstants.WITH_XML, withXml.toString());
+        }
 
         if (configOptions != null) {
             // Retained for backwards-compataibility with configOptions -> instantiation-types
@@ -508,17 +582,63 @@ public class CodeGenMojo extends AbstractMojo {
         if (environmentVariables != null) {
 
             for (String key : environmentVariables.keySet()) {
-                originalEnvironmentVariables.put(key, System.getProperty(key));
                 String value = environmentVariables.get(key);
                 if (value == null) {
                     // don't put null values
                     value = "";
                 }
-                System.setProperty(key, value);
                 configurator.addSystemProperty(key, value);
             }
         }
 
+        GenerationState state = null;
+        String stateKey = null;
+        CodegenConfigurator stateConfigurator = null;
+        if (skipIfUpToDate && !configHelp) {
+            state = new GenerationState(stateFile());
+            try {
+                String inputFilesHash = null;
+                if (buildContext.isIncremental()) {
+                    List<File> inputs = GenerationCache.inputFiles(configurator);
+                    if (inputs != null && !hasDelta(inputs)) {
+                        // none of the files changed since the last run, its hash is used instead of reading them
+                        inputFilesHash = state.inputFilesHash();
+                    }
+                }
+                if (inputFilesHash == null) {
+                    inputFilesHash = GenerationCache.inputFilesHash(configurator);
+                }
+                stateKey = GenerationCache.inputsKey(configurator, stateInputs(), inputFilesHash);
+                // generating sets additional properties on the configurator, the next build compares with a new one
+                stateConfigurator = Json.mapper().convertValue(configurator, CodegenConfigurator.class);
+            } catch (IOException e) {
+                getLog().warn("Unable to read the inputs of the generation, generating", e);
+            }
+            if (state.isUpToDate(stateKey)) {
+                getLog().info("Code generation is up to date.");
+                addCompileSourceRootIfConfigured();
+                return;
+            }
+        }
+
+        GenerationCache cache = null;
+        String cacheKey = null;
+        if (Boolean.TRUE.equals(generationCache) && !configHelp) {
+            cache = new GenerationCache(generationCacheDirectory != null ? generationCacheDirectory
+                    : GenerationCache.defaultDirectory());
+            try {
+                cacheKey = cache.key(configurator, configOptions);
+            } catch (IOException e) {
+                getLog().warn("Unable to compute generation cache key, generating without cache", e);
+            }
+            if (cacheKey != null && cache.restore(cacheKey, new File(configurator.getOutputDir()))) {
+                getLog().info("Code generation is up to date.");
+                addCompileSourceRootIfConfigured();
+                return;
+            }
+        }
+
+        configurator.setSpecCache(SessionSpecCache.get(session));
         final ClientOptInput input = configurator.toClientOptInput();
         final CodegenConfig config = input.getConfig();
 
@@ -541,7 +661,25 @@ public class CodeGenMojo extends AbstractMojo {
             return;
         }
         try {
-            new DefaultGenerator().opts(input).generate();
+            List<File> files = new DefaultGenerator().opts(input).generate();
+            if (cacheKey != null) {
+                cache.store(cacheKey, new File(configurator.getOutputDir()), files);
+            }
+            if (state != null) {
+                // the first generation writes the ignore file, which is an input of the next ones
+                String inputFilesHash = null;
+                String key = null;
+                if (stateConfigurator != null) {
+                    inputFilesHash = GenerationCache.inputFilesHash(stateConfigurator);
+                    key = GenerationCache.inputsKey(stateConfigurator, stateInputs(), inputFilesHash);
+                }
+                state.save(key, inputFilesHash, files);
+            }
+            buildContext.refresh(output);
+            if (null != profileReport) {
+                configurator.getProfiler().writeReport(profileReport);
+                getLog().info("Profile report written to " + profileReport);
+            }
         } catch (Exception e) {
             // Maven logs exceptions thrown by plugins only if invoked with -e
             // I find it annoying to jump through hoops to get basic diagnostic information,
@@ -554,6 +692,48 @@ public class CodeGenMojo extends AbstractMojo {
         addCompileSourceRootIfConfigured();
     }
 
+    private File stateFile() {
+        String execution = mojoExecution != null ? mojoExecution.getExecutionId() : "default";
+        return new File(project.getBuild().getDirectory(),
+                "swagger-codegen" + File.separator + execution.replaceAll("[^A-Za-z0-9._-]", "_") + ".state");
+    }
+
+    /**
+     * @return inputs of the generation which are not part of the configurator
+     */
+    private Map<String, Object> stateInputs() {
+        Map<String, Object> inputs = new LinkedHashMap<String, Object>();
+        inputs.put("configOptions", configOptions);
+        inputs.put("configurationFile", configurationFile);
+        if (plugin != null) {
+            // snapshots and custom generators change without a version change
+            List<String> classpath = new ArrayList<String>();
+            List<Artifact> artifacts = new ArrayList<Artifact>(plugin.getArtifacts());
+            artifacts.add(plugin.getPluginArtifact());
+            for (Artifact artifact : artifacts) {
+                File file = artifact == null ? null : artifact.getFile();
+                if (file != null) {
+                    classpath.add(file.getAbsolutePath() + " " + file.length() + " " + file.lastModified());
+                }
+            }
+            inputs.put("plugin", plugin.getId());
+            inputs.put("pluginClasspath", classpath);
+        }
+        return inputs;
+    }
+
+    private boolean hasDelta(List<File> inputs) {
+        if (configurationFile != null && buildContext.hasDelta(new File(configurationFile))) {
+            return true;
+        }
+        for (File input : inputs) {
+            if (buildContext.hasDelta(input)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void addCompileSourceRootIfConfigured() {
         if (addCompileSourceRoot) {
             final Object sourceFolderObject =
@@ -565,16 +745,5 @@ public class CodeGenMojo extends AbstractMojo {
             String sourceJavaFolder = output.toString() + "/" + sourceFolder;
             project.addCompileSourceRoot(sourceJavaFolder);
         }
-
-        // Reset all environment variables to their original value. This prevents unexpected
-        // behaviour
-        // when running the plugin multiple consecutive times with different configurations.
-        for (Map.Entry<String, String> entry : originalEnvironmentVariables.entrySet()) {
-            if (entry.getValue() == null) {
-                System.clearProperty(entry.getKey());
-            } else {
-                System.setProperty(entry.getKey(), entry.getValue());
-            }
-        }
     }
 }
@@ -0,0 +1,40 @@
+package io.swagger.codegen.plugin;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.SessionData;
+
+import io.swagger.codegen.config.SpecDocumentCache;
+
+/**
+ * Spec documents shared by the executions of the plugin in a Maven session, across modules. The cache is kept in
+ * the data of the repository session, which the project sessions of a parallel build ({@code mvn -T}) share, and
+ * is released with it.
+ */
+final class SessionSpecCache {
+
+    // the class of the plugin realm, so that two versions of the plugin in a build don't share caches
+    private static final Object KEY = SpecDocumentCache.class;
+
+    private SessionSpecCache() {
+    }
+
+    /**
+     * @param session current session, may be null outside of a build
+     * @return the spec cache of the session
+     */
+    static SpecDocumentCache get(MavenSession session) {
+        if (session == null || session.getRepositorySession() == null) {
+            return new SpecDocumentCache();
+        }
+        SessionData data = session.getRepositorySession().getData();
+        Object cache = data.get(KEY);
+        while (!(cache instanceof SpecDocumentCache)) {
+            SpecDocumentCache created = new SpecDocumentCache();
+            if (data.set(KEY, cache, created)) {
+                return created;
+            }
+            cache = data.get(KEY);
+        }
+        return (SpecDocumentCache) cache;
+    }
+}
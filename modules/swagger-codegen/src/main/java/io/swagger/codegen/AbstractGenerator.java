@@ -1,15 +1,12 @@
 package io.swagger.codegen;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
-import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 import java.util.regex.Pattern;
 
@@ -20,21 +17,15 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
 
-    @SuppressWarnings("static-method")
     public File writeToFile(String filename, String contents) throws IOException {
-        LOGGER.info("writing file " + filename);
-        File output = new File(filename);
-
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = new File(output.getParent());
-            parent.mkdirs();
-        }
-        Writer out = new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(output), "UTF-8"));
+        return writeToFile(filename, contents.getBytes(StandardCharsets.UTF_8));
+    }
 
-        out.write(contents);
-        out.close();
-        return output;
+    @SuppressWarnings("static-method")
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        LOGGER.info("writing file " + filename);
+        new FileGeneratorOutput().write(filename, contents);
+        return new File(filename);
     }
 
     public String readTemplate(String name) {
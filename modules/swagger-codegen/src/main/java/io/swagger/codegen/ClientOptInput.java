@@ -5,13 +5,21 @@ import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ClientOptInput {
     private CodegenConfig config;
     private ClientOpts opts;
     private Swagger swagger;
     private List<AuthorizationValue> auths;
+    private int generationThreads = 1;
+    private boolean incremental;
+    private boolean lowMemory;
+    private GenerationProfiler profiler;
+    private GeneratorOutput output;
+    private Map<String, String> systemProperties = new HashMap<String, String>();
 
     public ClientOptInput swagger(Swagger swagger) {
         this.setSwagger(swagger);
@@ -28,6 +36,36 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput generationThreads(int generationThreads) {
+        this.setGenerationThreads(generationThreads);
+        return this;
+    }
+
+    public ClientOptInput incremental(boolean incremental) {
+        this.setIncremental(incremental);
+        return this;
+    }
+
+    public ClientOptInput lowMemory(boolean lowMemory) {
+        this.setLowMemory(lowMemory);
+        return this;
+    }
+
+    public ClientOptInput profiler(GenerationProfiler profiler) {
+        this.setProfiler(profiler);
+        return this;
+    }
+
+    public ClientOptInput output(GeneratorOutput output) {
+        this.setOutput(output);
+        return this;
+    }
+
+    public ClientOptInput systemProperties(Map<String, String> systemProperties) {
+        this.setSystemProperties(systemProperties);
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -73,4 +111,56 @@ public class ClientOptInput {
     public void setSwagger(Swagger swagger) {
         this.swagger = swagger;
     }
-}
\ No newline at end of file
+
+    public int getGenerationThreads() {
+        return generationThreads;
+    }
+
+    public void setGenerationThreads(int generationThreads) {
+        this.generationThreads = generationThreads;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public boolean isLowMemory() {
+        return lowMemory;
+    }
+
+    public void setLowMemory(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+    }
+
+    public GeneratorOutput getOutput() {
+        return output;
+    }
+
+    public void setOutput(GeneratorOutput output) {
+        this.output = output;
+    }
+
+    public GenerationProfiler getProfiler() {
+        return profiler;
+    }
+
+    public void setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * @return switches of the generation such as models, apis or supportingFiles, which take precedence over the
+     * JVM system properties of the same name, see {@link DefaultCodegen#getSystemProperty(String)}
+     */
+    public Map<String, String> getSystemProperties() {
+        return systemProperties;
+    }
+
+    public void setSystemProperties(Map<String, String> systemProperties) {
+        this.systemProperties = systemProperties;
+    }
+}
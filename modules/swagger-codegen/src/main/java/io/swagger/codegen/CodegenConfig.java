@@ -1,5 +1,6 @@
 package io.swagger.codegen;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -79,6 +80,16 @@ public interface CodegenConfig {
 
     List<SupportingFile> supportingFiles();
 
+    /**
+     * Files computed by the generator rather than rendered from a template, e.g. the spec itself, keyed by their
+     * path relative to the output folder. They are written through the generator output after processSwagger.
+     *
+     * @return the files to write, emptied once written
+     */
+    default Map<String, String> generatedFiles() {
+        return Collections.emptyMap();
+    }
+
     String getInputSpec();
 
     void setInputSpec(String inputSpec);
@@ -155,6 +166,8 @@ public interface CodegenConfig {
 
     Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels);
 
+    Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels, CodegenModelRegistry modelRegistry);
+
     Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs);
 
     void postProcessModelProperty(CodegenModel model, CodegenProperty property);
@@ -234,4 +247,49 @@ public interface CodegenConfig {
 
     boolean defaultIgnoreImportMappingOption();
 
+    /**
+     * @return whether names are memoized, never for configs which don't support it
+     */
+    default boolean isNameCacheEnabled() {
+        return false;
+    }
+
+    /**
+     * Enables memoization of names once the options are processed, ignored by configs which don't support it.
+     *
+     * @param nameCacheEnabled whether names are memoized
+     */
+    default void setNameCacheEnabled(boolean nameCacheEnabled) {
+    }
+
+    /**
+     * Sets the system properties of the generation, ignored by configs which only read JVM system properties.
+     *
+     * @param systemProperties properties of the generation
+     */
+    default void setSystemProperties(Map<String, String> systemProperties) {
+    }
+
+    /**
+     * Looks up a system property of the generation.
+     *
+     * @param name name of the property
+     * @return the value of the property, the JVM system property for configs which don't carry their own
+     */
+    default String getSystemProperty(String name) {
+        return System.getProperty(name);
+    }
+
+    /**
+     * Tells whether operations can be converted concurrently when the generation uses several threads. Generators
+     * keeping state across calls of fromOperation, such as counters or maps of the operations seen so far, must
+     * not opt in, so that their operations are converted one after the other, in order. The examples of operations
+     * converted concurrently are only generated once all of them are converted.
+     *
+     * @return true if fromOperation can be called from several threads at once, false by default
+     */
+    default boolean isParallelOperationsSupported() {
+        return false;
+    }
+
 }
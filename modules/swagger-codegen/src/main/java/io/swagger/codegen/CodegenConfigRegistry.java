@@ -0,0 +1,152 @@
+package io.swagger.codegen;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Index of the available {@link CodegenConfig} implementations, built once per class loader.
+ *
+ * Service providers are discovered lazily: a lookup scans the {@link ServiceLoader} only until the requested
+ * name is found, and remembers every config seen on the way. Afterwards a name resolves to its class directly,
+ * so a new config only runs its own constructor.
+ *
+ * Configs hold per-generation state, which is why {@link #newInstance(String)} always returns a new instance.
+ * Read-only use (listing names, tags or cli options) can share the instance returned by {@link #getPrototype(String)}.
+ *
+ * A registry references its class loader and the configs loaded by it. The registry of the class loader of this
+ * class is kept for the lifetime of the class, the registries of other class loaders (plugin or web application
+ * class loaders) are only weakly reachable so that they do not keep their class loader from being collected.
+ */
+public class CodegenConfigRegistry {
+    private static final Map<ClassLoader, WeakReference<CodegenConfigRegistry>> REGISTRIES =
+            new WeakHashMap<ClassLoader, WeakReference<CodegenConfigRegistry>>();
+    private static CodegenConfigRegistry defaultRegistry;
+
+    private final Iterator<CodegenConfig> providers;
+    private final Map<String, CodegenConfig> prototypes = new LinkedHashMap<String, CodegenConfig>();
+    private final Map<String, Class<? extends CodegenConfig>> classes = new LinkedHashMap<String, Class<? extends CodegenConfig>>();
+    private boolean complete;
+
+    public CodegenConfigRegistry(ClassLoader classLoader) {
+        this.providers = ServiceLoader.load(CodegenConfig.class, classLoader).iterator();
+    }
+
+    /**
+     * @return the registry of the context class loader of the current thread
+     */
+    public static CodegenConfigRegistry getInstance() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = CodegenConfigRegistry.class.getClassLoader();
+        }
+        synchronized (REGISTRIES) {
+            if (classLoader == CodegenConfigRegistry.class.getClassLoader()) {
+                if (defaultRegistry == null) {
+                    defaultRegistry = new CodegenConfigRegistry(classLoader);
+                }
+                return defaultRegistry;
+            }
+            WeakReference<CodegenConfigRegistry> reference = REGISTRIES.get(classLoader);
+            CodegenConfigRegistry registry = reference == null ? null : reference.get();
+            if (registry == null) {
+                registry = new CodegenConfigRegistry(classLoader);
+                REGISTRIES.put(classLoader, new WeakReference<CodegenConfigRegistry>(registry));
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Creates a new config by name, or by fully qualified class name if no service provider has this name.
+     *
+     * @param name name of config, or full qualified class name in classpath
+     * @return new config instance
+     * @throws RuntimeException if no such config exists
+     */
+    public CodegenConfig newInstance(String name) {
+        Class<? extends CodegenConfig> configClass = getConfigClass(name);
+        try {
+            if (configClass == null) {
+                configClass = Class.forName(name).asSubclass(CodegenConfig.class);
+            }
+            return configClass.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Can't load config class with name ".concat(name) + " Available: " + availableNames(), e);
+        }
+    }
+
+    /**
+     * Returns a shared instance of a service provided config. It must not be modified or used for generation.
+     *
+     * @param name name of config
+     * @return shared config instance, or null if no service provider has this name
+     */
+    public synchronized CodegenConfig getPrototype(String name) {
+        if (!prototypes.containsKey(name)) {
+            scan(name);
+        }
+        return prototypes.get(name);
+    }
+
+    /**
+     * @return shared instances of all service provided configs, in service loader order
+     */
+    public synchronized List<CodegenConfig> getPrototypes() {
+        scan(null);
+        return Collections.unmodifiableList(new ArrayList<CodegenConfig>(prototypes.values()));
+    }
+
+    /**
+     * @return names of all service provided configs, in service loader order
+     */
+    public synchronized Set<String> getNames() {
+        scan(null);
+        return Collections.unmodifiableSet(new LinkedHashSet<String>(prototypes.keySet()));
+    }
+
+    private synchronized Class<? extends CodegenConfig> getConfigClass(String name) {
+        if (!classes.containsKey(name)) {
+            scan(name);
+        }
+        return classes.get(name);
+    }
+
+    /**
+     * Loads service providers until one with the given name is found, or all of them if name is null.
+     */
+    private void scan(String name) {
+        while (!complete) {
+            if (!providers.hasNext()) {
+                complete = true;
+                break;
+            }
+            CodegenConfig config = providers.next();
+            String configName = config.getName();
+            if (!prototypes.containsKey(configName)) {
+                prototypes.put(configName, config);
+                classes.put(configName, config.getClass());
+            }
+            if (configName.equals(name)) {
+                break;
+            }
+        }
+    }
+
+    private synchronized String availableNames() {
+        scan(null);
+        StringBuilder availableConfigs = new StringBuilder();
+        for (String name : prototypes.keySet()) {
+            availableConfigs.append(name).append("\n");
+        }
+        return availableConfigs.toString();
+    }
+}
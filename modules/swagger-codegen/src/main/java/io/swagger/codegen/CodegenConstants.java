@@ -236,4 +236,28 @@ public class CodegenConstants {
     public static final String INTERFACE_CONTROLLER = "interface-controller";
 
     public static final String IGNORE_IMPORT_MAPPING_OPTION = "ignoreImportMappings";
+
+    public static final String GENERATION_THREADS = "generationThreads";
+    public static final String GENERATION_THREADS_DESC = "Number of threads used to convert operations and render model and api files in parallel. Defaults to 1 (serial generation).";
+
+    public static final String INCREMENTAL = "incremental";
+    public static final String INCREMENTAL_DESC = "Only rewrite files whose content changed, tracking generated files in .swagger-codegen/MANIFEST. Models and apis whose schemas are unchanged are not rendered again.";
+
+    public static final String LOW_MEMORY = "lowMemory";
+    public static final String LOW_MEMORY_DESC = "Release models and apis once their files are written, lowering the memory needed for very large specs. Supporting files only get a summary of the models and operations (names, class names, paths and imports), those showing parameters or properties are incomplete.";
+
+    public static final String PROFILE = "profile";
+    public static final String PROFILE_DESC = "Write the time spent in each generation phase and template, and the memory allocated meanwhile, to the given report file (CSV if it ends with .csv, JSON otherwise).";
+
+    public static final String GENERATION_CACHE = "generationCache";
+    public static final String GENERATION_CACHE_DESC = "Skip generation when the spec, templates and options are unchanged, restoring the outputs of the previous generation from the cache.";
+
+    public static final String GENERATION_CACHE_DIR = "generationCacheDir";
+    public static final String GENERATION_CACHE_DIR_DESC = "Directory of the generation cache, defaults to ~/.swagger-codegen/cache.";
+
+    public static final String BATCH_MANIFEST = "manifest";
+    public static final String BATCH_MANIFEST_DESC = "JSON or YAML manifest of the generation jobs: a jobs list of configuration objects (inputSpec, lang, outputDir and any option of the -c config file), with optional shared defaults. A job whose lang is a list is run for each language, {lang} being replaced in its outputDir. Relative paths are resolved against the manifest directory.";
+
+    public static final String BATCH_THREADS = "threads";
+    public static final String BATCH_THREADS_DESC = "Maximum number of generation jobs running at the same time, defaults to the number of processors.";
 }
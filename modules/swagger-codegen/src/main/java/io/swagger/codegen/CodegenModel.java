@@ -8,6 +8,7 @@ import java.util.TreeSet;
 import java.util.Objects;
 
 import io.swagger.models.ExternalDocs;
+import io.swagger.util.Json;
 
 public class CodegenModel {
     public String parent, parentSchema;
@@ -18,7 +19,7 @@ public class CodegenModel {
     public List<CodegenModel> interfaceModels;
     public List<CodegenModel> children;
 
-    public String name, classname, title, description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    public String name, classname, title, description, classVarName, dataType, xmlPrefix, xmlNamespace, xmlName;
     public String classFilename; // store the class file name, mainly used for import
     public String unescapedDescription;
     public String discriminator, discriminatorClassVarName;
@@ -49,6 +50,9 @@ public class CodegenModel {
     //The type of the value from additional properties. Used in map like objects.
     public String additionalPropertiesType;
 
+    private String modelJson;
+    private Object modelJsonSource;
+
     {
         // By default these are the same collections. Where the code generator supports inheritance, composed models
         // store the complete closure of owned and inherited properties in allVars and allMandatory.
@@ -56,6 +60,80 @@ public class CodegenModel {
         allMandatory = mandatory;
     }
 
+    /**
+     * @return the model as json, rendered from the spec model on first use
+     */
+    public String getModelJson() {
+        if (modelJson == null && modelJsonSource != null) {
+            // NOTE: not using Json.pretty() to write out model, as it
+            // can raise memory consumption (see comment in ExampleGenerator)
+            try {
+                modelJson = Json.mapper().writeValueAsString(modelJsonSource);
+            } catch (Exception e) {
+                modelJson = "{}";
+            }
+        }
+        return modelJson;
+    }
+
+    /**
+     * @param modelJsonSource spec model rendered by {@link #getModelJson()}, replaces a previously set model json
+     */
+    public void setModelJsonSource(Object modelJsonSource) {
+        this.modelJsonSource = modelJsonSource;
+        this.modelJson = null;
+    }
+
+    /**
+     * @param modelJson model json, replaces the spec model set by {@link #setModelJsonSource(Object)}
+     */
+    public void setModelJson(String modelJson) {
+        this.modelJson = modelJson;
+        this.modelJsonSource = null;
+    }
+
+    // compares the spec model rather than rendering it, unless the json was set directly
+    private boolean modelJsonEquals(CodegenModel other) {
+        if (modelJsonSource != null || other.modelJsonSource != null) {
+            return Objects.equals(modelJsonSource, other.modelJsonSource);
+        }
+        return Objects.equals(modelJson, other.modelJson);
+    }
+
+    private int modelJsonHashCode() {
+        return modelJsonSource != null ? modelJsonSource.hashCode() : Objects.hashCode(modelJson);
+    }
+
+    /**
+     * @return a copy holding the names, parent, imports and flags of the model, without its properties and
+     * without references to other models
+     */
+    public CodegenModel copySummary() {
+        CodegenModel output = new CodegenModel();
+        output.name = this.name;
+        output.classname = this.classname;
+        output.classVarName = this.classVarName;
+        output.classFilename = this.classFilename;
+        output.title = this.title;
+        output.description = this.description;
+        output.unescapedDescription = this.unescapedDescription;
+        output.dataType = this.dataType;
+        output.parent = this.parent;
+        output.parentSchema = this.parentSchema;
+        output.interfaces = this.interfaces;
+        output.discriminator = this.discriminator;
+        output.isAlias = this.isAlias;
+        output.isEnum = this.isEnum;
+        output.isArrayModel = this.isArrayModel;
+        output.hasEnums = this.hasEnums;
+        output.hasChildren = this.hasChildren;
+        output.hasMoreModels = this.hasMoreModels;
+        output.imports = this.imports;
+        output.externalDocs = this.externalDocs;
+        output.vendorExtensions = this.vendorExtensions;
+        return output;
+    }
+
     public boolean getIsInteger() {
         return "Integer".equalsIgnoreCase(this.dataType);
     }
@@ -96,7 +174,7 @@ public class CodegenModel {
             return false;
         if (classVarName != null ? !classVarName.equals(that.classVarName) : that.classVarName != null)
             return false;
-        if (modelJson != null ? !modelJson.equals(that.modelJson) : that.modelJson != null)
+        if (!modelJsonEquals(that))
             return false;
         if (dataType != null ? !dataType.equals(that.dataType) : that.dataType != null)
             return false;
@@ -164,7 +242,7 @@ public class CodegenModel {
         result = 31 * result + (title != null ? title.hashCode() : 0);
         result = 31 * result + (description != null ? description.hashCode() : 0);
         result = 31 * result + (classVarName != null ? classVarName.hashCode() : 0);
-        result = 31 * result + (modelJson != null ? modelJson.hashCode() : 0);
+        result = 31 * result + modelJsonHashCode();
         result = 31 * result + (dataType != null ? dataType.hashCode() : 0);
         result = 31 * result + (xmlPrefix != null ? xmlPrefix.hashCode() : 0);
         result = 31 * result + (xmlNamespace != null ? xmlNamespace.hashCode() : 0);
@@ -0,0 +1,144 @@
+package io.swagger.codegen;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only index of the models of a generation, built once the models are processed and handed to the
+ * post-processing hooks along with the untyped model list.
+ *
+ * The index reflects the names, parents and discriminators of the models at the time it was built. Where
+ * several models share a name or classname, the last one wins, like in a map filled in model order.
+ */
+public class CodegenModelRegistry {
+    private final List<CodegenModel> models;
+    private final Map<String, CodegenModel> byName = new LinkedHashMap<String, CodegenModel>();
+    private final Map<String, CodegenModel> byClassname = new LinkedHashMap<String, CodegenModel>();
+    private final Map<String, List<CodegenModel>> byParent = new LinkedHashMap<String, List<CodegenModel>>();
+    private final Map<String, List<CodegenModel>> byDiscriminator = new LinkedHashMap<String, List<CodegenModel>>();
+
+    public CodegenModelRegistry(Collection<CodegenModel> models) {
+        this.models = Collections.unmodifiableList(new ArrayList<CodegenModel>(models));
+        for (CodegenModel model : this.models) {
+            if (model.name != null) {
+                byName.put(model.name, model);
+            }
+            if (model.classname != null) {
+                byClassname.put(model.classname, model);
+            }
+            if (model.parent != null) {
+                add(byParent, model.parent, model);
+            }
+            if (model.discriminator != null) {
+                add(byDiscriminator, model.discriminator, model);
+            }
+        }
+    }
+
+    /**
+     * @param allModels models as passed to the api and supporting file templates, maps holding the model
+     *                  under "model"
+     * @return registry of the models
+     */
+    public static CodegenModelRegistry fromModelList(List<?> allModels) {
+        List<CodegenModel> models = new ArrayList<CodegenModel>(allModels.size());
+        for (Object entry : allModels) {
+            addModel(models, entry);
+        }
+        return new CodegenModelRegistry(models);
+    }
+
+    /**
+     * @param processedModels models by name as passed to {@link CodegenConfig#postProcessAllModels(Map)}
+     * @return registry of the models
+     */
+    public static CodegenModelRegistry fromProcessedModels(Map<String, Object> processedModels) {
+        List<CodegenModel> models = new ArrayList<CodegenModel>(processedModels.size());
+        for (Object value : processedModels.values()) {
+            Object list = value instanceof Map ? ((Map<?, ?>) value).get("models") : null;
+            if (list instanceof List) {
+                for (Object entry : (List<?>) list) {
+                    addModel(models, entry);
+                }
+            }
+        }
+        return new CodegenModelRegistry(models);
+    }
+
+    /**
+     * @return all models, in generation order
+     */
+    public List<CodegenModel> getModels() {
+        return models;
+    }
+
+    /**
+     * @return models by class name
+     */
+    public Map<String, CodegenModel> getModelsByClassname() {
+        return Collections.unmodifiableMap(byClassname);
+    }
+
+    /**
+     * @param name model name in the spec
+     * @return the model, or null if there is none
+     */
+    public CodegenModel get(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * @param classname generated class name
+     * @return the model, or null if there is none
+     */
+    public CodegenModel getByClassname(String classname) {
+        return byClassname.get(classname);
+    }
+
+    /**
+     * @param parent class name of the parent model
+     * @return models extending the parent, in generation order
+     */
+    public List<CodegenModel> getChildren(String parent) {
+        return unmodifiable(byParent.get(parent));
+    }
+
+    /**
+     * @param discriminator discriminator property name
+     * @return models using the discriminator, in generation order
+     */
+    public List<CodegenModel> getByDiscriminator(String discriminator) {
+        return unmodifiable(byDiscriminator.get(discriminator));
+    }
+
+    public int size() {
+        return models.size();
+    }
+
+    private static void addModel(List<CodegenModel> models, Object entry) {
+        Object model = entry instanceof Map ? ((Map<?, ?>) entry).get("model") : null;
+        if (model instanceof CodegenModel) {
+            models.add((CodegenModel) model);
+        }
+    }
+
+    private static void add(Map<String, List<CodegenModel>> index, String key, CodegenModel model) {
+        List<CodegenModel> models = index.get(key);
+        if (models == null) {
+            models = new ArrayList<CodegenModel>();
+            index.put(key, models);
+        }
+        models.add(model);
+    }
+
+    private static List<CodegenModel> unmodifiable(List<CodegenModel> models) {
+        if (models == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(models);
+    }
+}
@@ -204,6 +204,34 @@ public class CodegenOperation {
         return ("/{" + id + "}").equals(pathWithoutBaseName());
     }
 
+    /**
+     * @return a copy holding the names, path, method and imports of the operation, without its parameters
+     * and responses
+     */
+    public CodegenOperation copySummary() {
+        CodegenOperation output = new CodegenOperation();
+        output.path = this.path;
+        output.httpMethod = this.httpMethod;
+        output.operationId = this.operationId;
+        output.operationIdOriginal = this.operationIdOriginal;
+        output.operationIdLowerCase = this.operationIdLowerCase;
+        output.operationIdCamelCase = this.operationIdCamelCase;
+        output.operationIdSnakeCase = this.operationIdSnakeCase;
+        output.nickname = this.nickname;
+        output.baseName = this.baseName;
+        output.summary = this.summary;
+        output.returnType = this.returnType;
+        output.returnBaseType = this.returnBaseType;
+        output.returnContainer = this.returnContainer;
+        output.isDeprecated = this.isDeprecated;
+        output.hasMore = this.hasMore;
+        output.tags = this.tags;
+        output.imports = this.imports;
+        output.externalDocs = this.externalDocs;
+        output.vendorExtensions = this.vendorExtensions;
+        return output;
+    }
+
     @Override
     public String toString() {
         return String.format("%s(%s)", baseName, path);
@@ -1,6 +1,9 @@
 package io.swagger.codegen;
 
+import io.swagger.util.Json;
+
 import java.util.ArrayList;
+import java.util.Objects;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
@@ -14,7 +17,8 @@ public class CodegenParameter {
 
     public String example; // example value (x-example)
     public String testExample;
-    public String jsonSchema;
+    private String jsonSchema;
+    private Object jsonSchemaSource;
     public boolean isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBinary, isBoolean, isDate, isDateTime, isUuid;
     public boolean isListContainer, isMapContainer;
     public boolean isFile, notFile;
@@ -77,6 +81,43 @@ public class CodegenParameter {
      */
     public Number multipleOf;
     
+    /**
+     * @return the json schema, rendered from the spec element on first use
+     */
+    public String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
+        return jsonSchema;
+    }
+
+    /**
+     * @param jsonSchemaSource spec element rendered by {@link #getJsonSchema()}, replaces a previously set json schema
+     */
+    public void setJsonSchemaSource(Object jsonSchemaSource) {
+        this.jsonSchemaSource = jsonSchemaSource;
+        this.jsonSchema = null;
+    }
+
+    /**
+     * @param jsonSchema json schema, replaces the spec element set by {@link #setJsonSchemaSource(Object)}
+     */
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+    }
+
+    private boolean jsonSchemaEquals(CodegenParameter other) {
+        if (jsonSchemaSource != null || other.jsonSchemaSource != null) {
+            return Objects.equals(jsonSchemaSource, other.jsonSchemaSource);
+        }
+        return Objects.equals(jsonSchema, other.jsonSchema);
+    }
+
+    private int jsonSchemaHashCode() {
+        return jsonSchemaSource != null ? jsonSchemaSource.hashCode() : Objects.hashCode(jsonSchema);
+    }
+
     public CodegenParameter copy() {
         CodegenParameter output = new CodegenParameter();
         output.isFile = this.isFile;
@@ -115,6 +156,7 @@ public class CodegenParameter {
         output.uniqueItems = this.uniqueItems;
         output.multipleOf = this.multipleOf;
         output.jsonSchema = this.jsonSchema;
+        output.jsonSchemaSource = this.jsonSchemaSource;
         output.defaultValue = this.defaultValue;
         output.example = this.example;
         output.testExample = this.testExample;
@@ -211,7 +253,7 @@ public class CodegenParameter {
             return false;
         if (example != null ? !example.equals(that.example) : that.example != null)
             return false;
-        if (jsonSchema != null ? !jsonSchema.equals(that.jsonSchema) : that.jsonSchema != null)
+        if (!jsonSchemaEquals(that))
             return false;
         if (isString != that.isString)
             return false;
@@ -308,7 +350,7 @@ public class CodegenParameter {
         result = 31 * result + (baseType != null ? baseType.hashCode() : 0);
         result = 31 * result + (defaultValue != null ? defaultValue.hashCode() : 0);
         result = 31 * result + (example != null ? example.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + jsonSchemaHashCode();
         result = 31 * result + (isString ? 13:31);
         result = 31 * result + (isNumeric ? 13:31);
         result = 31 * result + (isInteger ? 13:31);
@@ -1,5 +1,7 @@
 package io.swagger.codegen;
 
+import io.swagger.util.Json;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -31,7 +33,8 @@ public class CodegenProperty implements Cloneable {
      */
     public String example;
 
-    public String jsonSchema;
+    private String jsonSchema;
+    private Object jsonSchemaSource;
     public String minimum;
     public String maximum;
     public boolean exclusiveMinimum;
@@ -66,6 +69,43 @@ public class CodegenProperty implements Cloneable {
     public boolean isXmlWrapped = false;
 
 
+    /**
+     * @return the json schema, rendered from the spec element on first use
+     */
+    public String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
+        return jsonSchema;
+    }
+
+    /**
+     * @param jsonSchemaSource spec element rendered by {@link #getJsonSchema()}, replaces a previously set json schema
+     */
+    public void setJsonSchemaSource(Object jsonSchemaSource) {
+        this.jsonSchemaSource = jsonSchemaSource;
+        this.jsonSchema = null;
+    }
+
+    /**
+     * @param jsonSchema json schema, replaces the spec element set by {@link #setJsonSchemaSource(Object)}
+     */
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+    }
+
+    private boolean jsonSchemaEquals(CodegenProperty other) {
+        if (jsonSchemaSource != null || other.jsonSchemaSource != null) {
+            return Objects.equals(jsonSchemaSource, other.jsonSchemaSource);
+        }
+        return Objects.equals(jsonSchema, other.jsonSchema);
+    }
+
+    private int jsonSchemaHashCode() {
+        return jsonSchemaSource != null ? jsonSchemaSource.hashCode() : Objects.hashCode(jsonSchema);
+    }
+
     @Override
     public String toString() {
         return String.format("%s(%s)", baseName, datatype);
@@ -102,7 +142,7 @@ public class CodegenProperty implements Cloneable {
         result = prime * result + ((isPrimitiveType  ? 13:31));
         result = prime * result + ((isReadOnly  ? 13:31));
         result = prime * result + ((items == null) ? 0 : items.hashCode());
-        result = prime * result + ((jsonSchema == null) ? 0 : jsonSchema.hashCode());
+        result = prime * result + jsonSchemaHashCode();
         result = prime * result + ((max == null) ? 0 : max.hashCode());
         result = prime * result + ((maxLength == null) ? 0 : maxLength.hashCode());
         result = prime * result + ((maximum == null) ? 0 : maximum.hashCode());
@@ -213,7 +253,7 @@ public class CodegenProperty implements Cloneable {
         if ((this.example == null) ? (other.example != null) : !this.example.equals(other.example)) {
             return false;
         }
-        if ((this.jsonSchema == null) ? (other.jsonSchema != null) : !this.jsonSchema.equals(other.jsonSchema)) {
+        if (!jsonSchemaEquals(other)) {
             return false;
         }
         if (this.minimum != other.minimum && (this.minimum == null || !this.minimum.equals(other.minimum))) {
@@ -1,6 +1,9 @@
 package io.swagger.codegen;
 
+import io.swagger.util.Json;
+
 import java.util.ArrayList;
+import java.util.Objects;
 import java.util.List;
 import java.util.Map;
 
@@ -20,9 +23,48 @@ public class CodegenResponse {
     public boolean isBinary = false;
     public boolean isFile = false;
     public Object schema;
-    public String jsonSchema;
+    private String jsonSchema;
     public Map<String, Object> vendorExtensions;
 
+    private Object jsonSchemaSource;
+
+    /**
+     * @return the json schema, rendered from the spec element on first use
+     */
+    public String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
+        return jsonSchema;
+    }
+
+    /**
+     * @param jsonSchemaSource spec element rendered by {@link #getJsonSchema()}, replaces a previously set json schema
+     */
+    public void setJsonSchemaSource(Object jsonSchemaSource) {
+        this.jsonSchemaSource = jsonSchemaSource;
+        this.jsonSchema = null;
+    }
+
+    /**
+     * @param jsonSchema json schema, replaces the spec element set by {@link #setJsonSchemaSource(Object)}
+     */
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+    }
+
+    private boolean jsonSchemaEquals(CodegenResponse other) {
+        if (jsonSchemaSource != null || other.jsonSchemaSource != null) {
+            return Objects.equals(jsonSchemaSource, other.jsonSchemaSource);
+        }
+        return Objects.equals(jsonSchema, other.jsonSchema);
+    }
+
+    private int jsonSchemaHashCode() {
+        return jsonSchemaSource != null ? jsonSchemaSource.hashCode() : Objects.hashCode(jsonSchema);
+    }
+
     public boolean isWildcard() {
         return "0".equals(code) || "default".equals(code);
     }
@@ -75,7 +117,7 @@ public class CodegenResponse {
             return false;
         if (vendorExtensions != null ? !vendorExtensions.equals(that.vendorExtensions) : that.vendorExtensions != null)
             return false;
-        return jsonSchema != null ? jsonSchema.equals(that.jsonSchema) : that.jsonSchema == null;
+        return jsonSchemaEquals(that);
     }
 
     @Override
@@ -97,7 +139,7 @@ public class CodegenResponse {
         result = 31 * result + (isBinary ? 13:31);
         result = 31 * result + (isFile ? 13:31);
         result = 31 * result + (schema != null ? schema.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + jsonSchemaHashCode();
         result = 31 * result + (vendorExtensions != null ? vendorExtensions.hashCode() : 0);
         return result;
     }
@@ -21,6 +21,7 @@ import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import com.samskivert.mustache.Mustache.Compiler;
 
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
 import io.swagger.models.ArrayModel;
 import io.swagger.models.ComposedModel;
@@ -69,6 +70,14 @@ import io.swagger.util.Json;
 public class DefaultCodegen {
     protected static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegen.class);
 
+    private static final Pattern TRAILING_DIGITS = Pattern.compile("\\d+\\z");
+    private static final Pattern NON_WORD_UNICODE = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS);
+
+    // camelize and underscore are pure functions, their results are shared by all generators
+    private static final NameCache CAMELIZE_CACHE = new NameCache();
+    private static final NameCache CAMELIZE_LOWER_CACHE = new NameCache();
+    private static final NameCache UNDERSCORE_CACHE = new NameCache();
+
     protected String inputSpec;
     protected String outputFolder = "";
     protected Set<String> defaultIncludes = new HashSet<String>();
@@ -93,6 +102,7 @@ public class DefaultCodegen {
     protected Map<String, Object> additionalProperties = new HashMap<String, Object>();
     protected Map<String, Object> vendorExtensions = new HashMap<String, Object>();
     protected List<SupportingFile> supportingFiles = new ArrayList<SupportingFile>();
+    protected Map<String, String> generatedFiles = new LinkedHashMap<String, String>();
     protected List<CliOption> cliOptions = new ArrayList<CliOption>();
     protected boolean skipOverwrite;
     protected boolean removeOperationIdPrefix;
@@ -117,6 +127,22 @@ public class DefaultCodegen {
 
     protected String ignoreFilePathOverride;
 
+    // switches of the generation (models, apis, debugModels...), see getSystemProperty
+    protected Map<String, String> systemProperties = new HashMap<String, String>();
+
+    // names memoized during a generation, see setNameCacheEnabled
+    private boolean nameCacheEnabled;
+    private final NameCache varNameCache = new NameCache();
+    private final NameCache paramNameCache = new NameCache();
+    private final NameCache modelNameCache = new NameCache();
+
+    // examples serialized for the definitions of the generation, see exampleCache
+    private volatile ExampleCache exampleCache;
+
+    // operationIds by tag of the operations being grouped, see addOperationToGroup
+    private Map<String, List<CodegenOperation>> operationIdIndexOwner;
+    private final Map<String, OperationIdIndex> operationIdIndexes = new HashMap<String, OperationIdIndex>();
+
     public List<CliOption> cliOptions() {
         return cliOptions;
     }
@@ -182,7 +208,7 @@ public class DefaultCodegen {
             // Index all CodegenModels by model name.
             Map<String, CodegenModel> allModels = new HashMap<String, CodegenModel>();
             for (Entry<String, Object> entry : objs.entrySet()) {
-                String modelName = toModelName(entry.getKey());
+                String modelName = cachedModelName(entry.getKey());
                 Map<String, Object> inner = (Map<String, Object>) entry.getValue();
                 List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
                 for (Map<String, Object> mo : models) {
@@ -392,6 +418,11 @@ public class DefaultCodegen {
         return objs;
     }
 
+    // override with any special post-processing which looks up models, the registry indexes allModels
+    public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels, CodegenModelRegistry modelRegistry) {
+        return postProcessOperationsWithModels(objs, allModels);
+    }
+
     // override with any special post-processing
     @SuppressWarnings("static-method")
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
@@ -605,6 +636,20 @@ public class DefaultCodegen {
         return supportingFiles;
     }
 
+    public Map<String, String> generatedFiles() {
+        return generatedFiles;
+    }
+
+    /**
+     * Adds a file computed by the generator, written through the generator output once processSwagger returns.
+     *
+     * @param filename path of the file relative to the output folder
+     * @param contents contents of the file
+     */
+    protected void addGeneratedFile(String filename, String contents) {
+        generatedFiles.put(filename, contents);
+    }
+
     public String outputFolder() {
         return outputFolder;
     }
@@ -783,6 +828,82 @@ public class DefaultCodegen {
         return name;
     }
 
+    public boolean isNameCacheEnabled() {
+        return nameCacheEnabled;
+    }
+
+    /**
+     * Enables memoization of toVarName, toParamName and toModelName where models, properties and parameters
+     * are converted. The generator enables it once the options are processed, as names depend on them, and
+     * disables it after the generation. Previously memoized names are dropped either way.
+     *
+     * @param nameCacheEnabled true to memoize names
+     */
+    public void setNameCacheEnabled(boolean nameCacheEnabled) {
+        varNameCache.clear();
+        paramNameCache.clear();
+        modelNameCache.clear();
+        this.nameCacheEnabled = nameCacheEnabled;
+    }
+
+    /**
+     * Sets the system properties of the generation, such as the models, apis or supportingFiles switches. They
+     * are carried by the generation rather than set on the JVM, so that generations running in the same JVM
+     * don't see each other's.
+     *
+     * @param systemProperties properties of the generation, a null value hiding the JVM system property
+     */
+    public void setSystemProperties(Map<String, String> systemProperties) {
+        this.systemProperties = systemProperties != null ? systemProperties : new HashMap<String, String>();
+    }
+
+    /**
+     * Looks up a system property of the generation, falling back to the JVM system property for the
+     * switches passed with -D to the JVM.
+     *
+     * @param name name of the property
+     * @return the value of the property, or null if it is not set
+     */
+    public String getSystemProperty(String name) {
+        if (systemProperties.containsKey(name)) {
+            return systemProperties.get(name);
+        }
+        return System.getProperty(name);
+    }
+
+    protected String cachedVarName(String name) {
+        String varName = nameCacheEnabled ? varNameCache.get(name) : null;
+        if (varName == null) {
+            varName = toVarName(name);
+            if (nameCacheEnabled) {
+                varNameCache.put(name, varName);
+            }
+        }
+        return varName;
+    }
+
+    protected String cachedParamName(String name) {
+        String paramName = nameCacheEnabled ? paramNameCache.get(name) : null;
+        if (paramName == null) {
+            paramName = toParamName(name);
+            if (nameCacheEnabled) {
+                paramNameCache.put(name, paramName);
+            }
+        }
+        return paramName;
+    }
+
+    protected String cachedModelName(String name) {
+        String modelName = nameCacheEnabled ? modelNameCache.get(name) : null;
+        if (modelName == null) {
+            modelName = toModelName(name);
+            if (nameCacheEnabled) {
+                modelNameCache.put(name, modelName);
+            }
+        }
+        return modelName;
+    }
+
     /**
      * Return the Enum name (e.g. StatusEnum given 'status')
      *
@@ -1378,16 +1499,10 @@ public class DefaultCodegen {
         m.title = escapeText(model.getTitle());
         m.description = escapeText(model.getDescription());
         m.unescapedDescription = model.getDescription();
-        m.classname = toModelName(name);
-        m.classVarName = toVarName(name);
+        m.classname = cachedModelName(name);
+        m.classVarName = cachedVarName(name);
         m.classFilename = toModelFilename(name);
-        // NOTE: not using Json.pretty() to write out model, as it
-        // can raise memory consumption (see comment in ExampleGenerator)
-        try {
-            m.modelJson = Json.mapper().writeValueAsString(model);
-        } catch (Exception e) {
-            m.modelJson = "{}";
-        }
+        m.setModelJsonSource(model);
         m.externalDocs = model.getExternalDocs();
         m.vendorExtensions = model.getVendorExtensions();
         m.isAlias = typeAliases.containsKey(name);
@@ -1396,7 +1511,7 @@ public class DefaultCodegen {
             ModelImpl modelImpl = (ModelImpl) model;
             m.discriminator = modelImpl.getDiscriminator();
             if (m.discriminator != null) {
-                m.discriminatorClassVarName = toParamName(m.discriminator);
+                m.discriminatorClassVarName = cachedParamName(m.discriminator);
             }
             if (modelImpl.getXml() != null) {
                 m.xmlPrefix = modelImpl.getXml().getPrefix();
@@ -1436,7 +1551,7 @@ public class DefaultCodegen {
                         if (m.discriminator == null) {
                             m.discriminator = modelImpl.getDiscriminator();
                             if (m.discriminator != null) {
-                                m.discriminatorClassVarName = toParamName(m.discriminator);
+                                m.discriminatorClassVarName = cachedParamName(m.discriminator);
                             }
                         }
                         if (modelImpl.getXml() != null) {
@@ -1472,7 +1587,7 @@ public class DefaultCodegen {
                             || (interfaceModel instanceof ComposedModel && isDiscriminatorInInterfaceTree((ComposedModel) interfaceModel, allDefinitions)))) {
                         parent = _interface;
                     } else {
-                        final String interfaceRef = toModelName(_interface.getSimpleRef());
+                        final String interfaceRef = cachedModelName(_interface.getSimpleRef());
                         m.interfaces.add(interfaceRef);
                         addImport(m, interfaceRef);
                         if (allDefinitions != null) {
@@ -1504,7 +1619,7 @@ public class DefaultCodegen {
 
                 if(parentName != null) {
                     m.parentSchema = parentName;
-                    m.parent = typeMapping.containsKey(parentName) ? typeMapping.get(parentName): toModelName(parentName);
+                    m.parent = typeMapping.containsKey(parentName) ? typeMapping.get(parentName): cachedModelName(parentName);
                     addImport(m, m.parent);
                     if (allDefinitions != null) {
                         final Model parentModel = allDefinitions.get(m.parentSchema);
@@ -1655,7 +1770,7 @@ public class DefaultCodegen {
         if (name == null || name.length() == 0) {
             return name;
         }
-        return camelize(toVarName(name));
+        return camelize(cachedVarName(name));
     }
 
     /**
@@ -1684,7 +1799,7 @@ public class DefaultCodegen {
 
         CodegenProperty property = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
         property.itemsDepth = itemsDepth;
-        property.name = toVarName(name);
+        property.name = cachedVarName(name);
         property.baseName = name;
         property.nameInCamelCase = camelize(property.name, false);
         property.description = escapeText(p.getDescription());
@@ -1698,7 +1813,7 @@ public class DefaultCodegen {
         }
         property.defaultValue = toDefaultValue(p);
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
-        property.jsonSchema = Json.pretty(p);
+        property.setJsonSchemaSource(p);
         if (p.getReadOnly() != null) {
             property.isReadOnly = p.getReadOnly();
         }
@@ -2480,7 +2595,7 @@ public class DefaultCodegen {
         r.message = escapeText(response.getDescription());
         r.schema = response.getSchema();
         r.examples = toExamples(response.getExamples());
-        r.jsonSchema = Json.pretty(response);
+        r.setJsonSchemaSource(response);
         r.vendorExtensions = response.getVendorExtensions();
         addHeaders(response, r.headers);
         r.hasHeaders = !r.headers.isEmpty();
@@ -2572,9 +2687,9 @@ public class DefaultCodegen {
         if (param.getRequired()) {
             p.required = param.getRequired();
         }
-        p.jsonSchema = Json.pretty(param);
+        p.setJsonSchemaSource(param);
 
-        if (System.getProperty("debugParser") != null) {
+        if (getSystemProperty("debugParser") != null) {
             LOGGER.info("working on Parameter " + param.getName());
         }
 
@@ -2692,7 +2807,7 @@ public class DefaultCodegen {
             if(collectionFormat != null && collectionFormat.equals("multi")) {
                 p.isCollectionFormatMulti = true;
             }
-            p.paramName = toParamName(qp.getName());
+            p.paramName = cachedParamName(qp.getName());
 
             // import
             if (cp.complexType != null) {
@@ -2801,7 +2916,7 @@ public class DefaultCodegen {
                     }
                 }
             }
-            p.paramName = toParamName(bp.getName());
+            p.paramName = cachedParamName(bp.getName());
         }
 
         // Issue #2561 (neilotoole) : Set the is<TYPE>Param flags.
@@ -2916,7 +3031,7 @@ public class DefaultCodegen {
             name = typeMapping.get(name);
             codegenParameter.baseType = name;
         } else {
-            name = toModelName(name);
+            name = cachedModelName(name);
             codegenParameter.baseType = name;
             if (defaultIncludes.contains(name)) {
                 imports.add(name);
@@ -3154,15 +3269,7 @@ public class DefaultCodegen {
             operations.put(tag, opList);
         }
         // check for operationId uniqueness
-
-        String uniqueName = co.operationId;
-        int counter = 0;
-        for(CodegenOperation op : opList) {
-            if(uniqueName.equals(op.operationId)) {
-                uniqueName = co.operationId + "_" + counter;
-                counter ++;
-            }
-        }
+        String uniqueName = getOperationIdIndex(operations, tag, opList).uniqueName(co.operationId);
         if(!co.operationId.equals(uniqueName)) {
             LOGGER.warn("generated unique operationId `" + uniqueName + "`");
         }
@@ -3174,6 +3281,78 @@ public class DefaultCodegen {
         co.baseName = tag;
     }
 
+    private OperationIdIndex getOperationIdIndex(Map<String, List<CodegenOperation>> operations, String tag, List<CodegenOperation> opList) {
+        if (operationIdIndexOwner != operations) {
+            operationIdIndexes.clear();
+            operationIdIndexOwner = operations;
+        }
+        OperationIdIndex index = operationIdIndexes.get(tag);
+        if (index == null || index.operations != opList) {
+            index = new OperationIdIndex(opList);
+            operationIdIndexes.put(tag, index);
+        }
+        return index;
+    }
+
+    /**
+     * Positions of the operationIds of a tag, so that a unique operationId is found without scanning
+     * all the operations of the tag. Operations added to the list by other means are indexed on the next
+     * lookup.
+     */
+    private static class OperationIdIndex {
+        private final List<CodegenOperation> operations;
+        private final Map<String, List<Integer>> positions = new HashMap<String, List<Integer>>();
+        private int indexed;
+
+        OperationIdIndex(List<CodegenOperation> operations) {
+            this.operations = operations;
+        }
+
+        /**
+         * Same result as checking the operations in order, and appending a counter to the operationId
+         * each time the current name is met.
+         */
+        String uniqueName(String operationId) {
+            update();
+            String uniqueName = operationId;
+            int counter = 0;
+            int position = -1;
+            while ((position = nextPosition(uniqueName, position)) >= 0) {
+                uniqueName = operationId + "_" + counter;
+                counter++;
+            }
+            return uniqueName;
+        }
+
+        private int nextPosition(String operationId, int after) {
+            List<Integer> found = positions.get(operationId);
+            if (found == null) {
+                return -1;
+            }
+            int i = Collections.binarySearch(found, after + 1);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            return i < found.size() ? found.get(i) : -1;
+        }
+
+        private void update() {
+            if (indexed > operations.size()) {
+                positions.clear();
+                indexed = 0;
+            }
+            for (; indexed < operations.size(); indexed++) {
+                String operationId = operations.get(indexed).operationId;
+                List<Integer> found = positions.get(operationId);
+                if (found == null) {
+                    found = new ArrayList<Integer>(1);
+                    positions.put(operationId, found);
+                }
+                found.add(indexed);
+            }
+        }
+    }
+
     private void addParentContainer(CodegenModel m, String name, Property property) {
         m.parentContainer = fromProperty(name, property);
         addImport(m, m.parentContainer.complexType);
@@ -3198,21 +3377,44 @@ public class DefaultCodegen {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        String underscored = UNDERSCORE_CACHE.get(word);
+        if (underscored == null) {
+            underscored = underscoreWord(word);
+            UNDERSCORE_CACHE.put(word, underscored);
+        }
+        return underscored;
+    }
+
+    private static String underscoreWord(final String word) {
+        StringBuilder result = new StringBuilder(word.length() + 8);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            // Replace capital letter with _ plus lowercase letter: "ABCDef" => "ABC_Def", "abcDef" => "abc_Def"
+            if (i > 0 && isUpperCaseLetter(c)) {
+                char previous = word.charAt(i - 1);
+                if (isLowerCaseLetterOrDigit(previous) || (isUpperCaseLetter(previous)
+                        && i + 1 < word.length() && isLowerCaseLetter(word.charAt(i + 1)))) {
+                    result.append('_');
+                }
+            }
+            switch (c) {
+                case '.':
+                    // Replace package separator with slash.
+                    result.append('/');
+                    break;
+                case '$':
+                    // Replace $ with two underscores for inner classes.
+                    result.append("__");
+                    break;
+                case '-':
+                case ' ':
+                    result.append('_');
+                    break;
+                default:
+                    result.append(c);
+            }
+        }
+        return result.toString().toLowerCase();
     }
 
     /**
@@ -3223,7 +3425,7 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        return underscore(word).replace('_', '-');
     }
 
     /**
@@ -3237,8 +3439,7 @@ public class DefaultCodegen {
      * @return The next name for the base name
      */
     private static String generateNextName(String name) {
-        Pattern pattern = Pattern.compile("\\d+\\z");
-        Matcher matcher = pattern.matcher(name);
+        Matcher matcher = TRAILING_DIGITS.matcher(name);
         if (matcher.find()) {
             String numStr = matcher.group();
             int num = Integer.parseInt(numStr) + 1;
@@ -3443,66 +3644,102 @@ public class DefaultCodegen {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
+        NameCache cache = lowercaseFirstLetter ? CAMELIZE_LOWER_CACHE : CAMELIZE_CACHE;
+        String camelized = cache.get(word);
+        if (camelized == null) {
+            camelized = camelizeWord(word, lowercaseFirstLetter);
+            cache.put(word, camelized);
+        }
+        return camelized;
+    }
+
+    private static String camelizeWord(final String word, boolean lowercaseFirstLetter) {
+        // Replace all slashes with dots (package separator), and case out dots
+        StringBuilder parts = new StringBuilder(word.length());
+        boolean partStart = true;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                partStart = true;
+            } else if (partStart) {
+                parts.append(Character.toUpperCase(c));
+                partStart = false;
+            } else {
+                parts.append(c);
+            }
         }
 
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+        // Uppercase the class name.
+        for (int i = 0; i < parts.length(); i++) {
+            char c = parts.charAt(i);
+            if (isWordCharacter(c)) {
+                if (isLowerCaseLetter(c)) {
+                    parts.replace(i, i + 1, String.valueOf(c).toUpperCase());
+                }
+                break;
             }
         }
-        word = f.toString();
 
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
+        // Remove all underscores (underscore_case to camelCase), "a__b" => "aB", "a_1" => "a1"
+        StringBuilder underscores = new StringBuilder(parts.length());
+        for (int i = 0; i < parts.length(); i++) {
+            char c = parts.charAt(i);
+            if (c == '_' && i + 1 < parts.length() && !isLineTerminator(parts.charAt(i + 1))) {
+                int next = Character.codePointAt(parts, i + 1);
+                String original = new String(Character.toChars(next));
+                String upperCase = original.toUpperCase();
+                if (!original.equals(upperCase)) {
+                    underscores.append(upperCase);
+                    i += original.length();
+                }
+            } else {
+                underscores.append(c);
+            }
         }
 
-        // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
-        }
-
-        // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            String original = m.group(2);
-            String upperCase = original.toUpperCase();
-            if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
+        // Remove all hyphens (hyphen-case to camelCase), "a--b" => "aB"
+        StringBuilder hyphens = new StringBuilder(underscores.length());
+        for (int i = 0; i < underscores.length(); i++) {
+            char c = underscores.charAt(i);
+            if (c == '-' && i + 1 < underscores.length() && !isLineTerminator(underscores.charAt(i + 1))) {
+                int next = Character.codePointAt(underscores, i + 1);
+                if (next != '-') {
+                    String original = new String(Character.toChars(next));
+                    hyphens.append(original.toUpperCase());
+                    i += original.length();
+                }
             } else {
-                word = m.replaceFirst(upperCase);
+                hyphens.append(c);
             }
-            m = p.matcher(word);
         }
 
-        // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
+        String camelized = hyphens.toString();
+        if (lowercaseFirstLetter && camelized.length() > 0) {
+            camelized = camelized.substring(0, 1).toLowerCase() + camelized.substring(1);
         }
+        return camelized;
+    }
 
-        if (lowercaseFirstLetter && word.length() > 0) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
-        }
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
 
-        return word;
+    private static boolean isLowerCaseLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isLowerCaseLetterOrDigit(char c) {
+        return isLowerCaseLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    // same as \w without Pattern.UNICODE_CHARACTER_CLASS
+    private static boolean isWordCharacter(char c) {
+        return isUpperCaseLetter(c) || isLowerCaseLetterOrDigit(c) || c == '_';
+    }
+
+    // characters not matched by . in a regular expression
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     public String apiFilename(String templateName, String tag) {
@@ -3704,11 +3941,6 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
         // better error handling when map/array type is invalid
         if (name == null) {
             LOGGER.error("String to be sanitized is null. Default to ERROR_UNKNOWN");
@@ -3720,35 +3952,47 @@ public class DefaultCodegen {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { // could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
-        } else {
-            name = name.replaceAll("\\W", "");
+        StringBuilder sanitized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            switch (c) {
+                case '[':
+                    // input[] => input
+                    if (i + 1 < name.length() && name.charAt(i + 1) == ']') {
+                        i++;
+                        break;
+                    }
+                    // input[a][b] => input_a_b
+                    sanitized.append('_');
+                    break;
+                case '(':
+                    // input(a)(b) => input_a_b
+                    sanitized.append('_');
+                    break;
+                case ']':
+                case ')':
+                    break;
+                case '.':
+                    // input.name => input_name
+                case '-':
+                    // input-name => input_name
+                case ' ':
+                    // input name and age => input_name_and_age
+                    sanitized.append('_');
+                    break;
+                default:
+                    // remove everything else other than word, number and _
+                    // $php_variable => php_variable
+                    if (allowUnicodeIdentifiers || isWordCharacter(c)) {
+                        sanitized.append(c);
+                    }
+            }
         }
 
-        return name;
+        if (allowUnicodeIdentifiers) {
+            return NON_WORD_UNICODE.matcher(sanitized).replaceAll("");
+        }
+        return sanitized.toString();
     }
 
     /**
@@ -3984,10 +4228,23 @@ public class DefaultCodegen {
     protected List<Map<String, String>> getExamples(Map<String, Model> definitions, Map<String, Object> examples, List<String> mediaTypes, Object object) {
         if (object instanceof Property) {
             Property responseProperty = (Property) object;
-            return new ExampleGenerator(definitions).generate(examples, mediaTypes, responseProperty);
+            return new ExampleGenerator(definitions, exampleCache(definitions)).generate(examples, mediaTypes, responseProperty);
         }
         // this must be a model name instead
-        return new ExampleGenerator(definitions).generate(examples, mediaTypes, object.toString());
+        return new ExampleGenerator(definitions, exampleCache(definitions)).generate(examples, mediaTypes, object.toString());
+    }
+
+    /**
+     * @param definitions models of the examples
+     * @return examples already serialized for these definitions, shared by the operations of the generation
+     */
+    protected ExampleCache exampleCache(Map<String, Model> definitions) {
+        ExampleCache cache = exampleCache;
+        if (cache == null || !cache.isFor(definitions)) {
+            cache = new ExampleCache(definitions);
+            exampleCache = cache;
+        }
+        return cache;
     }
 
     public void writePropertyBack(String propertyKey, boolean value) {
@@ -1,8 +1,9 @@
 package io.swagger.codegen;
 
-import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
+import io.swagger.codegen.examples.ExampleGenerator;
 import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
+import io.swagger.codegen.ignore.rules.Rule;
 import io.swagger.codegen.languages.AbstractJavaCodegen;
 import io.swagger.codegen.utils.ImplementationVersion;
 import io.swagger.models.*;
@@ -19,6 +20,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
@@ -37,7 +43,21 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected String basePath;
     protected String basePathWithoutHost;
     protected String contextPath;
+    protected TemplateCache templateCache = new TemplateCache();
+    protected int generationThreads = 1;
+    protected boolean incremental;
+    protected boolean lowMemory;
+    protected OutputManifest outputManifest;
+    protected GenerationFingerprints fingerprints;
+    protected GeneratorOutput output = new FileGeneratorOutput();
+    protected CodegenModelRegistry modelRegistry;
+    protected GenerationProfiler profiler = GenerationProfiler.disabled();
+    // model imports of the api files, the same models are usually imported by many tags
+    private final Map<String, String> apiModelImports = new HashMap<String, String>();
+    private CodegenConfig apiModelImportsConfig;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    // tags of the spec by name while the paths are processed
+    private Map<String, Tag> tagIndex;
 
     @Override
     public Generator opts(ClientOptInput opts) {
@@ -45,6 +65,16 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.swagger = opts.getSwagger();
         this.config = opts.getConfig();
         this.config.additionalProperties().putAll(opts.getOpts().getProperties());
+        this.config.setSystemProperties(opts.getSystemProperties());
+        this.generationThreads = opts.getGenerationThreads();
+        this.incremental = opts.isIncremental();
+        this.lowMemory = opts.isLowMemory();
+        if (opts.getProfiler() != null) {
+            this.profiler = opts.getProfiler().forGenerator(config.getName());
+        }
+        if (opts.getOutput() != null) {
+            this.output = opts.getOutput();
+        }
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
         if (ignoreFileLocation != null) {
@@ -73,6 +103,15 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.isGenerateSwaggerMetadata = generateSwaggerMetadata;
     }
 
+    /**
+     * Share compiled templates with other generator instances, e.g. when generating several specs in one JVM.
+     * @param templateCache cache of compiled templates
+     */
+    @SuppressWarnings("WeakerAccess")
+    public void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
     /**
      * Set generator properties otherwise pulled from system properties.
      * Useful for running tests in parallel without relying on System.properties.
@@ -131,17 +170,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected void configureGeneratorProperties() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
-        if (System.getProperty(CodegenConstants.GENERATE_APIS) != null) {
-            isGenerateApis = Boolean.valueOf(System.getProperty(CodegenConstants.GENERATE_APIS));
+        if (config.getSystemProperty(CodegenConstants.GENERATE_APIS) != null) {
+            isGenerateApis = Boolean.valueOf(config.getSystemProperty(CodegenConstants.GENERATE_APIS));
         } else {
-            isGenerateApis = System.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
+            isGenerateApis = config.getSystemProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
         }
-        if (System.getProperty(CodegenConstants.GENERATE_MODELS) != null) {
-            isGenerateModels = Boolean.valueOf(System.getProperty(CodegenConstants.GENERATE_MODELS));
+        if (config.getSystemProperty(CodegenConstants.GENERATE_MODELS) != null) {
+            isGenerateModels = Boolean.valueOf(config.getSystemProperty(CodegenConstants.GENERATE_MODELS));
         } else {
-            isGenerateModels = System.getProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
+            isGenerateModels = config.getSystemProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
         }
-        String supportingFilesProperty = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFilesProperty = config.getSystemProperty(CodegenConstants.SUPPORTING_FILES);
         if (((supportingFilesProperty != null) && supportingFilesProperty.equalsIgnoreCase("false"))) {
             isGenerateSupportingFiles = false;
         } else {
@@ -164,10 +203,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
         // model/api tests and documentation options rely on parent generate options (api or model) and no other options.
         // They default to true in all scenarios and can only be marked false explicitly
-        isGenerateModelTests = System.getProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
-        isGenerateModelDocumentation = System.getProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
-        isGenerateApiTests = System.getProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
-        isGenerateApiDocumentation = System.getProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+        isGenerateModelTests = config.getSystemProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(config.getSystemProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
+        isGenerateModelDocumentation = config.getSystemProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(config.getSystemProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
+        isGenerateApiTests = config.getSystemProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(config.getSystemProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
+        isGenerateApiDocumentation = config.getSystemProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(config.getSystemProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
 
 
         // Additional properties added for tests to exclude references in project related files
@@ -183,11 +222,16 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if(!isGenerateApiTests && !isGenerateModelTests) {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
-        if (System.getProperty("debugSwagger") != null) {
+        if (config.getSystemProperty("debugSwagger") != null) {
             Json.prettyPrint(swagger);
         }
-        config.processOpts();
-        config.preprocessSwagger(swagger);
+        GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "preprocess");
+        try {
+            config.processOpts();
+            config.preprocessSwagger(swagger);
+        } finally {
+            sample.stop();
+        }
         config.additionalProperties().put("generatorVersion", ImplementationVersion.read());
         config.additionalProperties().put("generatedDate", DateTime.now().toString());
         config.additionalProperties().put("generatedYear", String.valueOf(DateTime.now().getYear()));
@@ -272,8 +316,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             String suffix = config.modelTestTemplateFiles().get(templateName);
             String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix;
             // do not overwrite test file that already exists
-            if (new File(filename).exists()) {
+            if (output.exists(filename)) {
                 LOGGER.info("File exists. Skipped overwriting " + filename);
+                retainOutput(filename);
                 continue;
             }
             File written = processTemplateToFile(models, templateName, filename);
@@ -289,6 +334,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
             if (!config.shouldOverwrite(filename)) {
                 LOGGER.info("Skipped overwriting " + filename);
+                retainOutput(filename);
                 continue;
             }
             File written = processTemplateToFile(models, templateName, filename);
@@ -309,7 +355,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        String modelNames = System.getProperty("models");
+        String modelNames = config.getSystemProperty("models");
         Set<String> modelsToGenerate = null;
         if (modelNames != null && !modelNames.isEmpty()) {
             modelsToGenerate = new HashSet<String>(Arrays.asList(modelNames.split(",")));
@@ -402,11 +448,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
 
         // post process all processed models
-        allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "postProcessAllModels");
+        try {
+            allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        } finally {
+            sample.stop();
+        }
 
         final boolean skipAlias = config.getSkipAliasGeneration() != null && config.getSkipAliasGeneration();
 
         // generate files based on processed models
+        List<Callable<List<File>>> renderTasks = new ArrayList<Callable<List<File>>>();
         for (String modelName : allProcessedModels.keySet()) {
             Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
@@ -426,42 +478,68 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 }
                 allModels.add(modelTemplate);
-                for (String templateName : config.modelTemplateFiles().keySet()) {
-                    String filename = config.modelFilename(templateName, modelName);
-                    if (!config.shouldOverwrite(filename)) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
-                    }
-                    File written = processTemplateToFile(models, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
-                }
-                if(isGenerateModelTests) {
-                    generateModelTests(files, models, modelName);
-                }
-                if(isGenerateModelDocumentation) {
-                    // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
-                }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
+            if (fingerprints != null && !fingerprints.isModelChanged(modelName)
+                    && keepOutputs(files, modelOutputs(modelName))) {
+                continue;
+            }
+            if (lowMemory) {
+                files.addAll(render(Collections.singletonList(modelRenderTask(modelName, models))));
+            } else {
+                renderTasks.add(modelRenderTask(modelName, models));
+            }
         }
-        if (System.getProperty("debugModels") != null) {
+        files.addAll(render(renderTasks));
+        if (config.getSystemProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
 
     }
 
+    private Callable<List<File>> modelRenderTask(final String modelName, final Map<String, Object> models) {
+        return new Callable<List<File>>() {
+            @Override
+            public List<File> call() {
+                List<File> files = new ArrayList<File>();
+                try {
+                    for (String templateName : config.modelTemplateFiles().keySet()) {
+                        String filename = config.modelFilename(templateName, modelName);
+                        if (!config.shouldOverwrite(filename)) {
+                            LOGGER.info("Skipped overwriting " + filename);
+                            retainOutput(filename);
+                            continue;
+                        }
+                        File written = processTemplateToFile(models, templateName, filename);
+                        if (written != null) {
+                            files.add(written);
+                        }
+                    }
+                    if(isGenerateModelTests) {
+                        generateModelTests(files, models, modelName);
+                    }
+                    if(isGenerateModelDocumentation) {
+                        // to generate model documentation files
+                        generateModelDocumentation(files, models, modelName);
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                }
+                return files;
+            }
+        };
+    }
+
     protected void generateApis(List<File> files, List<Object> allOperations, List<Object> allModels) {
         if (!isGenerateApis) {
             return;
         }
         Map<String, List<CodegenOperation>> paths = processPaths(swagger.getPaths());
+        apiModelImports.clear();
         Set<String> apisToGenerate = null;
-        String apiNames = System.getProperty("apis");
+        String apiNames = config.getSystemProperty("apis");
         if (apiNames != null && !apiNames.isEmpty()) {
             apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
         }
@@ -474,7 +552,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             paths = updatedPaths;
         }
-        for (String tag : paths.keySet()) {
+        List<Callable<List<File>>> renderTasks = new ArrayList<Callable<List<File>>>();
+        for (Iterator<String> tags = paths.keySet().iterator(); tags.hasNext(); ) {
+            String tag = tags.next();
             try {
                 List<CodegenOperation> ops = paths.get(tag);
                 Collections.sort(ops, new Comparator<CodegenOperation>() {
@@ -512,7 +592,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 processMimeTypes(swagger.getConsumes(), operation, "consumes");
                 processMimeTypes(swagger.getProduces(), operation, "produces");
 
-                allOperations.add(new HashMap<String, Object>(operation));
+                allOperations.add(lowMemory ? summarizeApi(operation) : new HashMap<String, Object>(operation));
                 for (int i = 0; i < allOperations.size(); i++) {
                     Map<String, Object> oo = (Map<String, Object>) allOperations.get(i);
                     if (i < (allOperations.size() - 1)) {
@@ -520,26 +600,87 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 }
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
+                if (fingerprints != null && !fingerprints.isApiChanged(tag, ops)
+                        && keepOutputs(files, apiOutputs(tag))) {
+                    if (lowMemory) {
+                        tags.remove();
                     }
+                    continue;
+                }
+                if (lowMemory) {
+                    // the operations of the tag are released once its files are written
+                    files.addAll(render(Collections.singletonList(apiRenderTask(tag, operation))));
+                    tags.remove();
+                } else {
+                    renderTasks.add(apiRenderTask(tag, operation));
+                }
+            } catch (Exception e) {
+                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+            }
+        }
+        files.addAll(render(renderTasks));
+        if (config.getSystemProperty("debugOperations") != null) {
+            LOGGER.info("############ Operation info ############");
+            Json.prettyPrint(allOperations);
+        }
 
-                    File written = processTemplateToFile(operation, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
+    }
+
+    /**
+     * Low memory generation: the api as seen by the supporting files, holding summaries of its operations.
+     *
+     * @param operation api bundle
+     * @return copy of the bundle referencing {@link CodegenOperation#copySummary()} of the operations
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> summarizeApi(Map<String, Object> operation) {
+        Map<String, Object> api = new HashMap<String, Object>(operation);
+        Object objs = operation.get("operations");
+        if (objs instanceof Map) {
+            Map<String, Object> summaries = new HashMap<String, Object>((Map<String, Object>) objs);
+            Object ops = summaries.get("operation");
+            if (ops instanceof List) {
+                List<Object> opSummaries = new ArrayList<Object>(((List<?>) ops).size());
+                for (Object op : (List<?>) ops) {
+                    opSummaries.add(op instanceof CodegenOperation ? ((CodegenOperation) op).copySummary() : op);
                 }
+                summaries.put("operation", opSummaries);
+            }
+            api.put("operations", summaries);
+        }
+        return api;
+    }
+
+    /**
+     * Low memory generation: replaces the models by their {@link CodegenModel#copySummary()}, once the apis no
+     * longer need them.
+     *
+     * @param allModels models as passed to the supporting files
+     */
+    @SuppressWarnings("unchecked")
+    protected void summarizeModels(List<Object> allModels) {
+        for (int i = 0; i < allModels.size(); i++) {
+            Object entry = allModels.get(i);
+            if (entry instanceof Map && ((Map<String, Object>) entry).get("model") instanceof CodegenModel) {
+                Map<String, Object> summary = new HashMap<String, Object>((Map<String, Object>) entry);
+                summary.put("model", ((CodegenModel) summary.get("model")).copySummary());
+                allModels.set(i, summary);
+            }
+        }
+        modelRegistry = CodegenModelRegistry.fromModelList(allModels);
+    }
 
-                if(isGenerateApiTests) {
-                    // to generate api test files
-                    for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                        String filename = config.apiTestFilename(templateName, tag);
-                        // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
-                            LOGGER.info("File exists. Skipped overwriting " + filename);
+    private Callable<List<File>> apiRenderTask(final String tag, final Map<String, Object> operation) {
+        return new Callable<List<File>>() {
+            @Override
+            public List<File> call() {
+                List<File> files = new ArrayList<File>();
+                try {
+                    for (String templateName : config.apiTemplateFiles().keySet()) {
+                        String filename = config.apiFilename(templateName, tag);
+                        if (!config.shouldOverwrite(filename) && output.exists(filename)) {
+                            LOGGER.info("Skipped overwriting " + filename);
+                            retainOutput(filename);
                             continue;
                         }
 
@@ -548,34 +689,100 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                             files.add(written);
                         }
                     }
-                }
 
+                    if(isGenerateApiTests) {
+                        // to generate api test files
+                        for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                            String filename = config.apiTestFilename(templateName, tag);
+                            // do not overwrite test file that already exists
+                            if (output.exists(filename)) {
+                                LOGGER.info("File exists. Skipped overwriting " + filename);
+                                retainOutput(filename);
+                                continue;
+                            }
 
-                if(isGenerateApiDocumentation) {
-                    // to generate api documentation files
-                    for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                        String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                            LOGGER.info("Skipped overwriting " + filename);
-                            continue;
+                            File written = processTemplateToFile(operation, templateName, filename);
+                            if (written != null) {
+                                files.add(written);
+                            }
                         }
+                    }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
+                    if(isGenerateApiDocumentation) {
+                        // to generate api documentation files
+                        for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                            String filename = config.apiDocFilename(templateName, tag);
+                            if (!config.shouldOverwrite(filename) && output.exists(filename)) {
+                                LOGGER.info("Skipped overwriting " + filename);
+                                retainOutput(filename);
+                                continue;
+                            }
+
+                            File written = processTemplateToFile(operation, templateName, filename);
+                            if (written != null) {
+                                files.add(written);
+                            }
                         }
                     }
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                 }
+                return files;
+            }
+        };
+    }
 
-            } catch (Exception e) {
-                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+    /**
+     * Runs the given render tasks and returns the files they wrote, in task order. With more than one
+     * generation thread the tasks run on a bounded pool, otherwise on the calling thread.
+     *
+     * @param tasks render tasks, one per model or api
+     * @return files written by all tasks
+     */
+    protected List<File> render(List<Callable<List<File>>> tasks) {
+        return runAll(tasks, "rendering templates");
+    }
+
+    /**
+     * Runs the given tasks and returns their results, in task order. With more than one generation thread the
+     * tasks run on a bounded pool, otherwise on the calling thread.
+     *
+     * @param tasks tasks to run
+     * @param activity what the tasks do, for the error messages
+     * @return results of all tasks
+     */
+    private <T> List<T> runAll(List<Callable<List<T>>> tasks, String activity) {
+        List<T> results = new ArrayList<T>();
+        if (generationThreads <= 1 || tasks.size() <= 1) {
+            for (Callable<List<T>> task : tasks) {
+                try {
+                    results.addAll(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
             }
-        }
-        if (System.getProperty("debugOperations") != null) {
-            LOGGER.info("############ Operation info ############");
-            Json.prettyPrint(allOperations);
+            return results;
         }
 
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(generationThreads, tasks.size()));
+        try {
+            for (Future<List<T>> result : executor.invokeAll(tasks)) {
+                results.addAll(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while " + activity, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
     }
 
     protected void generateSupportingFiles(List<File> files, Map<String, Object> bundle) {
@@ -583,7 +790,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
         Set<String> supportingFilesToGenerate = null;
-        String supportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFiles = config.getSystemProperty(CodegenConstants.SUPPORTING_FILES);
         boolean generateAll = false;
         if (supportingFiles != null && supportingFiles.equalsIgnoreCase("true")) {
             generateAll = true;
@@ -597,13 +804,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 if (StringUtils.isNotEmpty(support.folder)) {
                     outputFolder += File.separator + support.folder;
                 }
-                File of = new File(outputFolder);
-                if (!of.isDirectory()) {
-                    of.mkdirs();
-                }
                 String outputFilename = outputFolder + File.separator + support.destinationFilename.replace('/', File.separatorChar);
                 if (!config.shouldOverwrite(outputFilename)) {
                     LOGGER.info("Skipped overwriting " + outputFilename);
+                    retainOutput(outputFilename);
                     continue;
                 }
                 String templateFile;
@@ -622,20 +826,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
                 if (ignoreProcessor.allowsFile(new File(outputFilename))) {
                     if (templateFile.endsWith("mustache")) {
-                        String template = readTemplate(templateFile);
-                        Mustache.Compiler compiler = Mustache.compiler();
-                        compiler = config.processCompiler(compiler);
-                        Template tmpl = compiler
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(outputFilename, tmpl.execute(bundle));
+                        Template tmpl = templateCache.getTemplate(this, config, templateFile);
+                        writeToFile(outputFilename, execute(tmpl, templateFile, bundle));
                         files.add(new File(outputFilename));
                     } else {
                         InputStream in = null;
@@ -649,11 +841,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                             in = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(templateFile));
                         }
                         File outputFile = new File(outputFilename);
-                        OutputStream out = new FileOutputStream(outputFile, false);
                         if (in != null) {
-                            LOGGER.info("writing file " + outputFile);
-                            IOUtils.copy(in, out);
-                            out.close();
+                            writeToFile(outputFilename, IOUtils.toByteArray(in));
+                            in.close();
                         } else {
                             LOGGER.error("can't open " + templateFile + " for input");
                         }
@@ -661,6 +851,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 } else {
                     LOGGER.info("Skipped generation of " + outputFilename + " due to rule in .swagger-codegen-ignore");
+                    retainOutput(outputFilename);
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
@@ -672,7 +863,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         final String swaggerCodegenIgnore = ".swagger-codegen-ignore";
         String ignoreFileNameTarget = config.outputFolder() + File.separator + swaggerCodegenIgnore;
         File ignoreFile = new File(ignoreFileNameTarget);
-        if (isGenerateSwaggerMetadata && !ignoreFile.exists()) {
+        if (isGenerateSwaggerMetadata && !output.exists(ignoreFileNameTarget)) {
             String ignoreFileNameSource = File.separator + config.getCommonTemplateDir() + File.separator + swaggerCodegenIgnore;
             String ignoreFileContents = readResourceContents(ignoreFileNameSource);
             try {
@@ -681,6 +872,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 throw new RuntimeException("Could not generate supporting file '" + swaggerCodegenIgnore + "'", e);
             }
             files.add(ignoreFile);
+        } else {
+            retainOutput(ignoreFileNameTarget);
         }
 
         if(isGenerateSwaggerMetadata) {
@@ -734,6 +927,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         bundle.put("contextPath", contextPath);
         bundle.put("apiInfo", apis);
         bundle.put("models", allModels);
+        bundle.put("modelRegistry", getModelRegistry(allModels));
         bundle.put("apiFolder", config.apiPackage().replace('.', File.separatorChar));
         bundle.put("modelPackage", config.modelPackage());
         List<CodegenSecurity> authMethods = config.fromSecurity(swagger.getSecurityDefinitions());
@@ -750,9 +944,14 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             m.hasMoreModels = true;
         }
 
-        config.postProcessSupportingFileData(bundle);
+        GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "postProcessSupportingFileData");
+        try {
+            config.postProcessSupportingFileData(bundle);
+        } finally {
+            sample.stop();
+        }
 
-        if (System.getProperty("debugSupportingFiles") != null) {
+        if (config.getSystemProperty("debugSupportingFiles") != null) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
@@ -765,49 +964,290 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (swagger == null || config == null) {
             throw new RuntimeException("missing swagger input or config!");
         }
+        GenerationProfiler.Sample generation = profiler.start(GenerationProfiler.PHASE, "generate");
+        try {
+            return generateFiles();
+        } finally {
+            generation.stop();
+        }
+    }
+
+    private List<File> generateFiles() {
+        if (incremental && output instanceof FileGeneratorOutput) {
+            // before the options and the spec are processed
+            GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "fingerprints");
+            try {
+                fingerprints = createFingerprints();
+            } finally {
+                sample.stop();
+            }
+        }
         configureGeneratorProperties();
         configureSwaggerInfo();
+        if (incremental && output instanceof FileGeneratorOutput) {
+            outputManifest = OutputManifest.load(new File(config.outputFolder()));
+            if (isSelectiveGeneration()) {
+                fingerprints = null;
+            }
+        } else if (incremental) {
+            LOGGER.warn("Incremental generation is only supported when writing to files, generating all files");
+        }
+        if (lowMemory && generationThreads > 1) {
+            LOGGER.info("Low memory generation renders one model or api at a time, generation threads are not used");
+        }
+
+        // names only depend on the processed options from here on
+        config.setNameCacheEnabled(true);
+        try {
+            if (fingerprints != null && fingerprints.isUnchanged()) {
+                List<File> files = outputManifest.keepAll();
+                if (files != null) {
+                    LOGGER.info("Incremental generation: inputs are unchanged, skipped rendering");
+                    config.processSwagger(swagger);
+                    generateComputedFiles(files);
+                    saveOutputManifest();
+                    return files;
+                }
+            }
+            List<File> files = new ArrayList<File>();
+            // models
+            List<Object> allModels = new ArrayList<Object>();
+            GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "models");
+            try {
+                generateModels(files, allModels);
+            } finally {
+                sample.stop();
+            }
+            modelRegistry = CodegenModelRegistry.fromModelList(allModels);
+            // apis
+            List<Object> allOperations = new ArrayList<Object>();
+            sample = profiler.start(GenerationProfiler.PHASE, "apis");
+            try {
+                generateApis(files, allOperations, allModels);
+            } finally {
+                sample.stop();
+            }
+            if (lowMemory) {
+                summarizeModels(allModels);
+            }
+
+            // supporting files
+            sample = profiler.start(GenerationProfiler.PHASE, "supportingFiles");
+            try {
+                Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
+                generateSupportingFiles(files, bundle);
+            } finally {
+                sample.stop();
+            }
+            config.processSwagger(swagger);
+            generateComputedFiles(files);
+            if (outputManifest != null) {
+                saveOutputManifest();
+            }
+            if (fingerprints != null) {
+                saveFingerprints();
+            }
+            return files;
+        } finally {
+            config.setNameCacheEnabled(false);
+        }
+    }
+
+    /**
+     * Writes the files computed by the generator itself, see {@link CodegenConfig#generatedFiles()}.
+     */
+    private void generateComputedFiles(List<File> files) {
+        Map<String, String> generatedFiles = config.generatedFiles();
+        for (Map.Entry<String, String> entry : generatedFiles.entrySet()) {
+            String outputFilename = config.outputFolder() + File.separator + entry.getKey().replace('/', File.separatorChar);
+            File outputFile = new File(outputFilename);
+            if (!ignoreProcessor.allowsFile(outputFile)) {
+                LOGGER.info("Skipped generation of " + outputFilename + " due to rule in .swagger-codegen-ignore");
+                retainOutput(outputFilename);
+                continue;
+            }
+            try {
+                writeToFile(outputFilename, entry.getValue());
+            } catch (IOException e) {
+                throw new RuntimeException("Could not generate file '" + outputFilename + "'", e);
+            }
+            if (!files.contains(outputFile)) {
+                files.add(outputFile);
+            }
+        }
+        if (!generatedFiles.isEmpty()) {
+            generatedFiles.clear();
+        }
+    }
+
+    /**
+     * Writes the file to the generator output, unless incremental generation is enabled and the file already
+     * has these contents.
+     */
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        if (outputManifest != null && !outputManifest.needsWrite(new File(filename), contents)) {
+            LOGGER.info("Skipped unchanged file " + filename);
+            return new File(filename);
+        }
+        LOGGER.info("writing file " + filename);
+        GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "write");
+        try {
+            output.write(filename, contents);
+        } finally {
+            sample.stop();
+        }
+        return new File(filename);
+    }
+
+    /**
+     * @return hashes and change report of the last incremental generation, or null if it was not incremental
+     */
+    public OutputManifest getOutputManifest() {
+        return outputManifest;
+    }
+
+    protected void retainOutput(String filename) {
+        if (outputManifest != null) {
+            outputManifest.retain(new File(filename));
+        }
+    }
+
+    private void saveOutputManifest() {
+        if (isSelectiveGeneration()) {
+            outputManifest.retainAll();
+        } else {
+            outputManifest.deleteStale(Arrays.asList(config.modelFileFolder(), config.apiFileFolder(),
+                    config.modelDocFileFolder(), config.apiDocFileFolder(), config.modelTestFileFolder(), config.apiTestFileFolder()));
+        }
+        try {
+            outputManifest.save();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write " + OutputManifest.MANIFEST_FILE, e);
+        }
+        LOGGER.info(String.format("Incremental generation: %d files changed, %d unchanged, %d deleted",
+                outputManifest.getChanged().size(), outputManifest.getUnchanged().size(), outputManifest.getDeleted().size()));
+    }
+
+    private GenerationFingerprints createFingerprints() {
+        List<String> ignoreRules = new ArrayList<String>();
+        List<Rule> rules = new ArrayList<Rule>(ignoreProcessor.getExclusionRules());
+        rules.addAll(ignoreProcessor.getInclusionRules());
+        for (Rule rule : rules) {
+            // comments of the ignore file are parsed as rules too
+            if (!rule.getDefinition().startsWith("#")) {
+                ignoreRules.add(rule.getDefinition());
+            }
+        }
+        try {
+            return GenerationFingerprints.create(config, opts.getSystemProperties(), ignoreRules, swagger);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to fingerprint the inputs of the generation, rendering all files", e);
+            return null;
+        }
+    }
+
+    private void saveFingerprints() {
+        try {
+            fingerprints.save();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write " + GenerationFingerprints.FINGERPRINTS_FILE, e);
+        }
+    }
 
-        List<File> files = new ArrayList<File>();
-        // models
-        List<Object> allModels = new ArrayList<Object>();
-        generateModels(files, allModels);
-        // apis
-        List<Object> allOperations = new ArrayList<Object>();
-        generateApis(files, allOperations, allModels);
-
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
-        generateSupportingFiles(files, bundle);
-        config.processSwagger(swagger);
-        return files;
+    /**
+     * Incremental generation: keeps the outputs of a model or api whose inputs are unchanged instead of rendering
+     * them again.
+     *
+     * @param files files of the generation, receiving the kept outputs
+     * @param filenames outputs of the model or api
+     * @return {@code false} if one of the outputs was deleted or modified since the previous generation, so the
+     * model or api has to be rendered
+     */
+    protected boolean keepOutputs(List<File> files, List<String> filenames) {
+        List<File> outputs = new ArrayList<File>();
+        for (String filename : filenames) {
+            File file = new File(filename.replaceAll("//", "/").replace('/', File.separatorChar));
+            if (!outputManifest.keep(file)) {
+                return false;
+            }
+            if (file.isFile()) {
+                outputs.add(file);
+            }
+        }
+        files.addAll(outputs);
+        return true;
+    }
+
+    private List<String> modelOutputs(String modelName) {
+        List<String> filenames = new ArrayList<String>();
+        for (String templateName : config.modelTemplateFiles().keySet()) {
+            filenames.add(config.modelFilename(templateName, modelName));
+        }
+        if (isGenerateModelTests) {
+            for (String suffix : config.modelTestTemplateFiles().values()) {
+                filenames.add(config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix);
+            }
+        }
+        if (isGenerateModelDocumentation) {
+            for (String suffix : config.modelDocTemplateFiles().values()) {
+                filenames.add(config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix);
+            }
+        }
+        return filenames;
+    }
+
+    private List<String> apiOutputs(String tag) {
+        List<String> filenames = new ArrayList<String>();
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            filenames.add(config.apiFilename(templateName, tag));
+        }
+        if (isGenerateApiTests) {
+            for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                filenames.add(config.apiTestFilename(templateName, tag));
+            }
+        }
+        if (isGenerateApiDocumentation) {
+            for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                filenames.add(config.apiDocFilename(templateName, tag));
+            }
+        }
+        return filenames;
+    }
+
+    private boolean isSelectiveGeneration() {
+        if (!isGenerateApis || !isGenerateModels || !isGenerateSupportingFiles) {
+            return true;
+        }
+        String supportingFiles = config.getSystemProperty(CodegenConstants.SUPPORTING_FILES);
+        return StringUtils.isNotEmpty(config.getSystemProperty(CodegenConstants.APIS))
+                || StringUtils.isNotEmpty(config.getSystemProperty(CodegenConstants.MODELS))
+                || (StringUtils.isNotEmpty(supportingFiles) && !"true".equalsIgnoreCase(supportingFiles));
     }
 
     protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
             String templateFile = getFullTemplateFile(config, templateName);
-            String template = readTemplate(templateFile);
-            Mustache.Compiler compiler = Mustache.compiler();
-            compiler = config.processCompiler(compiler);
-            Template tmpl = compiler
-                    .withLoader(new Mustache.TemplateLoader() {
-                        @Override
-                        public Reader getTemplate(String name) {
-                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                        }
-                    })
-                    .defaultValue("")
-                    .compile(template);
-
-            writeToFile(adjustedOutputFilename, tmpl.execute(templateData));
+            Template tmpl = templateCache.getTemplate(this, config, templateFile);
+            writeToFile(adjustedOutputFilename, execute(tmpl, templateFile, templateData));
             return new File(adjustedOutputFilename);
         }
 
         LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .swagger-codegen-ignore");
+        retainOutput(adjustedOutputFilename);
         return null;
     }
 
+    private String execute(Template template, String templateFile, Object context) {
+        GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.TEMPLATE, templateFile);
+        try {
+            return template.execute(context);
+        } finally {
+            sample.stop();
+        }
+    }
+
     protected static void processMimeTypes(List<String> mimeTypeList, Map<String, Object> operation, String source) {
         if (mimeTypeList == null || mimeTypeList.isEmpty()) {
             return;
@@ -833,50 +1273,79 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     public Map<String, List<CodegenOperation>> processPaths(Map<String, Path> paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<String, List<CodegenOperation>>();
-        for (String resourcePath : paths.keySet()) {
-            Path path = paths.get(resourcePath);
-            processOperation(resourcePath, "get", path.getGet(), ops, path);
-            processOperation(resourcePath, "head", path.getHead(), ops, path);
-            processOperation(resourcePath, "put", path.getPut(), ops, path);
-            processOperation(resourcePath, "post", path.getPost(), ops, path);
-            processOperation(resourcePath, "delete", path.getDelete(), ops, path);
-            processOperation(resourcePath, "patch", path.getPatch(), ops, path);
-            processOperation(resourcePath, "options", path.getOptions(), ops, path);
-        }
-        return ops;
+        tagIndex = indexTags(swagger.getTags());
+        try {
+            if (generationThreads <= 1 || !config.isParallelOperationsSupported()) {
+                for (String resourcePath : paths.keySet()) {
+                    Path path = paths.get(resourcePath);
+                    processOperation(resourcePath, "get", path.getGet(), ops, path);
+                    processOperation(resourcePath, "head", path.getHead(), ops, path);
+                    processOperation(resourcePath, "put", path.getPut(), ops, path);
+                    processOperation(resourcePath, "post", path.getPost(), ops, path);
+                    processOperation(resourcePath, "delete", path.getDelete(), ops, path);
+                    processOperation(resourcePath, "patch", path.getPatch(), ops, path);
+                    processOperation(resourcePath, "options", path.getOptions(), ops, path);
+                }
+                return ops;
+            }
+
+            // operations are converted in parallel, then grouped in the order of the serial generation
+            List<Callable<List<TaggedOperation>>> conversions = new ArrayList<Callable<List<TaggedOperation>>>();
+            for (String resourcePath : paths.keySet()) {
+                Path path = paths.get(resourcePath);
+                addConversion(conversions, resourcePath, "get", path.getGet(), path);
+                addConversion(conversions, resourcePath, "head", path.getHead(), path);
+                addConversion(conversions, resourcePath, "put", path.getPut(), path);
+                addConversion(conversions, resourcePath, "post", path.getPost(), path);
+                addConversion(conversions, resourcePath, "delete", path.getDelete(), path);
+                addConversion(conversions, resourcePath, "patch", path.getPatch(), path);
+                addConversion(conversions, resourcePath, "options", path.getOptions(), path);
+            }
+            groupOperations(runAll(conversions, "converting operations"), ops);
+            return ops;
+        } finally {
+            tagIndex = null;
+        }
     }
 
     protected void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, Path path) {
         if (operation == null) {
             return;
         }
-        if (System.getProperty("debugOperations") != null) {
+        groupOperations(convertOperation(resourcePath, httpMethod, operation, path, false), operations);
+    }
+
+    private void addConversion(List<Callable<List<TaggedOperation>>> conversions, final String resourcePath,
+                               final String httpMethod, final Operation operation, final Path path) {
+        if (operation == null) {
+            return;
+        }
+        conversions.add(new Callable<List<TaggedOperation>>() {
+            @Override
+            public List<TaggedOperation> call() {
+                return convertOperation(resourcePath, httpMethod, operation, path, true);
+            }
+        });
+    }
+
+    /**
+     * Converts an operation once for each of its tags. Only the operation and the returned conversions are
+     * modified, so that operations can be converted concurrently. Concurrent conversions defer their examples,
+     * which groupOperations generates in order.
+     */
+    private List<TaggedOperation> convertOperation(String resourcePath, String httpMethod, Operation operation, Path path,
+                                                   boolean deferExamples) {
+        if (config.getSystemProperty("debugOperations") != null) {
             LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation + "\n");
         }
+        Map<String, Tag> swaggerTags = tagIndex != null ? tagIndex : indexTags(swagger.getTags());
         List<Tag> tags = new ArrayList<Tag>();
 
         List<String> tagNames = operation.getTags();
-        List<Tag> swaggerTags = swagger.getTags();
         if (tagNames != null) {
-            if (swaggerTags == null) {
-                for (String tagName : tagNames) {
-                    tags.add(new Tag().name(tagName));
-                }
-            } else {
-                for (String tagName : tagNames) {
-                    boolean foundTag = false;
-                    for (Tag tag : swaggerTags) {
-                        if (tag.getName().equals(tagName)) {
-                            tags.add(tag);
-                            foundTag = true;
-                            break;
-                        }
-                    }
-
-                    if (!foundTag) {
-                        tags.add(new Tag().name(tagName));
-                    }
-                }
+            for (String tagName : tagNames) {
+                Tag tag = swaggerTags.get(tagName);
+                tags.add(tag != null ? tag : new Tag().name(tagName));
             }
         }
 
@@ -906,11 +1375,25 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
         }
 
+        List<TaggedOperation> conversions = new ArrayList<TaggedOperation>(tags.size());
         for (Tag tag : tags) {
             try {
-                CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, swagger.getDefinitions(), swagger);
+                CodegenOperation codegenOperation;
+                List<Runnable> examples = new ArrayList<Runnable>();
+                GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "fromOperation");
+                if (deferExamples) {
+                    ExampleGenerator.deferGeneration(examples);
+                }
+                try {
+                    codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, swagger.getDefinitions(), swagger);
+                } finally {
+                    if (deferExamples) {
+                        ExampleGenerator.deferGeneration(null);
+                    }
+                    sample.stop();
+                }
                 codegenOperation.tags = new ArrayList<Tag>(tags);
-                config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
+                conversions.add(new TaggedOperation(tag, resourcePath, httpMethod, operation, codegenOperation, examples));
 
                 List<Map<String, List<String>>> securities = operation.getSecurity();
                 if (securities == null && swagger.getSecurity() != null) {
@@ -953,16 +1436,76 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     codegenOperation.hasAuthMethods = true;
                 }
             } catch (Exception ex) {
-                String msg = "Could not process operation:\n" //
-                        + "  Tag: " + tag + "\n"//
-                        + "  Operation: " + operation.getOperationId() + "\n" //
-                        + "  Resource: " + httpMethod + " " + resourcePath + "\n"//
-                        + "  Definitions: " + swagger.getDefinitions() + "\n"  //
-                        + "  Exception: " + ex.getMessage();
-                throw new RuntimeException(msg, ex);
+                throw operationError(tag, resourcePath, httpMethod, operation, ex);
             }
         }
+        return conversions;
+    }
 
+    private void groupOperations(List<TaggedOperation> conversions, Map<String, List<CodegenOperation>> operations) {
+        for (TaggedOperation conversion : conversions) {
+            try {
+                for (Runnable example : conversion.examples) {
+                    example.run();
+                }
+                config.addOperationToGroup(config.sanitizeTag(conversion.tag.getName()), conversion.resourcePath,
+                        conversion.operation, conversion.codegenOperation, operations);
+                if (fingerprints != null) {
+                    fingerprints.operationConverted(conversion.operation, conversion.codegenOperation);
+                }
+            } catch (Exception ex) {
+                throw operationError(conversion.tag, conversion.resourcePath, conversion.httpMethod, conversion.operation, ex);
+            }
+        }
+    }
+
+    private RuntimeException operationError(Tag tag, String resourcePath, String httpMethod, Operation operation, Exception ex) {
+        String msg = "Could not process operation:\n" //
+                + "  Tag: " + tag + "\n"//
+                + "  Operation: " + operation.getOperationId() + "\n" //
+                + "  Resource: " + httpMethod + " " + resourcePath + "\n"//
+                + "  Definitions: " + swagger.getDefinitions() + "\n"  //
+                + "  Exception: " + ex.getMessage();
+        return new RuntimeException(msg, ex);
+    }
+
+    /**
+     * @param tags tags of the spec
+     * @return the tags by name, the first one winning for duplicate names
+     */
+    private static Map<String, Tag> indexTags(List<Tag> tags) {
+        Map<String, Tag> index = new HashMap<String, Tag>();
+        if (tags != null) {
+            for (Tag tag : tags) {
+                if (tag.getName() != null && !index.containsKey(tag.getName())) {
+                    index.put(tag.getName(), tag);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Conversion of an operation for one of its tags, to be grouped.
+     */
+    private static class TaggedOperation {
+        final Tag tag;
+        final String resourcePath;
+        final String httpMethod;
+        final Operation operation;
+        final CodegenOperation codegenOperation;
+        // examples deferred by a concurrent conversion, see ExampleGenerator.deferGeneration
+        final List<Runnable> examples;
+
+        TaggedOperation(Tag tag, String resourcePath, String httpMethod, Operation operation, CodegenOperation codegenOperation,
+                        List<Runnable> examples) {
+            this.tag = tag;
+            this.resourcePath = resourcePath;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.codegenOperation = codegenOperation;
+            this.examples = examples;
+        }
     }
 
     protected static String generateParameterId(Parameter parameter) {
@@ -970,6 +1513,26 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     }
 
 
+    private CodegenModelRegistry getModelRegistry(List<Object> allModels) {
+        if (modelRegistry == null) {
+            modelRegistry = CodegenModelRegistry.fromModelList(allModels);
+        }
+        return modelRegistry;
+    }
+
+    private String toApiModelImport(CodegenConfig config, String name) {
+        if (apiModelImportsConfig != config) {
+            apiModelImports.clear();
+            apiModelImportsConfig = config;
+        }
+        if (apiModelImports.containsKey(name)) {
+            return apiModelImports.get(name);
+        }
+        String modelImport = config.toModelImport(name);
+        apiModelImports.put(name, modelImport);
+        return modelImport;
+    }
+
     protected Map<String, Object> processOperations(CodegenConfig config, String tag, List<CodegenOperation> ops, List<Object> allModels) {
         Map<String, Object> operations = new HashMap<String, Object>();
         Map<String, Object> objs = new HashMap<String, Object>();
@@ -998,20 +1561,23 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             allImports.addAll(op.imports);
         }
 
-        List<Map<String, String>> imports = new ArrayList<Map<String, String>>();
+        // several imports may map to the same one, keep the first occurrence
+        Set<String> mappings = new LinkedHashSet<String>();
         for (String nextImport : allImports) {
-            Map<String, String> im = new LinkedHashMap<String, String>();
             String mapping = config.importMapping().get(nextImport);
             if (mapping == null) {
-                mapping = config.toModelImport(nextImport);
+                mapping = toApiModelImport(config, nextImport);
             }
             if (mapping != null) {
-                im.put("import", mapping);
-                if (!imports.contains(im)) { // avoid duplicates
-                    imports.add(im);
-                }
+                mappings.add(mapping);
             }
         }
+        List<Map<String, String>> imports = new ArrayList<Map<String, String>>(mappings.size());
+        for (String mapping : mappings) {
+            Map<String, String> im = new LinkedHashMap<String, String>();
+            im.put("import", mapping);
+            imports.add(im);
+        }
 
         operations.put("imports", imports);
 
@@ -1019,8 +1585,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (imports.size() > 0) {
             operations.put("hasImport", true);
         }
-        config.postProcessOperations(operations);
-        config.postProcessOperationsWithModels(operations, allModels);
+        GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "postProcessOperations");
+        try {
+            config.postProcessOperations(operations);
+            config.postProcessOperationsWithModels(operations, allModels, getModelRegistry(allModels));
+        } finally {
+            sample.stop();
+        }
         if (objs.size() > 0) {
             List<CodegenOperation> os = (List<CodegenOperation>) objs.get("operation");
 
@@ -1050,7 +1621,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 config.importMapping().put(key, codegenImport);
                 allImports.add(codegenImport);
             }
-            CodegenModel cm = config.fromModel(key, mm, allDefinitions);
+            CodegenModel cm;
+            GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "fromModel");
+            try {
+                cm = config.fromModel(key, mm, allDefinitions);
+            } finally {
+                sample.stop();
+            }
             Map<String, Object> mo = new HashMap<String, Object>();
             mo.put("model", cm);
             mo.put("importPath", config.toModelImport(cm.classname));
@@ -1081,7 +1658,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             imports.add(item);
         }
         objs.put("imports", imports);
-        config.postProcessModels(objs);
+        GenerationProfiler.Sample sample = profiler.start(GenerationProfiler.PHASE, "postProcessModels");
+        try {
+            config.postProcessModels(objs);
+        } finally {
+            sample.stop();
+        }
         return objs;
     }
 }
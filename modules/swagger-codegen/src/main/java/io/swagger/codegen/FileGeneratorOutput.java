@@ -0,0 +1,33 @@
+package io.swagger.codegen;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes generated files to disk, creating parent directories as needed.
+ */
+public class FileGeneratorOutput implements GeneratorOutput {
+
+    @Override
+    public void write(String filename, byte[] contents) throws IOException {
+        File output = new File(filename);
+        File parent = output.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(output));
+        try {
+            out.write(contents);
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    public boolean exists(String filename) {
+        return new File(filename).exists();
+    }
+}
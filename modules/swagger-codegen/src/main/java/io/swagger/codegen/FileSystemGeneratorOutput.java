@@ -0,0 +1,49 @@
+package io.swagger.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes generated files to a directory of a {@link java.nio.file.FileSystem}, e.g. an in-memory file system or
+ * a zip file system. Paths under the root directory given to the generator are resolved against the target
+ * directory.
+ */
+public class FileSystemGeneratorOutput implements GeneratorOutput {
+    private final Path root;
+    private final Path target;
+
+    /**
+     * @param root directory the file names are relative to, usually the output folder of the config
+     * @param target directory receiving the files, in any file system
+     */
+    public FileSystemGeneratorOutput(File root, Path target) {
+        this.root = OutputPaths.root(root);
+        this.target = target;
+    }
+
+    @Override
+    public void write(String filename, byte[] contents) throws IOException {
+        Path path = resolve(filename);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, contents);
+    }
+
+    @Override
+    public boolean exists(String filename) {
+        return Files.exists(resolve(filename));
+    }
+
+    private Path resolve(String filename) {
+        Path path = target;
+        for (String segment : OutputPaths.relativize(root, filename).split("/")) {
+            if (!segment.isEmpty()) {
+                path = path.resolve(segment);
+            }
+        }
+        return path;
+    }
+}
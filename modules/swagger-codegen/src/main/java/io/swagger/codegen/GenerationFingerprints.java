@@ -0,0 +1,406 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Fingerprints of the inputs of the models and apis of a generation, stored in .swagger-codegen/FINGERPRINTS next
+ * to the MANIFEST.
+ *
+ * Used by incremental generation to only render the models and apis whose inputs changed. The fingerprint of a model
+ * covers its definition and the definitions it depends on: the models it references, transitively, and the models
+ * extending it, which generators declare in their parents. The fingerprint of an api covers its operations and the
+ * models they depend on. Everything else a generation reads (generator and the jars it is loaded from, options,
+ * templates, ignore rules and the parts of the spec outside of the definitions and paths) makes the global
+ * fingerprint, which renders every file again when it changes.
+ */
+public class GenerationFingerprints {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationFingerprints.class);
+
+    public static final String FINGERPRINTS_FILE = ".swagger-codegen" + File.separator + "FINGERPRINTS";
+
+    private static final String DEFINITIONS_REF = "#/definitions/";
+
+    // generation switches which may also be set on the JVM
+    private static final List<String> SYSTEM_PROPERTIES = Arrays.asList(CodegenConstants.APIS, CodegenConstants.MODELS,
+            CodegenConstants.SUPPORTING_FILES, CodegenConstants.MODEL_TESTS, CodegenConstants.MODEL_DOCS,
+            CodegenConstants.API_TESTS, CodegenConstants.API_DOCS, CodegenConstants.WITH_XML,
+            CodegenConstants.GENERATE_APIS, CodegenConstants.GENERATE_MODELS);
+
+    private final File outputDir;
+    private final String global;
+    private final Map<String, String> models = new TreeMap<String, String>();
+    private final Map<String, String> operations = new TreeMap<String, String>();
+    private final Map<String, String> apis = new TreeMap<String, String>();
+    private final Map<Operation, Long> operationHashes = new IdentityHashMap<Operation, Long>();
+    private final Map<CodegenOperation, Long> codegenOperationHashes = new IdentityHashMap<CodegenOperation, Long>();
+    // indexed definitions and the definitions depending on them, while the fingerprints are computed
+    private Map<String, Integer> definitionIndex;
+    private long[] definitionHashes;
+    private int[][] dependencies;
+    private int[] visits;
+    private int visit;
+
+    private String previousGlobal;
+    private final Map<String, String> previousModels = new HashMap<String, String>();
+    private final Map<String, String> previousOperations = new HashMap<String, String>();
+    private final Map<String, String> previousApis = new HashMap<String, String>();
+
+    private GenerationFingerprints(File outputDir, String global) {
+        this.outputDir = outputDir.getAbsoluteFile();
+        this.global = global;
+    }
+
+    /**
+     * Computes the fingerprints of a generation and loads the ones of the previous generation in its output
+     * directory. Must be called before the generator processes its options and the spec, which both change.
+     *
+     * @param config generator, with the options of the generation
+     * @param systemProperties properties of the generation
+     * @param ignoreRules definitions of the rules of the ignore file
+     * @param swagger spec of the generation
+     * @return the fingerprints
+     * @throws IOException if a template can't be read
+     */
+    public static GenerationFingerprints create(CodegenConfig config, Map<String, String> systemProperties,
+                                                List<String> ignoreRules, Swagger swagger) throws IOException {
+        Map<String, String> properties = new TreeMap<String, String>();
+        if (systemProperties != null) {
+            properties.putAll(systemProperties);
+        }
+        for (String property : SYSTEM_PROPERTIES) {
+            properties.put(property, config.getSystemProperty(property));
+        }
+
+        ObjectNode spec = Json.mapper().valueToTree(swagger);
+        JsonNode definitions = spec.remove("definitions");
+        JsonNode paths = spec.remove("paths");
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, config.getClass().getName());
+        putString(hasher, ImplementationVersion.read());
+        putString(hasher, ImplementationVersion.codeSources(config.getClass()));
+        putString(hasher, config.getLibrary());
+        putString(hasher, config.getOutputDir());
+        putString(hasher, String.valueOf(config.isSkipOverwrite()) + config.isRemoveOperationIdPrefix()
+                + config.getSkipAliasGeneration());
+        putMap(hasher, config.additionalProperties());
+        putMap(hasher, config.typeMapping());
+        putMap(hasher, config.instantiationTypes());
+        putMap(hasher, config.importMapping());
+        putMap(hasher, config.reservedWordsMappings());
+        putString(hasher, new TreeSet<String>(config.languageSpecificPrimitives()).toString());
+        putMap(hasher, properties);
+        putString(hasher, String.valueOf(ignoreRules));
+        putTemplates(hasher, config);
+        putString(hasher, spec.toString());
+
+        GenerationFingerprints fingerprints = new GenerationFingerprints(new File(config.getOutputDir()),
+                hasher.hash().toString());
+        fingerprints.computeModels(definitions);
+        fingerprints.computeOperations(swagger.getPaths(), paths);
+        fingerprints.load();
+        return fingerprints;
+    }
+
+    /**
+     * @return {@code true} if the previous generation had the same inputs
+     */
+    public boolean isUnchanged() {
+        return global.equals(previousGlobal) && models.equals(previousModels) && operations.equals(previousOperations);
+    }
+
+    /**
+     * @param name name of the definition
+     * @return {@code true} if the model or a model it depends on changed since the previous generation
+     */
+    public boolean isModelChanged(String name) {
+        String fingerprint = models.get(name);
+        return !global.equals(previousGlobal) || fingerprint == null || !fingerprint.equals(previousModels.get(name));
+    }
+
+    /**
+     * Records the operation a codegen operation was converted from, to compute the fingerprint of its api.
+     *
+     * @param operation operation of the spec
+     * @param codegenOperation conversion of the operation
+     */
+    public synchronized void operationConverted(Operation operation, CodegenOperation codegenOperation) {
+        Long hash = operationHashes.get(operation);
+        if (hash != null) {
+            codegenOperationHashes.put(codegenOperation, hash);
+        }
+    }
+
+    /**
+     * Computes the fingerprint of an api from its operations.
+     *
+     * @param tag name of the api
+     * @param ops operations of the api
+     * @return {@code true} if the operations of the api, or the models they depend on, changed since the previous
+     * generation
+     */
+    public synchronized boolean isApiChanged(String tag, Collection<CodegenOperation> ops) {
+        long sum = hash(tag);
+        for (CodegenOperation op : ops) {
+            Long hash = codegenOperationHashes.get(op);
+            if (hash == null) {
+                apis.remove(tag);
+                return true;
+            }
+            sum += hash;
+        }
+        String fingerprint = Long.toHexString(sum);
+        apis.put(tag, fingerprint);
+        return !global.equals(previousGlobal) || !fingerprint.equals(previousApis.get(tag));
+    }
+
+    /**
+     * Stores the fingerprints for the next generation.
+     *
+     * @throws IOException if the fingerprints can't be written
+     */
+    public synchronized void save() throws IOException {
+        List<String> lines = new ArrayList<String>();
+        lines.add("global " + global);
+        for (Map.Entry<String, String> entry : models.entrySet()) {
+            lines.add("model " + entry.getValue() + " " + entry.getKey());
+        }
+        for (Map.Entry<String, String> entry : operations.entrySet()) {
+            lines.add("operation " + entry.getValue() + " " + entry.getKey());
+        }
+        for (Map.Entry<String, String> entry : apis.entrySet()) {
+            lines.add("api " + entry.getValue() + " " + entry.getKey());
+        }
+        FileUtils.writeLines(new File(outputDir, FINGERPRINTS_FILE), StandardCharsets.UTF_8.name(), lines, "\n");
+    }
+
+    private void load() {
+        File file = new File(outputDir, FINGERPRINTS_FILE);
+        if (!file.isFile()) {
+            return;
+        }
+        try {
+            for (String line : FileUtils.readLines(file, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(" ", 3);
+                if (fields.length == 2 && "global".equals(fields[0])) {
+                    previousGlobal = fields[1];
+                } else if (fields.length == 3 && "model".equals(fields[0])) {
+                    previousModels.put(fields[2], fields[1]);
+                } else if (fields.length == 3 && "operation".equals(fields[0])) {
+                    previousOperations.put(fields[2], fields[1]);
+                } else if (fields.length == 3 && "api".equals(fields[0])) {
+                    previousApis.put(fields[2], fields[1]);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read " + file + ", all files will be rendered", e);
+            previousGlobal = null;
+        }
+    }
+
+    private void computeModels(JsonNode definitions) {
+        definitionIndex = new HashMap<String, Integer>();
+        List<JsonNode> nodes = new ArrayList<JsonNode>();
+        if (definitions != null) {
+            for (Iterator<Map.Entry<String, JsonNode>> it = definitions.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> definition = it.next();
+                definitionIndex.put(definition.getKey(), nodes.size());
+                nodes.add(definition.getValue());
+            }
+        }
+        definitionHashes = new long[nodes.size()];
+        visits = new int[nodes.size()];
+        List<Set<Integer>> edges = new ArrayList<Set<Integer>>();
+        for (int i = 0; i < nodes.size(); i++) {
+            edges.add(new HashSet<Integer>());
+        }
+        for (Map.Entry<String, Integer> definition : definitionIndex.entrySet()) {
+            int index = definition.getValue();
+            JsonNode node = nodes.get(index);
+            definitionHashes[index] = hash(definition.getKey() + " " + node);
+            edges.get(index).addAll(indexes(references(node)));
+            // parents list or otherwise depend on the models extending them
+            JsonNode allOf = node.get("allOf");
+            if (allOf != null) {
+                for (JsonNode item : allOf) {
+                    Integer parent = definitionIndex.get(definitionName(item.path("$ref").asText(null)));
+                    if (parent != null) {
+                        edges.get(parent).add(index);
+                    }
+                }
+            }
+        }
+        dependencies = new int[nodes.size()][];
+        for (int i = 0; i < nodes.size(); i++) {
+            dependencies[i] = toArray(edges.get(i));
+        }
+        for (Map.Entry<String, Integer> definition : definitionIndex.entrySet()) {
+            models.put(definition.getKey(),
+                    Long.toHexString(closureHash(Collections.singleton(definition.getValue()))));
+        }
+    }
+
+    private void computeOperations(Map<String, Path> paths, JsonNode pathNodes) {
+        if (paths != null && pathNodes != null) {
+            for (Map.Entry<String, Path> entry : paths.entrySet()) {
+                JsonNode pathNode = pathNodes.path(entry.getKey());
+                JsonNode pathParameters = pathNode.path("parameters");
+                for (Map.Entry<HttpMethod, Operation> method : entry.getValue().getOperationMap().entrySet()) {
+                    String key = method.getKey() + " " + entry.getKey();
+                    JsonNode operation = pathNode.path(method.getKey().name().toLowerCase(Locale.ROOT));
+                    Set<String> references = references(operation);
+                    references.addAll(references(pathParameters));
+                    long hash = hash(key + " " + operation + " " + pathParameters) + closureHash(indexes(references));
+                    operations.put(key, Long.toHexString(hash));
+                    operationHashes.put(method.getValue(), hash);
+                }
+            }
+        }
+        definitionIndex = null;
+        definitionHashes = null;
+        dependencies = null;
+        visits = null;
+    }
+
+    /**
+     * @return order insensitive sum of the hashes of the definitions reachable from the given ones
+     */
+    private long closureHash(Collection<Integer> indexes) {
+        visit++;
+        int[] pending = new int[definitionHashes.length];
+        int size = 0;
+        for (int index : indexes) {
+            if (visits[index] != visit) {
+                visits[index] = visit;
+                pending[size++] = index;
+            }
+        }
+        long sum = 0;
+        for (int next = 0; next < size; next++) {
+            int index = pending[next];
+            sum += definitionHashes[index];
+            for (int dependency : dependencies[index]) {
+                if (visits[dependency] != visit) {
+                    visits[dependency] = visit;
+                    pending[size++] = dependency;
+                }
+            }
+        }
+        return sum;
+    }
+
+    private Set<Integer> indexes(Set<String> names) {
+        Set<Integer> indexes = new HashSet<Integer>();
+        for (String name : names) {
+            Integer index = definitionIndex.get(name);
+            if (index != null) {
+                indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+
+    private static int[] toArray(Set<Integer> values) {
+        int[] array = new int[values.size()];
+        int i = 0;
+        for (int value : values) {
+            array[i++] = value;
+        }
+        return array;
+    }
+
+    private static Set<String> references(JsonNode node) {
+        Set<String> names = new HashSet<String>();
+        for (JsonNode ref : node.findValues("$ref")) {
+            String name = definitionName(ref.asText(null));
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private static String definitionName(String ref) {
+        if (ref == null) {
+            return null;
+        }
+        int index = ref.indexOf(DEFINITIONS_REF);
+        return index < 0 ? ref : ref.substring(index + DEFINITIONS_REF.length());
+    }
+
+    private static void putTemplates(Hasher hasher, CodegenConfig config) throws IOException {
+        Object templateDir = config.additionalProperties().get(CodegenConstants.TEMPLATE_DIR);
+        if (templateDir == null || !new File(templateDir.toString()).isDirectory()) {
+            return;
+        }
+        List<File> files = new ArrayList<File>(FileUtils.listFiles(new File(templateDir.toString()), null, true));
+        Collections.sort(files);
+        for (File file : files) {
+            putString(hasher, file.getPath());
+            hasher.putBytes(FileUtils.readFileToByteArray(file));
+        }
+    }
+
+    private static void putMap(Hasher hasher, Map<String, ?> map) {
+        for (Map.Entry<String, ?> entry : new TreeMap<String, Object>(map).entrySet()) {
+            putString(hasher, entry.getKey());
+            putString(hasher, describe(entry.getValue()));
+        }
+    }
+
+    /**
+     * @return the value as text, or its class for objects such as template lambdas which have no stable text
+     */
+    private static String describe(Object value) {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+            return String.valueOf(value);
+        }
+        if (value instanceof Map || value instanceof Collection) {
+            try {
+                return Json.mapper().writeValueAsString(value);
+            } catch (IOException | RuntimeException e) {
+                return value.getClass().getName();
+            }
+        }
+        return value.getClass().getName();
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        String string = String.valueOf(value);
+        hasher.putInt(string.length()).putString(string, StandardCharsets.UTF_8);
+    }
+
+    private static long hash(String value) {
+        return Hashing.sha256().hashString(value, StandardCharsets.UTF_8).asLong();
+    }
+}
@@ -0,0 +1,275 @@
+package io.swagger.codegen;
+
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the time spent in the phases of a generation and in each template, along with an estimate of the
+ * memory allocated meanwhile, and writes them as a JSON or CSV report.
+ *
+ * Timings are inclusive: a phase also counts the time of the phases and templates it runs. One profiler can be
+ * shared by several generations, each recording under its generator name (see {@link #forGenerator(String)}).
+ */
+public class GenerationProfiler {
+    public static final String PHASE = "phase";
+    public static final String TEMPLATE = "template";
+
+    private static final GenerationProfiler DISABLED = new GenerationProfiler(null, null);
+    private static final Sample NO_SAMPLE = new Sample(null, null, 0, 0);
+
+    private final ConcurrentMap<String, Stat> stats;
+    private final String generator;
+    private final com.sun.management.ThreadMXBean allocations;
+
+    public GenerationProfiler() {
+        this(new ConcurrentHashMap<String, Stat>(), null);
+    }
+
+    private GenerationProfiler(ConcurrentMap<String, Stat> stats, String generator) {
+        this.stats = stats;
+        this.generator = generator;
+        this.allocations = stats == null ? null : allocationBean();
+    }
+
+    /**
+     * @return a profiler which records nothing
+     */
+    public static GenerationProfiler disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return stats != null;
+    }
+
+    /**
+     * @param generator name of the generator
+     * @return a profiler recording under the generator name into the same report
+     */
+    public GenerationProfiler forGenerator(String generator) {
+        if (stats == null) {
+            return this;
+        }
+        return new GenerationProfiler(stats, generator);
+    }
+
+    /**
+     * Starts timing, stop the returned sample in a finally block.
+     *
+     * @param category {@link #PHASE} or {@link #TEMPLATE}
+     * @param name name of the phase or template
+     * @return the running sample
+     */
+    public Sample start(String category, String name) {
+        if (stats == null) {
+            return NO_SAMPLE;
+        }
+        return new Sample(this, category + '\u0000' + name, System.nanoTime(), allocatedBytes());
+    }
+
+    /**
+     * @return the recorded statistics, by generator and category, the slowest first
+     */
+    public List<Stat> getStats() {
+        if (stats == null) {
+            return Collections.emptyList();
+        }
+        List<Stat> result = new ArrayList<Stat>(stats.values());
+        Collections.sort(result, new Comparator<Stat>() {
+            @Override
+            public int compare(Stat one, Stat another) {
+                int compare = String.valueOf(one.generator).compareTo(String.valueOf(another.generator));
+                if (compare == 0) {
+                    compare = one.category.compareTo(another.category);
+                }
+                if (compare == 0) {
+                    compare = Long.compare(another.getTotalNanos(), one.getTotalNanos());
+                }
+                return compare;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Writes the report, as CSV if the file name ends with ".csv" and as JSON otherwise.
+     *
+     * @param file report file
+     * @throws IOException if the report can't be written
+     */
+    public void writeReport(File file) throws IOException {
+        if (file.getName().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            FileUtils.writeStringToFile(file, toCsv(), StandardCharsets.UTF_8);
+        } else {
+            Map<String, Object> report = new LinkedHashMap<String, Object>();
+            report.put("allocationsMeasured", allocations != null);
+            report.put("stats", getStats());
+            FileUtils.writeStringToFile(file, Json.pretty(report), StandardCharsets.UTF_8);
+        }
+    }
+
+    String toCsv() {
+        StringBuilder csv = new StringBuilder("generator,category,name,count,totalMillis,meanMillis,maxMillis,allocatedBytes\n");
+        for (Stat stat : getStats()) {
+            csv.append(csvValue(stat.generator)).append(',')
+                    .append(stat.category).append(',')
+                    .append(csvValue(stat.name)).append(',')
+                    .append(stat.getCount()).append(',')
+                    .append(stat.getTotalMillis()).append(',')
+                    .append(stat.getMeanMillis()).append(',')
+                    .append(stat.getMaxMillis()).append(',')
+                    .append(stat.getAllocatedBytes()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void record(String key, long nanos, long allocated) {
+        String generatorKey = generator + '\u0000' + key;
+        Stat stat = stats.get(generatorKey);
+        if (stat == null) {
+            int separator = key.indexOf('\u0000');
+            Stat created = new Stat(generator, key.substring(0, separator), key.substring(separator + 1));
+            stat = stats.putIfAbsent(generatorKey, created);
+            if (stat == null) {
+                stat = created;
+            }
+        }
+        stat.add(nanos, allocated);
+    }
+
+    private long allocatedBytes() {
+        return allocations == null ? 0 : allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+                if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                    return allocations;
+                }
+            }
+        } catch (LinkageError e) {
+            // not a HotSpot based JVM, allocations are not measured
+        }
+        return null;
+    }
+
+    /**
+     * A running measure, see {@link GenerationProfiler#start(String, String)}.
+     */
+    public static class Sample {
+        private final GenerationProfiler profiler;
+        private final String key;
+        private final long startNanos;
+        private final long startAllocated;
+
+        private Sample(GenerationProfiler profiler, String key, long startNanos, long startAllocated) {
+            this.profiler = profiler;
+            this.key = key;
+            this.startNanos = startNanos;
+            this.startAllocated = startAllocated;
+        }
+
+        public void stop() {
+            if (profiler != null) {
+                profiler.record(key, System.nanoTime() - startNanos, profiler.allocatedBytes() - startAllocated);
+            }
+        }
+    }
+
+    /**
+     * Timings and allocations of a phase or template.
+     */
+    public static class Stat {
+        private final String generator;
+        private final String category;
+        private final String name;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long allocatedBytes;
+
+        Stat(String generator, String category, String name) {
+            this.generator = generator;
+            this.category = category;
+            this.name = name;
+        }
+
+        synchronized void add(long nanos, long allocated) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            allocatedBytes += Math.max(allocated, 0);
+        }
+
+        public String getGenerator() {
+            return generator;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public synchronized double getTotalMillis() {
+            return millis(totalNanos);
+        }
+
+        public synchronized double getMeanMillis() {
+            return count == 0 ? 0 : millis(totalNanos / count);
+        }
+
+        public synchronized double getMaxMillis() {
+            return millis(maxNanos);
+        }
+
+        /**
+         * @return bytes allocated by the thread running the phase or template, 0 if it can't be measured
+         */
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1000.0) / 1000.0;
+        }
+    }
+}
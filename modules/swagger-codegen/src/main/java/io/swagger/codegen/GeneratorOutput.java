@@ -0,0 +1,31 @@
+package io.swagger.codegen;
+
+import java.io.IOException;
+
+/**
+ * Destination of the files written by a generator.
+ *
+ * File names are the ones computed by the {@link CodegenConfig}, i.e. paths under its output folder. Implementations
+ * decide where the contents end up: on disk ({@link FileGeneratorOutput}, the default), streamed into an archive
+ * ({@link ZipGeneratorOutput}), kept in memory ({@link InMemoryGeneratorOutput}) or written to any NIO file system
+ * ({@link FileSystemGeneratorOutput}). Writes may happen concurrently when rendering in parallel.
+ */
+public interface GeneratorOutput {
+
+    /**
+     * Writes a generated file, replacing any previous contents.
+     *
+     * @param filename path of the file under the output folder of the config
+     * @param contents contents of the file
+     * @throws IOException if the file can't be written
+     */
+    void write(String filename, byte[] contents) throws IOException;
+
+    /**
+     * Tells whether a file already exists in this output, used to honour skip-overwrite and to keep existing tests.
+     *
+     * @param filename path of the file under the output folder of the config
+     * @return {@code true} if the file exists
+     */
+    boolean exists(String filename);
+}
@@ -0,0 +1,56 @@
+package io.swagger.codegen;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps generated files in memory, keyed by their path relative to a root directory (usually the output folder
+ * of the config), so that a generation can be inspected or post-processed without touching the disk.
+ */
+public class InMemoryGeneratorOutput implements GeneratorOutput {
+    private final Path root;
+    private final SortedMap<String, byte[]> files = new TreeMap<String, byte[]>();
+
+    public InMemoryGeneratorOutput(File root) {
+        this.root = OutputPaths.root(root);
+    }
+
+    @Override
+    public synchronized void write(String filename, byte[] contents) {
+        files.put(OutputPaths.relativize(root, filename), contents);
+    }
+
+    @Override
+    public synchronized boolean exists(String filename) {
+        return files.containsKey(OutputPaths.relativize(root, filename));
+    }
+
+    /**
+     * @return generated files by relative path, sorted by path
+     */
+    public synchronized Map<String, byte[]> getFiles() {
+        return Collections.unmodifiableMap(new TreeMap<String, byte[]>(files));
+    }
+
+    /**
+     * @param path path relative to the root, with '/' separators
+     * @return contents of the file, or null if it was not generated
+     */
+    public synchronized byte[] getContents(String path) {
+        return files.get(path);
+    }
+
+    /**
+     * @param path path relative to the root, with '/' separators
+     * @return contents of the file as UTF-8 text, or null if it was not generated
+     */
+    public synchronized String getString(String path) {
+        byte[] contents = files.get(path);
+        return contents == null ? null : new String(contents, StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package io.swagger.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.models.*;
 import io.swagger.models.parameters.BodyParameter;
 import io.swagger.models.parameters.Parameter;
@@ -13,6 +14,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * @deprecated use instead the option flatten in SwaggerParser
@@ -28,11 +31,20 @@ public class InlineModelResolver {
     private boolean skipMatches;
     static Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
+    private static final Pattern INVALID_NAME_CHARACTERS = Pattern.compile("[^a-z_\\.A-Z0-9 ]");
+
     Map<String, Model> addedModels = new HashMap<String, Model>();
-    Map<String, String> generatedSignature = new HashMap<String, String>();
+    Map<ModelSignature, String> generatedSignature = new HashMap<ModelSignature, String>();
+
+    // suffix of the last name returned for a key, definitions are only added so the next free name can't be lower
+    private Map<String, Integer> nameCounters = new HashMap<String, Integer>();
+
+    // signature of the last matched model, added right after when there is no match
+    private ModelSignature lastSignature;
 
     public void flatten(Swagger swagger) {
         this.swagger = swagger;
+        this.nameCounters.clear();
 
         if (swagger.getDefinitions() == null) {
             swagger.setDefinitions(new HashMap<String, Model>());
@@ -252,38 +264,38 @@ public class InlineModelResolver {
         if (this.skipMatches) {
             return null;
         }
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
-        }
-        return null;
+        lastSignature = new ModelSignature(model);
+        return generatedSignature.get(lastSignature);
     }
 
     public void addGenerated(String name, Model model) {
-        generatedSignature.put(Json.pretty(model), name);
+        ModelSignature signature = lastSignature != null && lastSignature.model == model ? lastSignature : new ModelSignature(model);
+        lastSignature = null;
+        generatedSignature.put(signature, name);
     }
 
     public String uniqueName(String key) {
-        int count = 0;
-        boolean done = false;
-        key = key.replaceAll("[^a-z_\\.A-Z0-9 ]", ""); // FIXME: a parameter
-                                                       // should not be
-                                                       // assigned. Also declare
-                                                       // the methods parameters
-                                                       // as 'final'.
-        while (!done) {
+        key = INVALID_NAME_CHARACTERS.matcher(key).replaceAll(""); // FIXME: a parameter
+                                                                   // should not be
+                                                                   // assigned. Also declare
+                                                                   // the methods parameters
+                                                                   // as 'final'.
+        if (swagger.getDefinitions() == null) {
+            return key;
+        }
+        Integer last = nameCounters.get(key);
+        int count = last == null ? 0 : last;
+        while (true) {
             String name = key;
             if (count > 0) {
                 name = key + "_" + count;
             }
-            if (swagger.getDefinitions() == null) {
-                return name;
-            } else if (!swagger.getDefinitions().containsKey(name)) {
+            if (!swagger.getDefinitions().containsKey(name)) {
+                nameCounters.put(key, count);
                 return name;
             }
             count += 1;
         }
-        return key;
     }
 
     public void flattenProperties(Map<String, Property> properties, String path) {
@@ -534,4 +546,88 @@ public class InlineModelResolver {
         this.skipMatches = skipMatches;
     }
 
+    /**
+     * Structural signature of a generated model, two models having the same signature when they serialize to the same
+     * JSON, properties being compared in any order. The hash is computed once from the fields which are serialized,
+     * the JSON trees are only built to confirm a match when hashes are equal.
+     */
+    static final class ModelSignature {
+        private final Model model;
+        private final int hash;
+        private JsonNode tree;
+
+        ModelSignature(Model model) {
+            this.model = model;
+            this.hash = hash(model);
+        }
+
+        private JsonNode tree() {
+            if (tree == null) {
+                tree = Json.mapper().valueToTree(model);
+            }
+            return tree;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ModelSignature)) {
+                return false;
+            }
+            ModelSignature other = (ModelSignature) o;
+            return hash == other.hash && (model == other.model || tree().equals(other.tree()));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static int hash(Model model) {
+            if (model == null) {
+                return 0;
+            }
+            int hash = Objects.hash(model.getTitle(), model.getDescription(), hash(model.getProperties()));
+            if (model instanceof ModelImpl) {
+                hash = 31 * hash + Objects.hashCode(((ModelImpl) model).getType());
+            } else if (model instanceof ArrayModel) {
+                hash = 31 * hash + hash(((ArrayModel) model).getItems());
+            }
+            return hash;
+        }
+
+        private static int hash(Property property) {
+            if (property == null) {
+                return 0;
+            }
+            int hash = Objects.hash(property.getFormat(), property.getTitle(), property.getDescription());
+            if (property instanceof RefProperty) {
+                hash = 31 * hash + Objects.hashCode(((RefProperty) property).get$ref());
+            } else {
+                hash = 31 * hash + Objects.hashCode(property.getType());
+            }
+            if (property instanceof ObjectProperty) {
+                hash = 31 * hash + hash(((ObjectProperty) property).getProperties());
+            } else if (property instanceof ArrayProperty) {
+                hash = 31 * hash + hash(((ArrayProperty) property).getItems());
+            } else if (property instanceof MapProperty) {
+                hash = 31 * hash + hash(((MapProperty) property).getAdditionalProperties());
+            }
+            return hash;
+        }
+
+        private static int hash(Map<String, Property> properties) {
+            if (properties == null) {
+                return 0;
+            }
+            // sum of the entries, independent of their order
+            int hash = 0;
+            for (Map.Entry<String, Property> entry : properties.entrySet()) {
+                hash += entry.getKey().hashCode() ^ hash(entry.getValue());
+            }
+            return hash;
+        }
+    }
 }
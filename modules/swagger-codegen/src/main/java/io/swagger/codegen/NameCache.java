@@ -0,0 +1,55 @@
+package io.swagger.codegen;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded memoization of a naming function, e.g. {@link DefaultCodegen#camelize(String)}.
+ *
+ * The cache is cleared when it is full rather than evicting single entries, which keeps lookups lock-free
+ * for generations rendering in parallel. The names of a spec usually fit well within the bound.
+ */
+public class NameCache {
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final ConcurrentMap<String, String> names = new ConcurrentHashMap<String, String>();
+    private final int maxSize;
+
+    public NameCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public NameCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param name name passed to the naming function
+     * @return the cached result, or null if there is none
+     */
+    public String get(String name) {
+        return name == null ? null : names.get(name);
+    }
+
+    /**
+     * @param name name passed to the naming function
+     * @param result result of the naming function, not cached if null
+     */
+    public void put(String name, String result) {
+        if (name == null || result == null) {
+            return;
+        }
+        if (names.size() >= maxSize) {
+            names.clear();
+        }
+        names.put(name, result);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public void clear() {
+        names.clear();
+    }
+}
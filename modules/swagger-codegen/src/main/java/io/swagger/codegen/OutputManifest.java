@@ -0,0 +1,240 @@
+package io.swagger.codegen;
+
+import com.google.common.hash.Hashing;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Hashes of the files written by a generation, stored in .swagger-codegen/MANIFEST next to the VERSION file.
+ *
+ * Used by incremental generation to leave byte-identical outputs untouched, and to find outputs of a previous
+ * generation which are no longer generated.
+ */
+public class OutputManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutputManifest.class);
+
+    public static final String MANIFEST_FILE = ".swagger-codegen" + File.separator + "MANIFEST";
+
+    private final File outputDir;
+    private final Map<String, String> previous = new TreeMap<String, String>();
+    private final Map<String, String> current = new TreeMap<String, String>();
+    private final SortedSet<String> changed = new TreeSet<String>();
+    private final SortedSet<String> unchanged = new TreeSet<String>();
+    private final SortedSet<String> deleted = new TreeSet<String>();
+
+    public OutputManifest(File outputDir) {
+        this.outputDir = outputDir.getAbsoluteFile();
+    }
+
+    /**
+     * Loads the manifest of the previous generation in the given output directory, if there is one.
+     *
+     * @param outputDir output directory of the generation
+     * @return the manifest, empty if none was found
+     */
+    public static OutputManifest load(File outputDir) {
+        OutputManifest manifest = new OutputManifest(outputDir);
+        File manifestFile = new File(manifest.outputDir, MANIFEST_FILE);
+        if (manifestFile.isFile()) {
+            try {
+                for (String line : FileUtils.readLines(manifestFile, StandardCharsets.UTF_8)) {
+                    int separator = line.indexOf("  ");
+                    if (separator > 0) {
+                        manifest.previous.put(line.substring(separator + 2), line.substring(0, separator));
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read " + manifestFile + ", all files will be rewritten", e);
+                manifest.previous.clear();
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Records the new contents of an output file and tells whether it has to be written.
+     *
+     * @param file output file
+     * @param contents rendered contents
+     * @return {@code false} if the file on disk already has exactly these contents
+     */
+    public synchronized boolean needsWrite(File file, byte[] contents) {
+        String path = relativePath(file);
+        String hash = hash(contents);
+        current.put(path, hash);
+
+        // compared with the disk rather than the previous hash, the file may have been edited since
+        boolean same = file.isFile() && file.length() == contents.length && Arrays.equals(contents, readFile(file));
+
+        if (same) {
+            unchanged.add(path);
+        } else {
+            changed.add(path);
+        }
+        return !same;
+    }
+
+    /**
+     * Keeps the entry of a file which was deliberately not rewritten (skip overwrite, ignore rules, ...).
+     *
+     * @param file output file
+     */
+    public synchronized void retain(File file) {
+        String path = relativePath(file);
+        if (!current.containsKey(path) && previous.containsKey(path) && file.exists()) {
+            current.put(path, previous.get(path));
+        }
+    }
+
+    /**
+     * Keeps the entry of a file which was not rendered again as its inputs are unchanged.
+     *
+     * @param file output file
+     * @return {@code false} if the file was generated before and was deleted or modified since, so it has to be
+     * rendered again
+     */
+    public synchronized boolean keep(File file) {
+        String path = relativePath(file);
+        String hash = previous.get(path);
+        if (hash == null) {
+            // not generated before, e.g. due to ignore rules
+            return true;
+        }
+        if (!file.isFile() || !hash.equals(hash(readFile(file)))) {
+            return false;
+        }
+        current.put(path, hash);
+        unchanged.add(path);
+        return true;
+    }
+
+    /**
+     * Keeps the entries of all previously generated files when none of the inputs of the generation changed.
+     *
+     * @return the previously generated files, or null if there are none or one of them was deleted or modified
+     * since, in which case nothing is kept
+     */
+    public synchronized List<File> keepAll() {
+        if (previous.isEmpty()) {
+            return null;
+        }
+        List<File> files = new ArrayList<File>();
+        for (Map.Entry<String, String> entry : previous.entrySet()) {
+            File file = new File(outputDir, entry.getKey());
+            if (!file.isFile() || !entry.getValue().equals(hash(readFile(file)))) {
+                return null;
+            }
+            files.add(file);
+        }
+        current.putAll(previous);
+        unchanged.addAll(previous.keySet());
+        return files;
+    }
+
+    /**
+     * Keeps the entries of all previously generated files, e.g. after a generation of selected files only.
+     */
+    public synchronized void retainAll() {
+        for (Map.Entry<String, String> entry : previous.entrySet()) {
+            if (!current.containsKey(entry.getKey()) && new File(outputDir, entry.getKey()).exists()) {
+                current.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Deletes previously generated files in the given folders which were not generated again. Files modified
+     * since they were generated are kept on disk and only dropped from the manifest, files outside the given
+     * folders are kept in the manifest.
+     *
+     * @param folders folders holding per model and per api outputs
+     * @return the deleted files
+     */
+    public synchronized List<File> deleteStale(Collection<String> folders) {
+        List<String> prefixes = new ArrayList<String>();
+        for (String folder : folders) {
+            prefixes.add(relativePath(new File(folder)) + "/");
+        }
+        List<File> files = new ArrayList<File>();
+        for (Map.Entry<String, String> entry : previous.entrySet()) {
+            if (current.containsKey(entry.getKey())) {
+                continue;
+            }
+            File file = new File(outputDir, entry.getKey());
+            if (!startsWithAny(entry.getKey(), prefixes)) {
+                if (file.exists()) {
+                    current.put(entry.getKey(), entry.getValue());
+                }
+            } else if (file.isFile() && entry.getValue().equals(hash(readFile(file)))) {
+                if (file.delete()) {
+                    LOGGER.info("deleted stale file " + file);
+                    deleted.add(entry.getKey());
+                    files.add(file);
+                }
+            } else if (file.exists()) {
+                LOGGER.info("Kept stale file " + file + " as it was modified after generation");
+            }
+        }
+        return files;
+    }
+
+    public synchronized void save() throws IOException {
+        List<String> lines = new ArrayList<String>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            lines.add(entry.getValue() + "  " + entry.getKey());
+        }
+        FileUtils.writeLines(new File(outputDir, MANIFEST_FILE), StandardCharsets.UTF_8.name(), lines, "\n");
+    }
+
+    public synchronized SortedSet<String> getChanged() {
+        return Collections.unmodifiableSortedSet(new TreeSet<String>(changed));
+    }
+
+    public synchronized SortedSet<String> getUnchanged() {
+        return Collections.unmodifiableSortedSet(new TreeSet<String>(unchanged));
+    }
+
+    public synchronized SortedSet<String> getDeleted() {
+        return Collections.unmodifiableSortedSet(new TreeSet<String>(deleted));
+    }
+
+    private String relativePath(File file) {
+        String path = outputDir.toPath().normalize().relativize(file.getAbsoluteFile().toPath().normalize()).toString();
+        return path.replace(File.separatorChar, '/');
+    }
+
+    private static boolean startsWithAny(String path, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] readFile(File file) {
+        try {
+            return FileUtils.readFileToByteArray(file);
+        } catch (IOException e) {
+            return new byte[0];
+        }
+    }
+
+    private static String hash(byte[] contents) {
+        return Hashing.sha256().hashBytes(contents).toString();
+    }
+}
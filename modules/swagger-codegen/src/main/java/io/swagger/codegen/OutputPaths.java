@@ -0,0 +1,32 @@
+package io.swagger.codegen;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * Maps the file names computed by a config to paths relative to a root directory, for outputs which are not
+ * written to the local file system.
+ */
+final class OutputPaths {
+
+    private OutputPaths() {
+    }
+
+    static Path root(File root) {
+        return root.getAbsoluteFile().toPath().normalize();
+    }
+
+    /**
+     * @param root normalized absolute root directory
+     * @param filename file name under the root
+     * @return path relative to the root, with '/' separators
+     * @throws IllegalArgumentException if the file is not under the root
+     */
+    static String relativize(Path root, String filename) {
+        Path path = new File(filename).getAbsoluteFile().toPath().normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException(filename + " is outside of " + root);
+        }
+        return root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,93 @@
+package io.swagger.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds compiled Mustache templates, and the sources of the partials they pull in, so that each template
+ * is read and compiled once instead of once per generated file.
+ *
+ * Compiled templates are keyed by the template search path (the generator and config classes, library and
+ * template dirs) and the resolved template path. Partials are resolved lazily through the loader of the
+ * generation that compiled the template, so everything that affects that resolution has to be part of the key
+ * for a single instance to be safe to share between generations with different configs.
+ */
+public class TemplateCache {
+    private final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<String, Template>();
+    private final ConcurrentMap<String, String> sources = new ConcurrentHashMap<String, String>();
+
+    /**
+     * Returns the compiled template for an already resolved template file, compiling it on first use.
+     *
+     * @param generator generator used to resolve and read template files
+     * @param config Codegen config
+     * @param templateFile resolved template file (see {@link AbstractGenerator#getFullTemplateFile})
+     * @return compiled template
+     */
+    public Template getTemplate(final AbstractGenerator generator, final CodegenConfig config, final String templateFile) {
+        final String key = templateKey(generator, config, templateFile);
+        Template template = templates.get(key);
+        if (template != null) {
+            return template;
+        }
+
+        Mustache.Compiler compiler = Mustache.compiler();
+        compiler = config.processCompiler(compiler);
+        template = compiler
+                .withLoader(new Mustache.TemplateLoader() {
+                    @Override
+                    public Reader getTemplate(String name) {
+                        return new StringReader(getSource(generator, generator.getFullTemplateFile(config, name + ".mustache")));
+                    }
+                })
+                .defaultValue("")
+                .compile(getSource(generator, templateFile));
+
+        Template existing = templates.putIfAbsent(key, template);
+        return existing != null ? existing : template;
+    }
+
+    /**
+     * Returns the contents of a resolved template file, reading it on first use.
+     *
+     * @param generator generator used to read template files
+     * @param templateFile resolved template file
+     * @return template source
+     */
+    public String getSource(AbstractGenerator generator, String templateFile) {
+        String source = sources.get(templateFile);
+        if (source == null) {
+            source = generator.readTemplate(templateFile);
+            String existing = sources.putIfAbsent(templateFile, source);
+            if (existing != null) {
+                source = existing;
+            }
+        }
+        return source;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+        sources.clear();
+    }
+
+    private static String templateKey(AbstractGenerator generator, CodegenConfig config, String templateFile) {
+        return generator.getClass().getName() + File.pathSeparator
+                + config.getClass().getName() + File.pathSeparator
+                + StringUtils.defaultString(config.getLibrary()) + File.pathSeparator
+                + StringUtils.defaultString(config.templateDir()) + File.pathSeparator
+                + StringUtils.defaultString(config.embeddedTemplateDir()) + File.pathSeparator
+                + templateFile;
+    }
+}
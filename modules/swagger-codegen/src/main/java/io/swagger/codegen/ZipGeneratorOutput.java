@@ -0,0 +1,79 @@
+package io.swagger.codegen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes generated files into a zip archive, without writing them to disk.
+ *
+ * Entry names are the file paths relative to a root directory, e.g. the parent of the output folder to get the
+ * output folder as top level directory of the archive. As entries can't be replaced once written to the stream,
+ * files are kept until {@link #finish()} so that a file written twice keeps its last contents, like on disk.
+ * The stream is finished but not closed by this class.
+ */
+public class ZipGeneratorOutput implements GeneratorOutput {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipGeneratorOutput.class);
+
+    private final Path root;
+    private final ZipOutputStream zip;
+    private final Map<String, byte[]> entries = new LinkedHashMap<String, byte[]>();
+    private boolean finished;
+
+    public ZipGeneratorOutput(File root, ZipOutputStream zip) {
+        this.root = OutputPaths.root(root);
+        this.zip = zip;
+    }
+
+    @Override
+    public synchronized void write(String filename, byte[] contents) throws IOException {
+        if (finished) {
+            throw new IOException("Zip archive already finished, can't write " + filename);
+        }
+        String entry = entryName(filename);
+        if (entries.put(entry, contents) != null) {
+            LOGGER.warn("Replaced duplicate zip entry " + entry);
+        }
+    }
+
+    @Override
+    public synchronized boolean exists(String filename) {
+        return entries.containsKey(entryName(filename));
+    }
+
+    /**
+     * Writes the entries, in the order their files were first written, and finishes the zip stream.
+     *
+     * @throws IOException if the archive can't be written
+     */
+    public synchronized void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            zip.putNextEntry(new ZipEntry(entry.getKey()));
+            zip.write(entry.getValue());
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+    /**
+     * @return number of entries written so far, duplicates counted once
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private String entryName(String filename) {
+        return OutputPaths.relativize(root, filename);
+    }
+}
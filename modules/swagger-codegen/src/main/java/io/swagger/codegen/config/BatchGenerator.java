@@ -0,0 +1,265 @@
+package io.swagger.codegen.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.TemplateCache;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the generation jobs of a manifest in one JVM, shared by the CLI and the Maven plugin. Jobs run concurrently
+ * on a bounded pool and share the spec documents ({@link SpecDocumentCache}) and the compiled templates.
+ *
+ * A manifest is a JSON or YAML file such as:
+ * <pre>
+ * defaults:
+ *   apiPackage: com.example.api
+ * jobs:
+ *   - inputSpec: specs/pets.yaml
+ *     lang: [java, python]
+ *     outputDir: generated/pets-{lang}
+ *   - inputSpec: specs/store.yaml
+ *     lang: go
+ *     outputDir: generated/store
+ * </pre>
+ * Jobs take the options of configuration files (see {@link CodegenConfigurator#fromFile(String)}), on top of the
+ * optional defaults. A job listing several languages is run once per language, {lang} being replaced in its
+ * output dir. Relative paths are resolved against the directory of the manifest.
+ */
+public class BatchGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchGenerator.class);
+
+    public static final String LANG_PLACEHOLDER = "{lang}";
+
+    private static final String[] PATH_OPTIONS = {"outputDir", "templateDir", "ignoreFileOverride"};
+
+    private final int threads;
+    private final SpecDocumentCache specCache;
+    private final TemplateCache templateCache = new TemplateCache();
+
+    /**
+     * @param threads maximum number of jobs running at the same time
+     */
+    public BatchGenerator(int threads) {
+        this(threads, new SpecDocumentCache());
+    }
+
+    /**
+     * @param threads maximum number of jobs running at the same time
+     * @param specCache spec documents shared with other generations
+     */
+    public BatchGenerator(int threads, SpecDocumentCache specCache) {
+        this.threads = Math.max(1, threads);
+        this.specCache = specCache;
+    }
+
+    /**
+     * @param manifest JSON (.json) or YAML manifest
+     * @return the jobs of the manifest, in order
+     * @throws IOException if the manifest can't be read or a job is invalid
+     */
+    public static List<CodegenConfigurator> readManifest(File manifest) throws IOException {
+        ObjectMapper mapper = manifest.getName().toLowerCase(Locale.ROOT).endsWith(".json") ? Json.mapper() : Yaml.mapper();
+        JsonNode root = mapper.readTree(manifest);
+        if (root == null || !root.path("jobs").isArray()) {
+            throw new IOException("Manifest " + manifest + " has no jobs list");
+        }
+        JsonNode defaults = root.path("defaults");
+        File baseDir = manifest.getAbsoluteFile().getParentFile();
+
+        List<CodegenConfigurator> jobs = new ArrayList<CodegenConfigurator>();
+        for (JsonNode job : root.get("jobs")) {
+            if (!job.isObject()) {
+                throw new IOException("Jobs of manifest " + manifest + " must be objects");
+            }
+            ObjectNode merged = defaults.isObject() ? ((ObjectNode) defaults).deepCopy() : Json.mapper().createObjectNode();
+            merged.setAll((ObjectNode) job);
+            for (ObjectNode expanded : expandLanguages(merged)) {
+                resolvePaths(expanded, baseDir);
+                try {
+                    jobs.add(Json.mapper().convertValue(expanded, CodegenConfigurator.class));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Invalid job " + expanded + " in manifest " + manifest + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Runs the jobs and waits for all of them, a failed job does not stop the others.
+     *
+     * @param jobs generations to run
+     * @return the results, in the order of the jobs
+     */
+    public List<Result> generate(List<CodegenConfigurator> jobs) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, jobs.size())));
+        try {
+            List<Future<Result>> futures = new ArrayList<Future<Result>>(jobs.size());
+            for (int i = 0; i < jobs.size(); i++) {
+                final int index = i;
+                final CodegenConfigurator job = jobs.get(i);
+                futures.add(executor.submit(new Callable<Result>() {
+                    @Override
+                    public Result call() {
+                        return run(index, job);
+                    }
+                }));
+            }
+            List<Result> results = new ArrayList<Result>(jobs.size());
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the generation jobs", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Generation job failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result run(int index, CodegenConfigurator job) {
+        long start = System.currentTimeMillis();
+        try {
+            job.setSpecCache(specCache);
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.setTemplateCache(templateCache);
+            List<File> files = generator.opts(job.toClientOptInput()).generate();
+            return new Result(index, job, files.size(), null, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            LOGGER.error("Generation job " + (index + 1) + " (" + job.getLang() + ", " + job.getInputSpec() + ") failed", e);
+            String error = e.getMessage() != null ? e.getMessage() : e.toString();
+            return new Result(index, job, 0, error, System.currentTimeMillis() - start);
+        }
+    }
+
+    private static List<ObjectNode> expandLanguages(ObjectNode job) throws IOException {
+        JsonNode langs = job.get("lang");
+        if (langs == null || !langs.isArray()) {
+            return Collections.singletonList(job);
+        }
+        String outputDir = job.path("outputDir").asText(null);
+        if (langs.size() > 1 && (outputDir == null || !outputDir.contains(LANG_PLACEHOLDER))) {
+            throw new IOException("The outputDir of a job with several languages must contain " + LANG_PLACEHOLDER + ": " + job);
+        }
+        List<ObjectNode> jobs = new ArrayList<ObjectNode>(langs.size());
+        for (JsonNode lang : langs) {
+            ObjectNode expanded = job.deepCopy();
+            expanded.put("lang", lang.asText());
+            if (outputDir != null) {
+                expanded.put("outputDir", outputDir.replace(LANG_PLACEHOLDER, lang.asText()));
+            }
+            jobs.add(expanded);
+        }
+        return jobs;
+    }
+
+    private static void resolvePaths(ObjectNode job, File baseDir) {
+        for (String option : PATH_OPTIONS) {
+            JsonNode path = job.get(option);
+            if (path != null && path.isTextual()) {
+                job.put(option, resolve(baseDir, path.asText()));
+            }
+        }
+        JsonNode spec = job.get("inputSpec");
+        if (spec != null && spec.isTextual() && !spec.asText().contains("://") && !spec.asText().startsWith("file:")) {
+            job.put("inputSpec", resolve(baseDir, spec.asText()));
+        }
+    }
+
+    private static String resolve(File baseDir, String path) {
+        if (path.isEmpty() || new File(path).isAbsolute()) {
+            return path;
+        }
+        return new File(baseDir, path).getPath();
+    }
+
+    /**
+     * Outcome of a job.
+     */
+    public static class Result {
+        private final int index;
+        private final String lang;
+        private final String inputSpec;
+        private final String outputDir;
+        private final int fileCount;
+        private final String error;
+        private final long millis;
+
+        Result(int index, CodegenConfigurator job, int fileCount, String error, long millis) {
+            this.index = index;
+            this.lang = job.getLang();
+            this.inputSpec = job.getInputSpec();
+            this.outputDir = job.getOutputDir();
+            this.fileCount = fileCount;
+            this.error = error;
+            this.millis = millis;
+        }
+
+        /**
+         * @return position of the job in the manifest, after the expansion of languages
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getLang() {
+            return lang;
+        }
+
+        public String getInputSpec() {
+            return inputSpec;
+        }
+
+        public String getOutputDir() {
+            return outputDir;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        public int getFileCount() {
+            return fileCount;
+        }
+
+        /**
+         * @return message of the failure, null if the job succeeded
+         */
+        public String getError() {
+            return error;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        @Override
+        public String toString() {
+            String job = "#" + (index + 1) + " " + lang + " " + inputSpec + " -> " + outputDir;
+            if (error != null) {
+                return job + " FAILED in " + millis + " ms: " + error;
+            }
+            return job + " (" + fileCount + " files, " + millis + " ms)";
+        }
+    }
+}
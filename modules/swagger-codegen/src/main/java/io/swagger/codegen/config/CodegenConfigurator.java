@@ -2,12 +2,14 @@ package io.swagger.codegen.config;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.GenerationProfiler;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
@@ -59,6 +61,11 @@ public class CodegenConfigurator implements Serializable {
     private String artifactVersion;
     private String library;
     private String ignoreFileOverride;
+    private int generationThreads = 1;
+    private boolean incremental;
+    private boolean lowMemory;
+    private GenerationProfiler profiler;
+    private SpecDocumentCache specCache;
     private Map<String, String> systemProperties = new HashMap<String, String>();
     private Map<String, String> instantiationTypes = new HashMap<String, String>();
     private Map<String, String> typeMappings = new HashMap<String, String>();
@@ -385,14 +392,66 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public int getGenerationThreads() {
+        return generationThreads;
+    }
+
+    public CodegenConfigurator setGenerationThreads(int generationThreads) {
+        this.generationThreads = generationThreads;
+        return this;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public CodegenConfigurator setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    public boolean isLowMemory() {
+        return lowMemory;
+    }
+
+    public CodegenConfigurator setLowMemory(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+        return this;
+    }
+
+    @JsonIgnore
+    public GenerationProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * @param profiler records the timings of the parsing and of the generation, may be null
+     * @return this configurator
+     */
+    public CodegenConfigurator setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+        return this;
+    }
+
+    @JsonIgnore
+    public SpecDocumentCache getSpecCache() {
+        return specCache;
+    }
+
+    /**
+     * @param specCache spec documents shared with other generations, may be null to read the spec
+     * @return this configurator
+     */
+    public CodegenConfigurator setSpecCache(SpecDocumentCache specCache) {
+        this.specCache = specCache;
+        return this;
+    }
+
     public ClientOptInput toClientOptInput() {
 
         Validate.notEmpty(lang, "language must be specified");
         Validate.notEmpty(inputSpec, "input spec must be specified");
 
-        setVerboseFlags();
-        setSystemProperties();
-
         CodegenConfig config = CodegenConfigLoader.forName(lang);
 
         config.setInputSpec(inputSpec);
@@ -431,13 +490,29 @@ public class CodegenConfigurator implements Serializable {
         config.additionalProperties().putAll(additionalProperties);
 
         ClientOptInput input = new ClientOptInput()
-                .config(config);
+                .config(config)
+                .systemProperties(generationSystemProperties())
+                .generationThreads(generationThreads)
+                .incremental(incremental)
+                .lowMemory(lowMemory)
+                .profiler(profiler);
 
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
         parseOptions.setFlatten(true);
-        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, parseOptions);
+        GenerationProfiler.Sample sample = (profiler != null ? profiler.forGenerator(config.getName())
+                : GenerationProfiler.disabled()).start(GenerationProfiler.PHASE, "parse");
+        Swagger swagger;
+        try {
+            if (specCache != null) {
+                swagger = specCache.read(inputSpec, authorizationValues, parseOptions);
+            } else {
+                swagger = new SwaggerParser().read(inputSpec, authorizationValues, parseOptions);
+            }
+        } finally {
+            sample.stop();
+        }
 
         input.opts(new ClientOpts())
                 .swagger(swagger);
@@ -468,26 +543,23 @@ public class CodegenConfigurator implements Serializable {
         }
     }
 
-    private void setVerboseFlags() {
-        if (!verbose) {
-            return;
-        }
-        LOGGER.info("\nVERBOSE MODE: ON. Additional debug options are injected" +
-                "\n - [debugSwagger] prints the swagger specification as interpreted by the codegen" +
-                "\n - [debugModels] prints models passed to the template engine" +
-                "\n - [debugOperations] prints operations passed to the template engine" +
-                "\n - [debugSupportingFiles] prints additional data passed to the template engine");
-
-        System.setProperty("debugSwagger", "");
-        System.setProperty("debugModels", "");
-        System.setProperty("debugOperations", "");
-        System.setProperty("debugSupportingFiles", "");
-    }
+    private Map<String, String> generationSystemProperties() {
+        Map<String, String> properties = new HashMap<String, String>();
+        if (verbose) {
+            LOGGER.info("\nVERBOSE MODE: ON. Additional debug options are injected" +
+                    "\n - [debugSwagger] prints the swagger specification as interpreted by the codegen" +
+                    "\n - [debugModels] prints models passed to the template engine" +
+                    "\n - [debugOperations] prints operations passed to the template engine" +
+                    "\n - [debugSupportingFiles] prints additional data passed to the template engine");
 
-    private void setSystemProperties() {
-        for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
-            System.setProperty(entry.getKey(), entry.getValue());
+            properties.put("debugSwagger", "");
+            properties.put("debugModels", "");
+            properties.put("debugOperations", "");
+            properties.put("debugSupportingFiles", "");
         }
+        // passed to the generation rather than set on the JVM, so that concurrent generations don't share them
+        properties.putAll(systemProperties);
+        return properties;
     }
 
     private static String toAbsolutePathStr(String path) {
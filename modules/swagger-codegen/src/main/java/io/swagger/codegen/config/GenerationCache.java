@@ -0,0 +1,331 @@
+package io.swagger.codegen.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigRegistry;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.codegen.utils.SpecFileUtils;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A persistent cache of complete generations, shared by the CLI and the Maven plugin.
+ *
+ * An entry is keyed by the hash of everything a generation depends on: the spec and the local files it
+ * references, the generator name and version, the jars of the generator, the contents of the template dir and
+ * ignore file, and the effective configuration. On a hit the generation is skipped, and outputs which are missing
+ * or differ from the stored ones are restored from the cache.
+ */
+public class GenerationCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationCache.class);
+
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+
+    private static final String MANIFEST = "MANIFEST";
+    private static final String FILES = "files";
+
+    // generation switches which may also be set on the JVM, when the configurator does not set them
+    private static final List<String> SYSTEM_PROPERTIES = Arrays.asList(CodegenConstants.APIS, CodegenConstants.MODELS,
+            CodegenConstants.SUPPORTING_FILES, CodegenConstants.MODEL_TESTS, CodegenConstants.MODEL_DOCS,
+            CodegenConstants.API_TESTS, CodegenConstants.API_DOCS, CodegenConstants.WITH_XML,
+            CodegenConstants.GENERATE_APIS, CodegenConstants.GENERATE_MODELS);
+
+    private final File cacheDir;
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    public GenerationCache(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    public static File defaultDirectory() {
+        return new File(System.getProperty("user.home"), ".swagger-codegen" + File.separator + "cache");
+    }
+
+    public GenerationCache maxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Computes the cache key of a generation.
+     *
+     * @param configurator configuration of the generation
+     * @param extraInputs additional inputs applied outside of the configurator, may be null
+     * @return the key, or null if the generation can't be cached (e.g. the spec is a remote URL)
+     * @throws IOException if an input can't be read
+     */
+    public String key(CodegenConfigurator configurator, Object extraInputs) throws IOException {
+        String key = inputsKey(configurator, extraInputs);
+        if (key == null) {
+            LOGGER.info("Generation cache is not used for remote spec " + configurator.getInputSpec());
+        }
+        return key;
+    }
+
+    /**
+     * Computes the hash of the inputs of a generation, see {@link #key(CodegenConfigurator, Object)}.
+     *
+     * @param configurator configuration of the generation
+     * @param extraInputs additional inputs applied outside of the configurator, may be null
+     * @return the hash, or null if the spec is a remote URL
+     * @throws IOException if an input can't be read
+     */
+    public static String inputsKey(CodegenConfigurator configurator, Object extraInputs) throws IOException {
+        return inputsKey(configurator, extraInputs, inputFilesHash(configurator));
+    }
+
+    /**
+     * Computes the hash of the inputs of a generation from the hash of its input files, e.g. the one recorded by
+     * the last run when the build tool tells that none of the files changed since.
+     *
+     * @param configurator configuration of the generation
+     * @param extraInputs additional inputs applied outside of the configurator, may be null
+     * @param inputFilesHash hash of the input files, see {@link #inputFilesHash(CodegenConfigurator)}
+     * @return the hash, or null if the hash of the input files is null
+     * @throws IOException if the configuration can't be serialized
+     */
+    public static String inputsKey(CodegenConfigurator configurator, Object extraInputs, String inputFilesHash)
+            throws IOException {
+        if (inputFilesHash == null) {
+            return null;
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, configurator.getLang());
+        putString(hasher, ImplementationVersion.read());
+        putString(hasher, ImplementationVersion.codeSources(generatorClass(configurator)));
+        putString(hasher, inputFilesHash);
+
+        Map<String, String> systemProperties = new TreeMap<String, String>();
+        for (String property : SYSTEM_PROPERTIES) {
+            if (!configurator.getSystemProperties().containsKey(property)) {
+                systemProperties.put(property, System.getProperty(property));
+            }
+        }
+        ObjectMapper mapper = Json.mapper().copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        putString(hasher, mapper.writeValueAsString(configurator));
+        putString(hasher, mapper.writeValueAsString(systemProperties));
+        putString(hasher, mapper.writeValueAsString(extraInputs));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Computes the hash of the contents of the files a generation reads, see {@link #inputFiles(CodegenConfigurator)}.
+     *
+     * @param configurator configuration of the generation
+     * @return the hash, or null if the spec is a remote URL
+     * @throws IOException if an input can't be read
+     */
+    public static String inputFilesHash(CodegenConfigurator configurator) throws IOException {
+        List<File> files = inputFiles(configurator);
+        if (files == null) {
+            return null;
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        File ignoreFile = ignoreFile(configurator);
+        for (File file : files) {
+            if (!file.equals(ignoreFile)) {
+                putFile(hasher, file);
+            }
+        }
+        putIgnoreRules(hasher, ignoreFile);
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Lists the files a generation reads: the spec and the local files it references, the files of the template dir
+     * and the ignore file.
+     *
+     * @param configurator configuration of the generation
+     * @return the existing input files, or null if the spec is a remote URL
+     * @throws IOException if the spec can't be read
+     */
+    public static List<File> inputFiles(CodegenConfigurator configurator) throws IOException {
+        File spec = SpecFileUtils.toLocalFile(configurator.getInputSpec());
+        if (spec == null) {
+            return null;
+        }
+        List<File> files = new ArrayList<File>(SpecFileUtils.collectLocalFiles(spec));
+        if (configurator.getTemplateDir() != null) {
+            files.addAll(listFiles(new File(configurator.getTemplateDir())));
+        }
+        File ignoreFile = ignoreFile(configurator);
+        if (ignoreFile.isFile()) {
+            files.add(ignoreFile);
+        }
+        return files;
+    }
+
+    /**
+     * Restores the outputs of a cached generation.
+     *
+     * @param key cache key
+     * @param outputDir output directory of the generation
+     * @return {@code true} on a cache hit, in which case the output directory holds the cached outputs
+     */
+    public boolean restore(String key, File outputDir) {
+        File entry = new File(cacheDir, key);
+        File manifest = new File(entry, MANIFEST);
+        if (!manifest.isFile()) {
+            return false;
+        }
+        try {
+            int restored = 0;
+            for (String line : FileUtils.readLines(manifest, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf("  ");
+                String hash = line.substring(0, separator);
+                String path = line.substring(separator + 2);
+                File target = new File(outputDir, path);
+                if (target.isFile() && hash.equals(hash(target))) {
+                    continue;
+                }
+                FileUtils.copyFile(new File(entry, FILES + File.separator + path), target);
+                restored++;
+            }
+            entry.setLastModified(System.currentTimeMillis());
+            LOGGER.info("Generation cache hit " + key + ", " + restored + " file(s) restored");
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to restore cached generation " + key + ", generating instead", e);
+            return false;
+        }
+    }
+
+    /**
+     * Stores the outputs of a generation.
+     *
+     * @param key cache key
+     * @param outputDir output directory of the generation
+     * @param files files written by the generation
+     */
+    public void store(String key, File outputDir, Collection<File> files) {
+        Map<String, File> outputs = new TreeMap<String, File>();
+        for (File file : files) {
+            if (!file.isFile()) {
+                continue;
+            }
+            String path = outputDir.getAbsoluteFile().toPath().normalize()
+                    .relativize(file.getAbsoluteFile().toPath().normalize()).toString();
+            if (path.startsWith("..")) {
+                LOGGER.info("Generation is not cached as " + file + " is outside of " + outputDir);
+                return;
+            }
+            outputs.put(path.replace(File.separatorChar, '/'), file);
+        }
+
+        File entry = new File(cacheDir, key);
+        File tmp = new File(cacheDir, key + "." + System.nanoTime() + ".tmp");
+        try {
+            List<String> lines = new ArrayList<String>();
+            for (Map.Entry<String, File> output : outputs.entrySet()) {
+                FileUtils.copyFile(output.getValue(), new File(tmp, FILES + File.separator + output.getKey()));
+                lines.add(hash(output.getValue()) + "  " + output.getKey());
+            }
+            FileUtils.writeLines(new File(tmp, MANIFEST), StandardCharsets.UTF_8.name(), lines, "\n");
+            if (!entry.exists()) {
+                Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to store generation in cache " + cacheDir, e);
+        } finally {
+            FileUtils.deleteQuietly(tmp);
+        }
+        prune();
+    }
+
+    private void prune() {
+        File[] entries = cacheDir.listFiles();
+        if (entries == null || entries.length <= maxEntries) {
+            return;
+        }
+        Arrays.sort(entries, new Comparator<File>() {
+            @Override
+            public int compare(File one, File another) {
+                return Long.compare(another.lastModified(), one.lastModified());
+            }
+        });
+        for (int i = maxEntries; i < entries.length; i++) {
+            FileUtils.deleteQuietly(entries[i]);
+        }
+    }
+
+    private static List<File> listFiles(File dir) {
+        List<File> files = new ArrayList<File>(FileUtils.listFiles(dir, null, true));
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * @return the class of the generator of the configuration, or null if there is no such generator
+     */
+    private static Class<?> generatorClass(CodegenConfigurator configurator) {
+        CodegenConfig prototype = CodegenConfigRegistry.getInstance().getPrototype(configurator.getLang());
+        if (prototype != null) {
+            return prototype.getClass();
+        }
+        try {
+            return Class.forName(configurator.getLang());
+        } catch (ClassNotFoundException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static File ignoreFile(CodegenConfigurator configurator) {
+        return configurator.getIgnoreFileOverride() != null ? new File(configurator.getIgnoreFileOverride())
+                : new File(configurator.getOutputDir(), ".swagger-codegen-ignore");
+    }
+
+    /**
+     * Only the rules of the ignore file are hashed: the file generated by default holds comments only, and
+     * generations before and after it was written have the same key.
+     */
+    private static void putIgnoreRules(Hasher hasher, File ignoreFile) throws IOException {
+        if (!ignoreFile.isFile()) {
+            return;
+        }
+        for (String line : FileUtils.readLines(ignoreFile, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty() && !line.startsWith("#")) {
+                putString(hasher, line);
+            }
+        }
+    }
+
+    private static void putFile(Hasher hasher, File file) throws IOException {
+        putString(hasher, file.getAbsolutePath());
+        byte[] contents = FileUtils.readFileToByteArray(file);
+        hasher.putInt(contents.length).putBytes(contents);
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        String string = String.valueOf(value);
+        hasher.putInt(string.length()).putString(string, StandardCharsets.UTF_8);
+    }
+
+    private static String hash(File file) throws IOException {
+        return Hashing.sha256().hashBytes(FileUtils.readFileToByteArray(file)).toString();
+    }
+}
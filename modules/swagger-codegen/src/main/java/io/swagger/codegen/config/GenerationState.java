@@ -0,0 +1,130 @@
+package io.swagger.codegen.config;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Inputs and outputs of the last run of a generation, used by build tools to skip generations which are up to date.
+ *
+ * The inputs are summarized by a key such as {@link GenerationCache#inputsKey(CodegenConfigurator, Object)}, the
+ * outputs by their size and modification time. A generation is up to date while its key is the same and none of its
+ * outputs was modified or deleted since it ran.
+ *
+ * The hash of the input files is recorded as well, build tools which track changes of files reuse it instead of
+ * reading the files again while none of them changed.
+ */
+public class GenerationState {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationState.class);
+
+    private static final String KEY_PREFIX = "key ";
+    private static final String INPUT_FILES_PREFIX = "input-files ";
+
+    private final File stateFile;
+
+    /**
+     * @param stateFile file holding the state, one per generation (e.g. per execution of the Maven plugin)
+     */
+    public GenerationState(File stateFile) {
+        this.stateFile = stateFile;
+    }
+
+    /**
+     * @param key key of the inputs of the generation
+     * @return {@code true} if the last run had the same key and its outputs are unchanged
+     */
+    public boolean isUpToDate(String key) {
+        if (key == null || !stateFile.isFile()) {
+            return false;
+        }
+        try {
+            List<String> lines = FileUtils.readLines(stateFile, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.get(0).equals(KEY_PREFIX + key)) {
+                return false;
+            }
+            for (String line : lines.subList(1, lines.size())) {
+                if (line.startsWith(INPUT_FILES_PREFIX)) {
+                    continue;
+                }
+                String[] output = line.split(" ", 3);
+                File file = new File(output[2]);
+                if (!file.isFile() || file.length() != Long.parseLong(output[0])
+                        || file.lastModified() != Long.parseLong(output[1])) {
+                    LOGGER.info("Generation is not up to date, " + file + " was modified or deleted");
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read generation state " + stateFile + ", generating", e);
+            return false;
+        }
+    }
+
+    /**
+     * @return the hash of the input files recorded by the last run, or null if there is none
+     */
+    public String inputFilesHash() {
+        if (!stateFile.isFile()) {
+            return null;
+        }
+        try {
+            for (String line : FileUtils.readLines(stateFile, StandardCharsets.UTF_8)) {
+                if (line.startsWith(INPUT_FILES_PREFIX)) {
+                    return line.substring(INPUT_FILES_PREFIX.length());
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read generation state " + stateFile, e);
+        }
+        return null;
+    }
+
+    /**
+     * Records a run of the generation.
+     *
+     * @param key key of the inputs of the generation, null to only forget the previous run
+     * @param outputs files written by the generation
+     */
+    public void save(String key, Collection<File> outputs) {
+        save(key, null, outputs);
+    }
+
+    /**
+     * Records a run of the generation.
+     *
+     * @param key key of the inputs of the generation, null to only forget the previous run
+     * @param inputFilesHash hash of the input files the key was computed from, may be null
+     * @param outputs files written by the generation
+     */
+    public void save(String key, String inputFilesHash, Collection<File> outputs) {
+        if (key == null) {
+            FileUtils.deleteQuietly(stateFile);
+            return;
+        }
+        List<String> lines = new ArrayList<String>();
+        lines.add(KEY_PREFIX + key);
+        if (inputFilesHash != null) {
+            lines.add(INPUT_FILES_PREFIX + inputFilesHash);
+        }
+        for (File output : outputs) {
+            File file = output.getAbsoluteFile();
+            if (file.isFile()) {
+                lines.add(file.length() + " " + file.lastModified() + " " + file.getPath());
+            }
+        }
+        try {
+            FileUtils.writeLines(stateFile, StandardCharsets.UTF_8.name(), lines, "\n");
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write generation state " + stateFile, e);
+            FileUtils.deleteQuietly(stateFile);
+        }
+    }
+}
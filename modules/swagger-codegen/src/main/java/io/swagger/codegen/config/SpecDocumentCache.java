@@ -0,0 +1,181 @@
+package io.swagger.codegen.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.Hashing;
+import io.swagger.models.Swagger;
+import io.swagger.models.auth.AuthorizationValue;
+import io.swagger.parser.Swagger20Parser;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.parser.SwaggerResolver;
+import io.swagger.parser.util.ClasspathHelper;
+import io.swagger.parser.util.InlineModelResolver;
+import io.swagger.parser.util.ParseOptions;
+import io.swagger.parser.util.RemoteUrl;
+import io.swagger.parser.util.SwaggerDeserializer;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Reads each spec document once and builds a new Swagger model from it for every generation, so that the
+ * generations of a spec share the download and the YAML / JSON parsing but not the model, which generators modify.
+ *
+ * Models are built the way {@link SwaggerParser#read(String, List, ParseOptions)} builds them, which is still used
+ * for documents other than Swagger 2.0 ones. The referenced documents are resolved for each model.
+ *
+ * A local spec file is kept with the hash of its content, and parsed again when its content changes, so that a cache
+ * can outlive a generation (e.g. a Maven session, whose modules may write the spec). Remote documents are downloaded
+ * once per cache. The cache is safe for concurrent use: each model is built from its own copy of the document.
+ */
+public class SpecDocumentCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecDocumentCache.class);
+
+    private final ConcurrentMap<String, Document> documents = new ConcurrentHashMap<String, Document>();
+
+    /**
+     * @param location location of the spec, as URL or file
+     * @param auths authorization headers used to fetch remote documents, may be null
+     * @param options resolve and flatten options, may be null
+     * @return a new model of the spec, or null if it can't be read
+     */
+    public Swagger read(String location, List<AuthorizationValue> auths, ParseOptions options) {
+        if (location == null) {
+            return null;
+        }
+        String path = location.replaceAll("\\\\", "/");
+        JsonNode document = document(path, auths);
+        if (document == null || document.get("swagger") == null) {
+            return new SwaggerParser().read(location, auths, options);
+        }
+
+        Swagger swagger = new SwaggerDeserializer().deserialize(document.deepCopy()).getSwagger();
+        if (swagger != null && options != null) {
+            if (options.isResolve()) {
+                swagger = new SwaggerResolver(swagger, auths, path).resolve();
+            }
+            if (options.isFlatten()) {
+                new InlineModelResolver().flatten(swagger);
+            }
+        }
+        return swagger;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private JsonNode document(final String path, final List<AuthorizationValue> auths) {
+        String key = key(path, auths);
+        Document document;
+        try {
+            final String data = readLocalFile(path);
+            final String hash = data == null ? null : Hashing.sha256().hashString(data, StandardCharsets.UTF_8).toString();
+            document = documents.get(key);
+            while (document == null || !Objects.equals(hash, document.hash)) {
+                Document read = new Document(hash, new Callable<JsonNode>() {
+                    @Override
+                    public JsonNode call() throws Exception {
+                        return parse(data != null ? data : readDocument(path, auths));
+                    }
+                });
+                boolean added = document == null ? documents.putIfAbsent(key, read) == null : documents.replace(key, document, read);
+                if (added) {
+                    document = read;
+                    read.content.run();
+                } else {
+                    document = documents.get(key);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to read " + path + ", parsing it without cache", e);
+            return null;
+        }
+        try {
+            return document.content.get();
+        } catch (ExecutionException e) {
+            LOGGER.debug("Unable to read " + path + ", parsing it without cache", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * @return the content of the spec if it is a local file, otherwise null
+     */
+    private static String readLocalFile(String path) throws IOException {
+        String lowerCase = path.toLowerCase(Locale.ROOT);
+        if (lowerCase.startsWith("http")) {
+            return null;
+        }
+        Path file;
+        try {
+            file = lowerCase.startsWith("file:") ? Paths.get(URI.create(path)) : Paths.get(path);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return Files.exists(file) ? new String(Files.readAllBytes(file), StandardCharsets.UTF_8) : null;
+    }
+
+    private static String readDocument(String path, List<AuthorizationValue> auths) throws Exception {
+        if (path.toLowerCase(Locale.ROOT).startsWith("http")) {
+            return RemoteUrl.urlToString(path, auths);
+        }
+        return ClasspathHelper.loadFileFromClasspath(path);
+    }
+
+    private static JsonNode parse(String data) throws IOException {
+        if (data == null) {
+            return null;
+        }
+        return data.trim().startsWith("{") ? Json.mapper().readTree(data) : new YamlReader().read(data);
+    }
+
+    private static String key(String path, List<AuthorizationValue> auths) {
+        StringBuilder key = new StringBuilder(path);
+        if (auths != null) {
+            for (AuthorizationValue auth : auths) {
+                key.append('\u0000').append(auth.getType()).append(':').append(auth.getKeyName()).append('=').append(auth.getValue());
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * A document being read or parsed, with the hash of the local file it is parsed from.
+     */
+    private static class Document {
+        private final String hash;
+        private final FutureTask<JsonNode> content;
+
+        Document(String hash, Callable<JsonNode> read) {
+            this.hash = hash;
+            this.content = new FutureTask<JsonNode>(read);
+        }
+    }
+
+    /**
+     * Reads YAML documents with the settings of the parser.
+     */
+    private static class YamlReader extends Swagger20Parser {
+        JsonNode read(String data) throws IOException {
+            return deserializeYaml(data);
+        }
+    }
+}
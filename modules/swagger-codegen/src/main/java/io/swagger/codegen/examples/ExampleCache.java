@@ -0,0 +1,67 @@
+package io.swagger.codegen.examples;
+
+import io.swagger.models.Model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized examples of the models of a spec, shared by the {@link ExampleGenerator} instances of a generation
+ * so that a model used by many operations is only serialized once per media type.
+ * <p>
+ * A JSON example is kept with the example object it was serialized from: the generator stores the resolved example
+ * in the model, and the serialization is only reused while the model still holds that object. XML examples only
+ * depend on the definitions.
+ */
+public class ExampleCache {
+
+    private final Map<String, Model> definitions;
+    private final Map<String, JsonExample> jsonExamples = new ConcurrentHashMap<>();
+    private final Map<String, String> xmlExamples = new ConcurrentHashMap<>();
+
+    /**
+     * @param definitions models the examples are generated from
+     */
+    public ExampleCache(Map<String, Model> definitions) {
+        this.definitions = definitions;
+    }
+
+    /**
+     * @param definitions models of a generation
+     * @return true if the cached examples were generated from these definitions
+     */
+    public boolean isFor(Map<String, Model> definitions) {
+        return this.definitions == definitions;
+    }
+
+    String getJson(String modelName, String mediaType, Object example) {
+        JsonExample cached = jsonExamples.get(key(modelName, mediaType));
+        return cached != null && cached.example == example ? cached.json : null;
+    }
+
+    void putJson(String modelName, String mediaType, Object example, String json) {
+        jsonExamples.put(key(modelName, mediaType), new JsonExample(example, json));
+    }
+
+    String getXml(String modelName, String mediaType) {
+        return xmlExamples.get(key(modelName, mediaType));
+    }
+
+    void putXml(String modelName, String mediaType, String xml) {
+        xmlExamples.put(key(modelName, mediaType), xml);
+    }
+
+    private static String key(String modelName, String mediaType) {
+        return mediaType + " " + modelName;
+    }
+
+    private static class JsonExample {
+        private final Object example;
+        private final String json;
+
+        JsonExample(Object example, String json) {
+            this.example = example;
+            this.json = json;
+        }
+    }
+}
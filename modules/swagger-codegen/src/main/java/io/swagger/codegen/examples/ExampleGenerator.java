@@ -26,121 +26,230 @@ public class ExampleGenerator {
     private static final String OUTPUT = "output";
     private static final String NONE = "none";
 
+    // models nested deeper than this are cut like recursive ones, to bound the size of examples
+    static final int MAX_MODEL_DEPTH = 32;
+
+    // examples with more values than this are cut as well, as models referenced by several properties or repeated
+    // in arrays multiply the size of examples without nesting deeply
+    static final int MAX_EXAMPLE_NODES = 10000;
+
+    // generations deferred on the current thread, see deferGeneration
+    private static final ThreadLocal<List<Runnable>> deferredGenerations = new ThreadLocal<>();
+
     protected Map<String, Model> examples;
+    private final ExampleCache cache;
     private Random random;
 
     public ExampleGenerator(Map<String, Model> examples) {
+        this(examples, null);
+    }
+
+    /**
+     * @param examples models the examples are generated from
+     * @param cache    serialized examples shared with the other generators of the generation, may be null
+     */
+    public ExampleGenerator(Map<String, Model> examples, ExampleCache cache) {
         this.examples = examples;
+        this.cache = cache != null && cache.isFor(examples) ? cache : null;
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
     }
 
-    public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, Property property) {
-        List<Map<String, String>> output = new ArrayList<>();
-        Set<String> processedModels = new HashSet<>();
-        if (examples == null) {
-            if (mediaTypes == null) {
-                // assume application/json for this
-                mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+    /**
+     * Defers the examples generated from the models on the current thread: the lists returned by the generate
+     * methods are only filled when the given generations are run. Examples of models are resolved once and kept by
+     * the models, so operations converted concurrently run their generations afterwards, in the order of the serial
+     * generation, to get the same examples.
+     *
+     * @param generations list receiving the deferred generations, null to generate examples right away again
+     */
+    public static void deferGeneration(List<Runnable> generations) {
+        if (generations == null) {
+            deferredGenerations.remove();
+        } else {
+            deferredGenerations.set(generations);
+        }
+    }
+
+    public List<Map<String, String>> generate(Map<String, Object> examples, final List<String> mediaTypes, final Property property) {
+        if (examples != null) {
+            return fromSpecExamples(examples);
+        }
+        final List<Map<String, String>> output = new ArrayList<>();
+        generateLater(new Runnable() {
+            @Override
+            public void run() {
+                generate(output, mediaTypes, property);
             }
-            for (String mediaType : mediaTypes) {
-                Map<String, String> kv = new HashMap<>();
-                kv.put(CONTENT_TYPE, mediaType);
-                if (property != null && mediaType.startsWith(MIME_TYPE_JSON)) {
-                    /*
-                        org.json is used to pretty print example, because of an issue with
-                        Jackson pretty printing for large specs, where for some reason
-                        memory usage goes up to OOM errors.
-                        TODO if bug (?) is fixed in Jackson pretty printing, remove the dep and use jackson instead
-                     */
-                    //String example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
-                    String example = new JSONObject(resolvePropertyToExample("", mediaType, property, processedModels)).toString(2);
+        });
+        return output;
+    }
 
+    private void generate(List<Map<String, String>> output, List<String> mediaTypes, Property property) {
+        Set<String> processedModels = new HashSet<>();
+        if (mediaTypes == null) {
+            // assume application/json for this
+            mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+        }
+        for (String mediaType : mediaTypes) {
+            Map<String, String> kv = new HashMap<>();
+            kv.put(CONTENT_TYPE, mediaType);
+            if (property != null && mediaType.startsWith(MIME_TYPE_JSON)) {
+                String example;
+                Model model = refModel(property);
+                if (model != null && property.getExample() == null) {
+                    example = toJson(((RefProperty) property).getSimpleRef(), mediaType, model, processedModels);
+                } else {
+                    example = toJson(resolvePropertyToExample("", mediaType, property, processedModels, new Budget(), 0));
+                }
 
-                    if (example != null) {
-                        kv.put(EXAMPLE, example);
-                        output.add(kv);
-                    }
-                } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
-                    if (example != null) {
-                        kv.put(EXAMPLE, example);
-                        output.add(kv);
-                    }
+                if (example != null) {
+                    kv.put(EXAMPLE, example);
+                    output.add(kv);
+                }
+            } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
+                String example;
+                Model model = refModel(property);
+                if (model != null) {
+                    // a missing example is appended to the xml of the property
+                    example = String.valueOf(toXml(((RefProperty) property).getSimpleRef(), mediaType, model));
+                } else {
+                    example = new XmlExampleGenerator(this.examples).toXml(property);
+                }
+                if (example != null) {
+                    kv.put(EXAMPLE, example);
+                    output.add(kv);
                 }
-            }
-        } else {
-            for (Map.Entry<String, Object> entry : examples.entrySet()) {
-                final Map<String, String> kv = new HashMap<>();
-                kv.put(CONTENT_TYPE, entry.getKey());
-                kv.put(EXAMPLE, Json.pretty(entry.getValue()));
-                output.add(kv);
             }
         }
-        if (output.size() == 0) {
-            Map<String, String> kv = new HashMap<>();
-            kv.put(OUTPUT, NONE);
-            output.add(kv);
+        addNone(output);
+    }
+
+    public List<Map<String, String>> generate(Map<String, Object> examples, final List<String> mediaTypes, final String modelName) {
+        if (examples != null) {
+            return fromSpecExamples(examples);
         }
+        final List<Map<String, String>> output = new ArrayList<>();
+        generateLater(new Runnable() {
+            @Override
+            public void run() {
+                generate(output, mediaTypes, modelName);
+            }
+        });
         return output;
     }
 
-    public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, String modelName) {
-        List<Map<String, String>> output = new ArrayList<>();
+    private void generate(List<Map<String, String>> output, List<String> mediaTypes, String modelName) {
         Set<String> processedModels = new HashSet<>();
-        if (examples == null) {
-            if (mediaTypes == null) {
-                // assume application/json for this
-                mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            }
-            for (String mediaType : mediaTypes) {
-                Map<String, String> kv = new HashMap<>();
-                kv.put(CONTENT_TYPE, mediaType);
-                if (modelName != null && mediaType.startsWith(MIME_TYPE_JSON)) {
-                    final Model model = this.examples.get(modelName);
-                    if (model != null) {
-
-                        /*
-                            org.json is used to pretty print example, because of an issue with
-                            Jackson pretty printing for large specs, where for some reason
-                            memory usage goes up to OOM errors.
-                            TODO if bug (?) is fixed in Jackson pretty printing, remove the dep and use jackson instead
-                         */
-                        // String example = Json.pretty(resolveModelToExample(modelName, mediaType, model, processedModels));
-                        String example = new JSONObject(resolveModelToExample(modelName, mediaType, model, processedModels)).toString(2);
-
-                        if (example != null) {
-                            kv.put(EXAMPLE, example);
-                            output.add(kv);
-                        }
-                    }
-                } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    final Model model = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(model, 0, Collections.<String>emptySet());
+        if (mediaTypes == null) {
+            // assume application/json for this
+            mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+        }
+        for (String mediaType : mediaTypes) {
+            Map<String, String> kv = new HashMap<>();
+            kv.put(CONTENT_TYPE, mediaType);
+            if (modelName != null && mediaType.startsWith(MIME_TYPE_JSON)) {
+                final Model model = this.examples.get(modelName);
+                if (model != null) {
+                    String example = toJson(modelName, mediaType, model, processedModels);
+
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
                 }
+            } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
+                final Model model = this.examples.get(modelName);
+                String example = toXml(modelName, mediaType, model);
+                if (example != null) {
+                    kv.put(EXAMPLE, example);
+                    output.add(kv);
+                }
             }
+        }
+        addNone(output);
+    }
+
+    private void generateLater(Runnable generation) {
+        List<Runnable> deferred = deferredGenerations.get();
+        if (deferred != null) {
+            deferred.add(generation);
         } else {
-            for (Map.Entry<String, Object> entry : examples.entrySet()) {
-                final Map<String, String> kv = new HashMap<>();
-                kv.put(CONTENT_TYPE, entry.getKey());
-                kv.put(EXAMPLE, Json.pretty(entry.getValue()));
-                output.add(kv);
-            }
+            generation.run();
         }
+    }
+
+    private static List<Map<String, String>> fromSpecExamples(Map<String, Object> examples) {
+        List<Map<String, String>> output = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : examples.entrySet()) {
+            final Map<String, String> kv = new HashMap<>();
+            kv.put(CONTENT_TYPE, entry.getKey());
+            kv.put(EXAMPLE, Json.pretty(entry.getValue()));
+            output.add(kv);
+        }
+        addNone(output);
+        return output;
+    }
+
+    private static void addNone(List<Map<String, String>> output) {
         if (output.size() == 0) {
             Map<String, String> kv = new HashMap<>();
             kv.put(OUTPUT, NONE);
             output.add(kv);
         }
-        return output;
     }
 
-    private Object resolvePropertyToExample(String propertyName, String mediaType, Property property, Set<String> processedModels) {
+    private Model refModel(Property property) {
+        if (property instanceof RefProperty) {
+            return examples.get(((RefProperty) property).getSimpleRef());
+        }
+        return null;
+    }
+
+    /**
+     * JSON example of a model, serialized once for the example object kept by the model.
+     */
+    private String toJson(String modelName, String mediaType, Model model, Set<String> processedModels) {
+        boolean cacheable = cache != null && model instanceof ModelImpl;
+        if (cacheable && model.getExample() != null) {
+            String json = cache.getJson(modelName, mediaType, model.getExample());
+            if (json != null) {
+                return json;
+            }
+        }
+        Object example = resolveModelToExample(modelName, mediaType, model, processedModels, new Budget(), 0);
+        String json = toJson(example);
+        if (cacheable && example != null && example == model.getExample()) {
+            cache.putJson(modelName, mediaType, example, json);
+        }
+        return json;
+    }
+
+    private static String toJson(Object example) {
+        /*
+            org.json is used to pretty print example, because of an issue with
+            Jackson pretty printing for large specs, where for some reason
+            memory usage goes up to OOM errors.
+            TODO if bug (?) is fixed in Jackson pretty printing, remove the dep and use jackson instead
+         */
+        //String example = Json.pretty(example);
+        return new JSONObject(example).toString(2);
+    }
+
+    private String toXml(String modelName, String mediaType, Model model) {
+        String xml = cache != null ? cache.getXml(modelName, mediaType) : null;
+        if (xml == null) {
+            xml = new XmlExampleGenerator(this.examples).toXml(model, 0, Collections.<String>emptySet());
+            if (cache != null && xml != null) {
+                cache.putXml(modelName, mediaType, xml);
+            }
+        }
+        return xml;
+    }
+
+    private Object resolvePropertyToExample(String propertyName, String mediaType, Property property, Set<String> processedModels, Budget budget, int depth) {
         logger.debug("Resolving example for property {}...", property);
+        budget.nodes++;
         if (property.getExample() != null) {
             logger.debug("Example set in swagger spec, returning example: '{}'", property.getExample().toString());
             return property.getExample();
@@ -178,8 +287,15 @@ public class ExampleGenerator {
                     logger.warn("value of maxItems of property {} is {}; limiting to 10 examples", property, arrayLength);
                     arrayLength = 10;
                 }
+                long before = budget.nodes;
+                Object objProperty = resolvePropertyToExample(propertyName, mediaType, innerType, processedModels, budget, depth);
+                long itemNodes = budget.nodes - before;
+                if (arrayLength > 1 && before + itemNodes * arrayLength > MAX_EXAMPLE_NODES) {
+                    arrayLength = (int) Math.max(1, (MAX_EXAMPLE_NODES - before) / itemNodes);
+                    logger.debug("Example of property {} limited to {} items", propertyName, arrayLength);
+                }
+                budget.nodes = before + itemNodes * arrayLength;
                 Object[] objectProperties = new Object[arrayLength];
-                Object objProperty = resolvePropertyToExample(propertyName, mediaType, innerType, processedModels);
                 for(int i=0; i < arrayLength; i++) {
                     objectProperties[i] = objProperty;
                 }
@@ -215,10 +331,10 @@ public class ExampleGenerator {
             Map<String, Object> mp = new HashMap<String, Object>();
             if (property.getName() != null) {
                 mp.put(property.getName(),
-                        resolvePropertyToExample(propertyName, mediaType, ((MapProperty) property).getAdditionalProperties(), processedModels));
+                        resolvePropertyToExample(propertyName, mediaType, ((MapProperty) property).getAdditionalProperties(), processedModels, budget, depth));
             } else {
                 mp.put("key",
-                        resolvePropertyToExample(propertyName, mediaType, ((MapProperty) property).getAdditionalProperties(), processedModels));
+                        resolvePropertyToExample(propertyName, mediaType, ((MapProperty) property).getAdditionalProperties(), processedModels, budget, depth));
             }
             return mp;
         } else if (property instanceof ObjectProperty) {
@@ -228,7 +344,7 @@ public class ExampleGenerator {
             logger.debug("Ref property, simple name: {}", simpleName);
             Model model = examples.get(simpleName);
             if (model != null) {
-                return resolveModelToExample(simpleName, mediaType, model, processedModels);
+                return resolveModelToExample(simpleName, mediaType, model, processedModels, budget, depth);
             }
             logger.warn("Ref property with empty model.");
         } else if (property instanceof UUIDProperty) {
@@ -251,9 +367,13 @@ public class ExampleGenerator {
         }
     }
 
-    private Object resolveModelToExample(String name, String mediaType, Model model, Set<String> processedModels) {
+    private Object resolveModelToExample(String name, String mediaType, Model model, Set<String> processedModels, Budget budget, int depth) {
         if (processedModels.contains(name)) {
-            return model.getExample();
+            return budget.use(model.getExample(), name);
+        }
+        if (depth > MAX_MODEL_DEPTH) {
+            logger.debug("Model '{}' nested deeper than {} models, not resolved", name, MAX_MODEL_DEPTH);
+            return budget.use(model.getExample(), name);
         }
         if (model instanceof ModelImpl) {
             processedModels.add(name);
@@ -264,17 +384,79 @@ public class ExampleGenerator {
 
             if (impl.getExample() != null) {
                 logger.debug("Using example from spec: {}", impl.getExample());
-                return impl.getExample();
+                return budget.use(impl.getExample(), name);
+            } else if (budget.isExhausted()) {
+                logger.debug("Example has more than {} values, model '{}' not resolved", MAX_EXAMPLE_NODES, name);
+                return null;
             } else if (impl.getProperties() != null) {
                 logger.debug("Creating example from model values");
                 for (String propertyName : impl.getProperties().keySet()) {
                     Property property = impl.getProperties().get(propertyName);
-                    values.put(propertyName, resolvePropertyToExample(propertyName, mediaType, property, processedModels));
+                    values.put(propertyName, resolvePropertyToExample(propertyName, mediaType, property, processedModels, budget, depth + 1));
+                }
+                // a cut example is only valid in the example being resolved, it isn't kept for the model
+                if (!budget.isExhausted()) {
+                    impl.setExample(values);
                 }
-                impl.setExample(values);
             }
             return values;
         }
         return "";
     }
+
+    /**
+     * Number of values of the example being resolved, examples used several times are counted each time.
+     */
+    private static final class Budget {
+        private long nodes;
+
+        boolean isExhausted() {
+            return nodes >= MAX_EXAMPLE_NODES;
+        }
+
+        /**
+         * Counts an example resolved before which is used again in the example being resolved.
+         *
+         * @return the example, or null if it doesn't fit in the remaining values
+         */
+        Object use(Object example, String name) {
+            long size = countNodes(example, MAX_EXAMPLE_NODES - nodes);
+            if (nodes + size > MAX_EXAMPLE_NODES) {
+                logger.debug("Example has more than {} values, model '{}' not resolved", MAX_EXAMPLE_NODES, name);
+                nodes = Math.max(nodes, MAX_EXAMPLE_NODES);
+                return null;
+            }
+            nodes += size;
+            return example;
+        }
+
+        /**
+         * @return the number of values of the example, counting stops once the limit is exceeded
+         */
+        private static long countNodes(Object example, long limit) {
+            long count = 0;
+            Deque<Object> pending = new ArrayDeque<>();
+            if (example != null) {
+                pending.push(example);
+            }
+            while (!pending.isEmpty() && count <= limit) {
+                Object node = pending.pop();
+                count++;
+                Collection<?> children = Collections.emptyList();
+                if (node instanceof Map) {
+                    children = ((Map<?, ?>) node).values();
+                } else if (node instanceof Collection) {
+                    children = (Collection<?>) node;
+                } else if (node instanceof Object[]) {
+                    children = Arrays.asList((Object[]) node);
+                }
+                for (Object child : children) {
+                    if (child != null) {
+                        pending.push(child);
+                    }
+                }
+            }
+            return count;
+        }
+    }
 }
@@ -41,6 +41,8 @@ public class XmlExampleGenerator {
     public static String TAG_END = "</";
     private static String EMPTY = "";
     protected Map<String, Model> examples;
+    // values written in the current example, bounded like the values of json examples
+    private int nodes;
 
     public XmlExampleGenerator(Map<String, Model> examples) {
         this.examples = examples;
@@ -68,7 +70,11 @@ public class XmlExampleGenerator {
 
     protected String modelImplToXml(ModelImpl model, int indent, Collection<String> path) {
         final String modelName = model.getName();
-        if (path.contains(modelName)) {
+        if (path.isEmpty()) {
+            nodes = 0;
+        }
+        if (path.contains(modelName) || path.size() > ExampleGenerator.MAX_MODEL_DEPTH
+                || nodes >= ExampleGenerator.MAX_EXAMPLE_NODES) {
             return EMPTY;
         }
         final Set<String> selfPath = new HashSet<String>(path);
@@ -90,6 +96,7 @@ public class XmlExampleGenerator {
         if(model.getProperties() != null) {
             for (String pName : model.getProperties().keySet()) {
                 Property p = model.getProperties().get(pName);
+                nodes++;
                 if (p != null && p.getXml() != null && p.getXml().getAttribute() != null && p.getXml().getAttribute()) {
                     attributes.put(pName, p);
                 } else {
@@ -0,0 +1,192 @@
+package io.swagger.codegen.ignore.rules;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The rules of an ignore file compiled for evaluation, with the same outcome as evaluating every exclusion rule and
+ * then every inclusion rule in order.
+ * <p>
+ * Rules are indexed in a trie by the literal directories their pattern starts with ({@code docs/**} under
+ * {@code docs}, {@code src/main/*.java} under {@code src/main}), patterns starting with a glob stay at the root.
+ * A path is only evaluated against the rules found on the way down to its directory.
+ * <p>
+ * Whether a directory rule matches only depends on the directory of a path, so the directory rules are evaluated
+ * once per directory: files of an excluded directory are then rejected without evaluating any file rule.
+ */
+public class IgnoreRuleTree {
+
+    private static final String GLOB_CHARACTERS = "*?[]{}\\";
+
+    // Glob patterns are case insensitive and accept both separators on Windows, literal segments can't be compared there
+    private static final boolean INDEXED = File.separatorChar == '/';
+
+    private final Node root = new Node();
+    private final boolean empty;
+    private final Map<String, Directory> directories = new ConcurrentHashMap<>();
+
+    /**
+     * @param exclusionRules rules excluding files, in the order of the ignore file
+     * @param inclusionRules negated rules including files again, in the order of the ignore file
+     */
+    public IgnoreRuleTree(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        boolean hasRules = false;
+        for (Rule rule : exclusionRules) {
+            if (rule instanceof EverythingRule) {
+                // EXCLUDE_AND_TERMINATE stops the evaluation without excluding anything by itself
+                break;
+            }
+            if (!(rule instanceof InvalidRule)) {
+                root.find(rule).exclusions.add(rule);
+                hasRules = true;
+            }
+        }
+        for (Rule rule : inclusionRules) {
+            if (!(rule instanceof InvalidRule)) {
+                root.find(rule).inclusions.add(rule);
+                hasRules = true;
+            }
+        }
+        this.empty = !hasRules;
+    }
+
+    /**
+     * @param relativePath path of a file relative to the ignore file
+     * @return {@code false} if the file is excluded and not included again, otherwise {@code true}
+     */
+    public boolean allows(String relativePath) {
+        if (empty) {
+            return true;
+        }
+
+        int separator = relativePath.lastIndexOf(File.separatorChar);
+        String directoryPath = separator < 0 ? "" : relativePath.substring(0, separator);
+        Directory directory = directories.get(directoryPath);
+        if (directory == null) {
+            directory = new Directory(directoryPath, relativePath);
+            directories.put(directoryPath, directory);
+        }
+
+        // Include rule can't override rules that exclude a file by some parent directory, only directory rules can.
+        // e.g
+        // baz/
+        // !foo/bar/baz/
+        // NOTE: Possibly surprising side effect:
+        // foo/bar/baz/
+        // !bar/
+        if (directory.excluded) {
+            return directory.included;
+        }
+
+        boolean exclude = false;
+        for (Node node : directory.nodes) {
+            if (matchesAny(node.exclusions, relativePath)) {
+                exclude = true;
+                break;
+            }
+        }
+        if (!exclude || directory.included) {
+            return true;
+        }
+        // e.g.
+        // **/*.log
+        // !ISSUE_1234.log
+        for (Node node : directory.nodes) {
+            if (matchesAny(node.inclusions, relativePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAny(List<Rule> rules, String relativePath) {
+        for (Rule rule : rules) {
+            if (!(rule instanceof DirectoryRule) && Boolean.TRUE.equals(rule.matches(relativePath))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAnyDirectory(List<Rule> rules, String relativePath) {
+        for (Rule rule : rules) {
+            if (rule instanceof DirectoryRule && Boolean.TRUE.equals(rule.matches(relativePath))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decisions shared by the files of a directory.
+     */
+    private class Directory {
+        // nodes holding the rules which may match files of the directory, from the root
+        private final List<Node> nodes = new ArrayList<>();
+        private final boolean excluded;
+        private final boolean included;
+
+        Directory(String directoryPath, String relativePath) {
+            Node node = root;
+            nodes.add(node);
+            if (INDEXED && !directoryPath.isEmpty()) {
+                for (String segment : directoryPath.split("/")) {
+                    node = node.children.get(segment);
+                    if (node == null) {
+                        break;
+                    }
+                    nodes.add(node);
+                }
+            }
+
+            boolean excluded = false;
+            boolean included = false;
+            for (Node current : nodes) {
+                excluded = excluded || matchesAnyDirectory(current.exclusions, relativePath);
+                included = included || matchesAnyDirectory(current.inclusions, relativePath);
+            }
+            this.excluded = excluded;
+            this.included = included;
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Rule> exclusions = new ArrayList<>();
+        private final List<Rule> inclusions = new ArrayList<>();
+
+        /**
+         * @return the node of the literal directories the pattern of the rule starts with, created if needed
+         */
+        Node find(Rule rule) {
+            Node node = this;
+            if (!INDEXED || rule instanceof RootedFileRule) {
+                return node;
+            }
+            String[] segments = rule.getPattern().split("/", -1);
+            // the last segment is the file name, or empty for directory rules
+            for (int i = 0; i < segments.length - 1 && isLiteral(segments[i]); i++) {
+                Node child = node.children.get(segments[i]);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(segments[i], child);
+                }
+                node = child;
+            }
+            return node;
+        }
+
+        private static boolean isLiteral(String segment) {
+            for (int i = 0; i < segment.length(); i++) {
+                if (GLOB_CHARACTERS.indexOf(segment.charAt(i)) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -468,6 +468,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen implements Co
         }
     }
 
+    // changes the type mapping, also read by operation conversions, so C# generators convert operations serially
     public CodegenModel fromModel(String name, Model model, Map<String, Model> allDefinitions) {
         final CodegenModel codegenModel = super.fromModel(name, model, allDefinitions);
         if (typeMapping.containsKey(name.toLowerCase()) && isReservedWord(name)) {
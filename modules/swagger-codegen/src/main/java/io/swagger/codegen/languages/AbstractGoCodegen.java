@@ -530,4 +530,9 @@ public abstract class AbstractGoCodegen extends DefaultCodegen implements Codege
     public void setWithXml(boolean withXml) {
         this.withXml = withXml;
     }
+
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
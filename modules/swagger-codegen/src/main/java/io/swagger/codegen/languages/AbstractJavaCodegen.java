@@ -1564,4 +1564,9 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
         return true;
     }
 
+    // operation conversions only modify the objects they return, except in ApexClientCodegen
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
@@ -557,4 +557,9 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegen implements Co
         boolean imports = !type.startsWith("kotlin.") && !type.startsWith("java.") && !defaultIncludes.contains(type) && !languageSpecificPrimitives.contains(type);
         return imports;
     }
+
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
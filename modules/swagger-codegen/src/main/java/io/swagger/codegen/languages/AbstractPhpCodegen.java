@@ -672,4 +672,9 @@ public abstract class AbstractPhpCodegen extends DefaultCodegen implements Codeg
         final int lastBackslashIndex = phpClassName.lastIndexOf('\\');
         return phpClassName.substring(lastBackslashIndex + 1);
     }
+
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
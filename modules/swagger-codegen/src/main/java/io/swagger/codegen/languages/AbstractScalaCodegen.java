@@ -9,6 +9,7 @@ import java.util.Map;
 import com.samskivert.mustache.Escapers;
 import com.samskivert.mustache.Mustache;
 import io.swagger.codegen.CliOption;
+import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultCodegen;
 import io.swagger.models.properties.ArrayProperty;
@@ -24,7 +25,7 @@ import io.swagger.models.properties.Property;
 import io.swagger.models.properties.StringProperty;
 import org.apache.commons.lang3.StringUtils;
 
-public abstract class AbstractScalaCodegen extends DefaultCodegen {
+public abstract class AbstractScalaCodegen extends DefaultCodegen implements CodegenConfig {
 
     protected String modelPropertyNaming = "camelCase";
     protected String invokerPackage = "io.swagger.client";
@@ -285,4 +286,9 @@ public abstract class AbstractScalaCodegen extends DefaultCodegen {
         // remove " to avoid code injection
         return input.replace("\"", "");
     }
+
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
@@ -571,4 +571,9 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegen imp
     public String escapeUnsafeCharacters(String input) {
         return input.replace("*/", "*_/").replace("/*", "/_*");
     }
+
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
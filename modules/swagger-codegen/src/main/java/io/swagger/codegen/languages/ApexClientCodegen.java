@@ -257,6 +257,12 @@ public class ApexClientCodegen extends AbstractJavaCodegen {
 
     }
 
+    // fromOperation reads the examples, which are only generated afterwards when operations are converted in parallel
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return false;
+    }
+
     @Override
     public CodegenOperation fromOperation(String path,
                                           String httpMethod,
@@ -104,6 +104,8 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
     protected ArrayList<Map<String,String>> unknownMimeTypes = new ArrayList<>();
     protected Map<String, Map<String,Object>> uniqueParamNameTypes = new HashMap<>();
     protected Map<String, Set<String>> modelMimeTypes = new HashMap<>();
+    // models whose mime types were set for the api templates
+    private CodegenModelRegistry processedModels;
     protected Map<String, String> knownMimeDataTypes = new HashMap<>();
     protected Set<String> typeNames = new HashSet<String>();
     protected Set<String> modelTypeNames = new HashSet<String>();
@@ -719,9 +721,17 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
 
     @Override
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
-        for (Object o : allModels) {
-            HashMap<String, Object> h = (HashMap<String, Object>) o;
-            CodegenModel m = (CodegenModel) h.get("model");
+        return postProcessOperationsWithModels(objs, allModels, CodegenModelRegistry.fromModelList(allModels));
+    }
+
+    @Override
+    public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels, CodegenModelRegistry modelRegistry) {
+        // the models are the same for all apis of a generation
+        if (processedModels == modelRegistry) {
+            return objs;
+        }
+        processedModels = modelRegistry;
+        for (CodegenModel m : modelRegistry.getModels()) {
             if (modelMimeTypes.containsKey(m.classname)) {
                 Set<String> mimeTypes = modelMimeTypes.get(m.classname);
                 m.vendorExtensions.put(X_MIME_TYPES, mimeTypes);
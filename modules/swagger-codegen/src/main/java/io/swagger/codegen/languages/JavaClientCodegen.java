@@ -2,7 +2,6 @@ package io.swagger.codegen.languages;
 
 import static java.util.Collections.sort;
 
-import com.google.common.collect.LinkedListMultimap;
 import io.swagger.codegen.*;
 import io.swagger.codegen.languages.features.BeanValidationFeatures;
 import io.swagger.codegen.languages.features.GzipFeatures;
@@ -483,16 +482,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
         Map<String, Object> allProcessedModels = super.postProcessAllModels(objs);
         if(!additionalProperties.containsKey("gsonFactoryMethod")) {
-            List<Object> allModels = new ArrayList<Object>();
-            for (String name: allProcessedModels.keySet()) {
-                Map<String, Object> models = (Map<String, Object>)allProcessedModels.get(name);
-                try {
-                    allModels.add(((List<Object>) models.get("models")).get(0));
-                } catch (Exception e){
-                    e.printStackTrace();
-                }
-            }
-            additionalProperties.put("parent", modelInheritanceSupportInGson(allModels));
+            additionalProperties.put("parent", modelInheritanceSupportInGson(CodegenModelRegistry.fromProcessedModels(allProcessedModels)));
         }
         return allProcessedModels;
     }
@@ -519,21 +509,20 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return objs;
     }
 
-    private List<Map<String, Object>> modelInheritanceSupportInGson(List<?> allModels) {
-        LinkedListMultimap<CodegenModel, CodegenModel> byParent = LinkedListMultimap.create();
-        for (Object m : allModels) {
-            Map entry = (Map) m;
-            CodegenModel parent = ((CodegenModel)entry.get("model")).parentModel;
-            if(null!= parent) {
-                byParent.put(parent, ((CodegenModel)entry.get("model")));
+    private List<Map<String, Object>> modelInheritanceSupportInGson(CodegenModelRegistry modelRegistry) {
+        Map<String, CodegenModel> parents = new LinkedHashMap<>();
+        for (CodegenModel model : modelRegistry.getModels()) {
+            CodegenModel parent = model.parentModel;
+            if (parent != null && !parents.containsKey(parent.classname)) {
+                parents.put(parent.classname, parent);
             }
         }
         List<Map<String, Object>> parentsList = new ArrayList<>();
-        for (CodegenModel parentModel : byParent.keySet()) {
+        for (CodegenModel parentModel : parents.values()) {
             List<Map<String, Object>> childrenList = new ArrayList<>();
             Map<String, Object> parent = new HashMap<>();
             parent.put("classname", parentModel.classname);
-            List<CodegenModel> childrenModels = byParent.get(parentModel);
+            List<CodegenModel> childrenModels = modelRegistry.getChildren(parentModel.classname);
             for (CodegenModel model : childrenModels) {
                 Map<String, Object> child = new HashMap<>();
                 child.put("name", model.name);
@@ -32,6 +32,7 @@ import io.swagger.codegen.CliOption;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenModelRegistry;
 import io.swagger.codegen.CodegenOperation;
 import io.swagger.codegen.CodegenParameter;
 import io.swagger.codegen.CodegenProperty;
@@ -122,6 +123,9 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
     protected File testDataFile = null;
     protected boolean preserveLeadingParamChar = false;
 
+    // models whose properties were post-processed for the api templates
+    private CodegenModelRegistry processedModels;
+
     public JavascriptClientCodegen() {
         super();
         outputFolder = "generated-code/js";
@@ -1028,16 +1032,15 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
 
     @Override
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
+        return postProcessOperationsWithModels(objs, allModels, CodegenModelRegistry.fromModelList(allModels));
+    }
+
+    @Override
+    public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels, CodegenModelRegistry modelRegistry) {
         objs = super.postProcessOperationsWithModels(objs, allModels);
 
-        // Map the models so we can look them up by name.
-        Map<String, CodegenModel> cgModels = new HashMap<>();
-        for (Object model : allModels) {
-            @SuppressWarnings("unchecked")
-            CodegenModel cgModel = ((Map<String, CodegenModel>) model).get("model");
-            cgModel.vendorExtensions.put("x-indent", indent);
-            cgModels.put(cgModel.classname, cgModel);
-        }
+        // Look up the models by class name.
+        Map<String, CodegenModel> cgModels = modelRegistry.getModelsByClassname();
 
         // Provide access to all parameter models.
         @SuppressWarnings("unchecked")
@@ -1057,12 +1060,18 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
             }
         }
 
-        // Provide access to all property models.
-        for (CodegenModel cgModel : new HashSet<CodegenModel>(cgModels.values())) {
-            detectRecursiveModel(cgModel.allVars, cgModel.classname, cgModels);
-            postProcessProperties(cgModel.vars, cgModels);
-            if (cgModel.allVars != cgModel.vars) {
-                postProcessProperties(cgModel.allVars, cgModels);
+        // Provide access to all property models, the models are the same for all apis of a generation.
+        if (processedModels != modelRegistry) {
+            processedModels = modelRegistry;
+            for (CodegenModel cgModel : modelRegistry.getModels()) {
+                cgModel.vendorExtensions.put("x-indent", indent);
+            }
+            for (CodegenModel cgModel : cgModels.values()) {
+                detectRecursiveModel(cgModel.allVars, cgModel.classname, cgModels);
+                postProcessProperties(cgModel.vars, cgModels);
+                if (cgModel.allVars != cgModel.vars) {
+                    postProcessProperties(cgModel.allVars, cgModels);
+                }
             }
         }
 
@@ -1144,26 +1153,29 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
     // but they cannot use normal inheritance to determine this, because CodegenProperty.required in the current context
     // shadows CodegenParameter.required in the ancestor context. Also, they can't use a vendor extension property on
     // the CodegenParameter, as compound tags are not resolved recursively. So the only way is to use Lambdas.
-    private CodegenParameter cgParam;
+    // The state of the lambdas is per thread, as models and apis may be rendered concurrently.
+    private final ThreadLocal<CodegenParameter> currentParam = new ThreadLocal<CodegenParameter>();
 
     private Lambda cacheCurrentParam = new Lambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
-            cgParam = (CodegenParameter) frag.context();
+            currentParam.set((CodegenParameter) frag.context());
             frag.execute(out);
-            cgParam = null;
+            currentParam.remove();
         }
     };
 
     private Lambda isParamRequired = new InvertibleLambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
+            CodegenParameter cgParam = currentParam.get();
             if (cgParam != null && cgParam.required)
                 frag.execute(out);
         }
 
         @Override
         public void executeInverse(Fragment frag, Writer out) throws IOException {
+            CodegenParameter cgParam = currentParam.get();
             if (cgParam == null || !cgParam.required)
                 frag.execute(out);
         }
@@ -1172,6 +1184,7 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
     private Lambda isParamListContainer = new Lambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
+            CodegenParameter cgParam = currentParam.get();
             if (cgParam != null && cgParam.isListContainer)
                 frag.execute(out);
         }
@@ -1180,21 +1193,24 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
     private Lambda isParamMapContainer = new Lambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
-            if (cgParam.isMapContainer)
+            if (currentParam.get().isMapContainer)
                 frag.execute(out);
         }
     };
 
-    private Deque<List<Object>> contexts = new ArrayDeque<>();
-
-    {
-        contexts.push(new ArrayList<>());
-    }
+    private final ThreadLocal<Deque<List<Object>>> contexts = new ThreadLocal<Deque<List<Object>>>() {
+        @Override
+        protected Deque<List<Object>> initialValue() {
+            Deque<List<Object>> contexts = new ArrayDeque<>();
+            contexts.push(new ArrayList<>());
+            return contexts;
+        }
+    };
 
     private Lambda cacheCurrentContext = new Lambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
-            List<Object> list = contexts.peek();
+            List<Object> list = contexts.get().peek();
             list.add(frag.context());
             frag.execute(out);
             list.remove(list.size() - 1);
@@ -1204,23 +1220,23 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
     private Lambda stashCachedContexts = new Lambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
-            contexts.push(new ArrayList<>());
+            contexts.get().push(new ArrayList<>());
             frag.execute(out);
-            contexts.pop();
+            contexts.get().pop();
         }
     };
 
     private Lambda executeForCachedContexts = new Lambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
-            frag.execute(contexts.peek(), out);
+            frag.execute(contexts.get().peek(), out);
         }
     };
 
     private Lambda executeForCachedParentContext = new Lambda() {
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
-            List<Object> list = contexts.peek();
+            List<Object> list = contexts.get().peek();
             int index = list.indexOf(frag.context());
             if (index > 0)
                 frag.execute(list.get(index - 1), out);
@@ -1439,4 +1455,9 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
         return input.replace("*/", "*_/").replace("/*", "/_*");
     }
 
+    // the current parameter and the lambda contexts are kept per thread
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
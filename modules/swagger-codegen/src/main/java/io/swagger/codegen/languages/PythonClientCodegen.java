@@ -716,4 +716,8 @@ public class PythonClientCodegen extends DefaultCodegen implements CodegenConfig
         return input.replace("'''", "'_'_'");
     }
 
+    @Override
+    public boolean isParallelOperationsSupported() {
+        return true;
+    }
 }
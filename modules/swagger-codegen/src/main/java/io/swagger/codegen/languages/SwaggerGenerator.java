@@ -1,7 +1,5 @@
 package io.swagger.codegen.languages;
 
-import java.io.File;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -9,7 +7,6 @@ import io.swagger.codegen.CliOption;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.models.Model;
 import io.swagger.models.properties.Property;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,14 +57,7 @@ public class SwaggerGenerator extends DefaultCodegen implements CodegenConfig {
     @Override
     public void processSwagger(Swagger swagger) {
         String swaggerString = Json.pretty(swagger);
-
-        try {
-            String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), swaggerString, StandardCharsets.UTF_8);
-            LOGGER.debug("wrote file to " + outputFile);
-        } catch (Exception e) {
-            LOGGER.error(e.getMessage(), e);
-        }
+        addGeneratedFile(this.outputFile, swaggerString);
     }
 
     @Override
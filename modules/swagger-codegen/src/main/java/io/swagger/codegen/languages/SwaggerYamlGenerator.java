@@ -14,13 +14,10 @@ import io.swagger.models.Response;
 import io.swagger.models.Swagger;
 import io.swagger.util.DeserializationModule;
 import io.swagger.util.ReferenceSerializationConfigurer;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -84,9 +81,7 @@ public class SwaggerYamlGenerator extends DefaultCodegen implements CodegenConfi
                     .configure(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS, true));
             configureMapper(mapper);
             String swaggerString = mapper.writeValueAsString(swagger);
-            String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), swaggerString, StandardCharsets.UTF_8);
-            LOGGER.debug("wrote file to " + outputFile);
+            addGeneratedFile(this.outputFile, swaggerString);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
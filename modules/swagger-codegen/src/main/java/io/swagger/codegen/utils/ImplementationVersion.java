@@ -1,5 +1,13 @@
 package io.swagger.codegen.utils;
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public class ImplementationVersion {
     public static String read() {
         // Assumes this version is required at runtime. This could be modified to use a properties file like the CLI.
@@ -10,4 +18,30 @@ public class ImplementationVersion {
 
         return System.getProperty("swagger.implementation.version", "unset");
     }
+
+    /**
+     * Describes the jars (or class directories) of a generator and of this library by their path, size and
+     * modification time, as snapshots and locally built generators change without a version change.
+     *
+     * @param generatorClass class of the generator, may be null
+     * @return the description of the code sources
+     */
+    public static String codeSources(Class<?> generatorClass) {
+        List<String> sources = new ArrayList<String>();
+        for (Class<?> type : Arrays.asList(generatorClass, ImplementationVersion.class)) {
+            CodeSource codeSource = type == null ? null : type.getProtectionDomain().getCodeSource();
+            URL location = codeSource == null ? null : codeSource.getLocation();
+            if (location == null) {
+                continue;
+            }
+            try {
+                File file = new File(location.toURI());
+                sources.add(file.getAbsolutePath() + " " + file.length() + " " + file.lastModified());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // not a local file
+                sources.add(location.toString());
+            }
+        }
+        return sources.toString();
+    }
 }
@@ -0,0 +1,71 @@
+package io.swagger.codegen.utils;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SpecFileUtils {
+
+    // matches "$ref": "other.yaml#/..." in json as well as $ref: other.yaml#/... in yaml
+    private static final Pattern EXTERNAL_REF = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
+    /**
+     * Returns the location as a local file, or null if it is a remote URL or does not exist.
+     *
+     * @param location spec location, as file path or URL
+     * @return the local file or null
+     */
+    public static File toLocalFile(String location) {
+        if (location == null) {
+            return null;
+        }
+        String path = location;
+        if (path.startsWith("file:")) {
+            path = path.substring("file:".length());
+        } else if (path.contains("://")) {
+            return null;
+        }
+        File file = new File(path);
+        return file.isFile() ? file.getAbsoluteFile() : null;
+    }
+
+    /**
+     * Collects a local spec file and every local file it references through relative $ref's, recursively.
+     * References to remote URLs are not followed.
+     *
+     * @param spec local spec file
+     * @return spec file followed by the referenced files, in discovery order
+     * @throws IOException if a file cannot be read
+     */
+    public static Set<File> collectLocalFiles(File spec) throws IOException {
+        Set<File> files = new LinkedHashSet<File>();
+        Deque<File> pending = new ArrayDeque<File>();
+        pending.add(spec.getAbsoluteFile());
+        while (!pending.isEmpty()) {
+            File file = pending.poll();
+            if (!files.add(file)) {
+                continue;
+            }
+            Matcher matcher = EXTERNAL_REF.matcher(FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String ref = matcher.group(1);
+                if (ref.contains("://")) {
+                    continue;
+                }
+                File referenced = new File(file.getParentFile(), ref).toPath().normalize().toFile();
+                if (referenced.isFile() && !files.contains(referenced)) {
+                    pending.add(referenced);
+                }
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,74 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.testng.Assert.*;
+
+public class CodegenConfigRegistryTest {
+
+    @Test
+    public void testNewInstanceIsNotShared() {
+        final CodegenConfigRegistry registry = new CodegenConfigRegistry(getClass().getClassLoader());
+
+        final CodegenConfig first = registry.newInstance("java");
+        final CodegenConfig second = registry.newInstance("java");
+
+        assertEquals(first.getClass(), JavaClientCodegen.class);
+        assertNotSame(first, second);
+        assertNotSame(first, registry.getPrototype("java"));
+    }
+
+    @Test
+    public void testPrototypeIsShared() {
+        final CodegenConfigRegistry registry = new CodegenConfigRegistry(getClass().getClassLoader());
+
+        assertSame(registry.getPrototype("java"), registry.getPrototype("java"));
+        assertNull(registry.getPrototype("unknown"));
+        assertTrue(registry.getPrototypes().contains(registry.getPrototype("java")));
+    }
+
+    @Test
+    public void testLoadByClassName() {
+        final CodegenConfigRegistry registry = new CodegenConfigRegistry(getClass().getClassLoader());
+
+        assertEquals(registry.newInstance(JavaClientCodegen.class.getName()).getClass(), JavaClientCodegen.class);
+        assertTrue(registry.getNames().contains("java"));
+        assertFalse(registry.getNames().contains(JavaClientCodegen.class.getName()));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "Can't load config class with name unknown.*")
+    public void testUnknownConfig() {
+        new CodegenConfigRegistry(getClass().getClassLoader()).newInstance("unknown");
+    }
+
+    @Test
+    public void testInstancePerClassLoader() {
+        assertSame(CodegenConfigRegistry.getInstance(), CodegenConfigRegistry.getInstance());
+    }
+
+    @Test
+    public void testClassLoaderIsReleased() throws Exception {
+        ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        final WeakReference<ClassLoader> reference = new WeakReference<ClassLoader>(loader);
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            assertNotNull(CodegenConfigRegistry.getInstance().getPrototype("java"));
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+
+        loader = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+}
@@ -0,0 +1,93 @@
+package io.swagger.codegen;
+
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CodegenModelRegistryTest {
+
+    @Test
+    public void testLookups() {
+        final CodegenModel animal = model("animal", "Animal", null);
+        animal.discriminator = "className";
+        final CodegenModel cat = model("cat", "Cat", "Animal");
+        final CodegenModel dog = model("dog", "Dog", "Animal");
+        final CodegenModel other = model("other", "Other", null);
+
+        final CodegenModelRegistry registry = CodegenModelRegistry.fromModelList(
+                Arrays.asList(entry(animal), entry(cat), entry(dog), entry(other)));
+
+        Assert.assertEquals(registry.size(), 4);
+        Assert.assertEquals(registry.getModels(), Arrays.asList(animal, cat, dog, other));
+        Assert.assertSame(registry.get("cat"), cat);
+        Assert.assertSame(registry.getByClassname("Dog"), dog);
+        Assert.assertNull(registry.get("Dog"));
+        Assert.assertEquals(registry.getChildren("Animal"), Arrays.asList(cat, dog));
+        Assert.assertTrue(registry.getChildren("Other").isEmpty());
+        Assert.assertEquals(registry.getByDiscriminator("className"), Collections.singletonList(animal));
+    }
+
+    @Test
+    public void testLastModelWins() {
+        final CodegenModel first = model("pet", "Pet", null);
+        final CodegenModel second = model("Pet", "Pet", null);
+
+        final CodegenModelRegistry registry = new CodegenModelRegistry(Arrays.asList(first, second));
+
+        Assert.assertSame(registry.getByClassname("Pet"), second);
+        Assert.assertSame(registry.get("pet"), first);
+        Assert.assertEquals(registry.getModelsByClassname().size(), 1);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testIsReadOnly() {
+        new CodegenModelRegistry(Collections.singletonList(model("pet", "Pet", null))).getModels().clear();
+    }
+
+    @Test
+    public void testFromProcessedModels() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/allOfTest.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.supportsInheritance = true;
+
+        final Map<String, Object> processedModels = new HashMap<String, Object>();
+        for (String name : swagger.getDefinitions().keySet()) {
+            final List<Object> models = new ArrayList<Object>();
+            models.add(entry(codegen.fromModel(name, swagger.getDefinitions().get(name), swagger.getDefinitions())));
+            final Map<String, Object> value = new HashMap<String, Object>();
+            value.put("models", models);
+            processedModels.put(name, value);
+        }
+
+        final CodegenModelRegistry registry = CodegenModelRegistry.fromProcessedModels(processedModels);
+        Assert.assertEquals(registry.size(), swagger.getDefinitions().size());
+        for (CodegenModel model : registry.getModels()) {
+            if (model.parent != null) {
+                Assert.assertTrue(registry.getChildren(model.parent).contains(model));
+                Assert.assertNotNull(registry.getByClassname(model.parent));
+            }
+        }
+    }
+
+    private static CodegenModel model(String name, String classname, String parent) {
+        final CodegenModel model = new CodegenModel();
+        model.name = name;
+        model.classname = classname;
+        model.parent = parent;
+        return model;
+    }
+
+    private static Map<String, Object> entry(CodegenModel model) {
+        final Map<String, Object> entry = new HashMap<String, Object>();
+        entry.put("model", model);
+        return entry;
+    }
+}
@@ -51,6 +51,9 @@ public class CodegenTest {
 
         Assert.assertEquals(codegen.underscore("FooBar"), "foo_bar");
         Assert.assertEquals(codegen.underscore("FooBarBaz"), "foo_bar_baz");
+        Assert.assertEquals(codegen.underscore("XMLHttpRequest"), "xml_http_request");
+        Assert.assertEquals(codegen.underscore("pet2Store"), "pet2_store");
+        Assert.assertEquals(codegen.underscore("io.swagger.Pet$Inner"), "io/swagger/pet__inner");
     }
 
     @Test(description = "test camelize")
@@ -69,6 +72,32 @@ public class CodegenTest {
         Assert.assertEquals(codegen.camelize("/foo/bar/baz.qux/corge"), "FooBarBazQuxCorge");
         Assert.assertEquals(codegen.camelize("foo-bar"), "FooBar");
         Assert.assertEquals(codegen.camelize("foo-bar-xyzzy"), "FooBarXyzzy");
+
+        Assert.assertEquals(codegen.camelize("foo__bar"), "FooBar");
+        Assert.assertEquals(codegen.camelize("foo--bar"), "FooBar");
+        Assert.assertEquals(codegen.camelize("foo_1"), "Foo1");
+        Assert.assertEquals(codegen.camelize("-foo"), "Foo");
+        Assert.assertEquals(codegen.camelize("$foo"), "$Foo");
+        Assert.assertEquals(codegen.camelize("foo_"), "Foo_");
+        Assert.assertEquals(codegen.camelize("foo_bar", true), "fooBar");
+        Assert.assertEquals(codegen.camelize("", true), "");
+    }
+
+    @Test(description = "test sanitizeName")
+    public void sanitizeNameTest() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+
+        Assert.assertEquals(codegen.sanitizeName("$"), "value");
+        Assert.assertEquals(codegen.sanitizeName("input[]"), "input");
+        Assert.assertEquals(codegen.sanitizeName("input[a][b]"), "input_a_b");
+        Assert.assertEquals(codegen.sanitizeName("input(a)(b)"), "input_a_b");
+        Assert.assertEquals(codegen.sanitizeName("input.name-and age"), "input_name_and_age");
+        Assert.assertEquals(codegen.sanitizeName("$php_variable"), "php_variable");
+        Assert.assertEquals(codegen.sanitizeName("caf\u00e9"), "caf");
+
+        codegen.allowUnicodeIdentifiers = true;
+        Assert.assertEquals(codegen.sanitizeName("caf\u00e9[]"), "caf\u00e9");
+        Assert.assertEquals(codegen.sanitizeName("$caf\u00e9!"), "caf\u00e9");
     }
 
     @Test(description = "read a file upload param from a 2.0 spec")
@@ -1,8 +1,20 @@
 package io.swagger.codegen;
 
+import com.samskivert.mustache.Mustache;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.properties.StringProperty;
+import io.swagger.util.Json;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class DefaultCodegenTest {
 
     @Test
@@ -33,4 +45,135 @@ public class DefaultCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.HIDE_GENERATION_TIMESTAMP), Boolean.FALSE);
         Assert.assertEquals(codegen.isHideGenerationTimestamp(), false);
     }
+
+    @Test
+    public void testNameCache() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final DefaultCodegen codegen = new DefaultCodegen() {
+            @Override
+            public String toModelName(String name) {
+                calls.incrementAndGet();
+                return super.toModelName(name);
+            }
+        };
+
+        Assert.assertEquals(codegen.cachedModelName("pet"), "Pet");
+        Assert.assertEquals(codegen.cachedModelName("pet"), "Pet");
+        Assert.assertEquals(calls.get(), 2);
+
+        codegen.setNameCacheEnabled(true);
+        Assert.assertEquals(codegen.cachedModelName("pet"), "Pet");
+        Assert.assertEquals(codegen.cachedModelName("pet"), "Pet");
+        Assert.assertEquals(calls.get(), 3);
+
+        // options change the names, a new generation starts with an empty cache
+        codegen.setModelNamePrefix("Api");
+        codegen.setNameCacheEnabled(true);
+        Assert.assertEquals(codegen.cachedModelName("pet"), "Apipet");
+        Assert.assertEquals(calls.get(), 4);
+
+        codegen.setNameCacheEnabled(false);
+        Assert.assertEquals(codegen.cachedModelName("pet"), "Apipet");
+        Assert.assertEquals(calls.get(), 5);
+    }
+
+    @Test
+    public void testNameCacheIsBounded() throws Exception {
+        final NameCache cache = new NameCache(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        Assert.assertEquals(cache.get("a"), "A");
+
+        cache.put("c", "C");
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(cache.get("c"), "C");
+
+        cache.put(null, "D");
+        cache.put("d", null);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testJsonIsRenderedOnUse() throws Exception {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final RenderCounter counter = new RenderCounter();
+        final StringProperty property = new StringProperty().example("example");
+        property.setVendorExtension("x-counter", counter);
+        final ModelImpl model = new ModelImpl().property("name", property);
+
+        final CodegenProperty codegenProperty = codegen.fromProperty("name", property);
+        final CodegenModel codegenModel = codegen.fromModel("Model", model);
+        Assert.assertEquals(counter.renders, 0);
+
+        final String jsonSchema = Mustache.compiler().compile("{{{jsonSchema}}}").execute(codegenProperty);
+        final String modelJson = Mustache.compiler().compile("{{{modelJson}}}").execute(codegenModel);
+        Assert.assertEquals(counter.renders, 2);
+        Assert.assertEquals(codegenProperty.getJsonSchema(), jsonSchema);
+        Assert.assertEquals(codegenModel.getModelJson(), modelJson);
+        Assert.assertEquals(counter.renders, 2);
+        Assert.assertEquals(jsonSchema, Json.pretty(property));
+        Assert.assertEquals(modelJson, Json.mapper().writeValueAsString(model));
+
+        codegenProperty.setJsonSchema("{}");
+        Assert.assertEquals(codegenProperty.getJsonSchema(), "{}");
+    }
+
+    @Test
+    public void testUniqueOperationIds() throws Exception {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final Map<String, List<CodegenOperation>> operations = new HashMap<String, List<CodegenOperation>>();
+        final String[] operationIds = {"getPet", "getPet", "getPet_1", "getPet", "other"};
+        for (String operationId : operationIds) {
+            final CodegenOperation co = new CodegenOperation();
+            co.operationId = operationId;
+            codegen.addOperationToGroup("pet", "/pet", new Operation(), co, operations);
+        }
+
+        final List<String> uniqueIds = new ArrayList<String>();
+        for (CodegenOperation co : operations.get("pet")) {
+            uniqueIds.add(co.operationId);
+        }
+        Assert.assertEquals(uniqueIds, Arrays.asList("getPet", "getPet_0", "getPet_1", "getPet_2", "other"));
+
+        // operations added to the group directly are taken into account as well
+        final CodegenOperation added = new CodegenOperation();
+        added.operationId = "other_0";
+        operations.get("pet").add(added);
+        final CodegenOperation co = new CodegenOperation();
+        co.operationId = "other";
+        codegen.addOperationToGroup("pet", "/pet", new Operation(), co, operations);
+        Assert.assertEquals(co.operationId, "other_1");
+    }
+
+    @Test
+    public void testEqualityDoesNotRenderJson() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final RenderCounter counter = new RenderCounter();
+        final StringProperty property = new StringProperty();
+        property.setVendorExtension("x-counter", counter);
+        final ModelImpl model = new ModelImpl().property("name", property);
+
+        final CodegenModel first = codegen.fromModel("Model", model);
+        final CodegenModel second = codegen.fromModel("Model", model);
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+        Assert.assertEquals(first.vars.get(0), second.vars.get(0));
+        Assert.assertEquals(counter.renders, 0);
+
+        final CodegenModel other = codegen.fromModel("Model", new ModelImpl().property("name", new StringProperty().example("name")));
+        Assert.assertNotEquals(first, other);
+    }
+
+    /**
+     * Vendor extension counting how many times the spec element holding it was serialized.
+     */
+    public static class RenderCounter {
+        private int renders;
+
+        public String getValue() {
+            renders++;
+            return "value";
+        }
+    }
 }
@@ -3,12 +3,18 @@ package io.swagger.codegen;
 import io.swagger.codegen.config.CodegenConfigurator;
 import io.swagger.codegen.languages.JavaClientCodegen;
 import io.swagger.codegen.languages.SpringCodegen;
+import io.swagger.codegen.languages.StaticHtmlGenerator;
 import io.swagger.models.ExternalDocs;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
 import io.swagger.models.Swagger;
 import io.swagger.models.Tag;
+import io.swagger.models.properties.StringProperty;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.parser.util.ParseOptions;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.rules.TemporaryFolder;
 import org.testng.annotations.AfterMethod;
@@ -20,6 +26,13 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import static io.swagger.codegen.CodegenConstants.TEMPLATE_DIR;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -810,6 +823,269 @@ public class DefaultGeneratorTest {
         assertTrue(containsOverloadedComments(apiClient, LIBRARY_COMMENT));
     }
 
+    @Test
+    public void testParallelGenerationMatchesSerial() throws Exception {
+        final File serialOutput = new File(folder.getRoot(), "serial");
+        final File parallelOutput = new File(folder.getRoot(), "parallel");
+
+        List<File> serialFiles = generatePetstore(serialOutput, 1);
+        List<File> parallelFiles = generatePetstore(parallelOutput, 4);
+
+        assertEquals(parallelFiles.size(), serialFiles.size());
+        for (int i = 0; i < serialFiles.size(); i++) {
+            String serialPath = serialOutput.toURI().relativize(serialFiles.get(i).toURI()).getPath();
+            String parallelPath = parallelOutput.toURI().relativize(parallelFiles.get(i).toURI()).getPath();
+            assertEquals(parallelPath, serialPath);
+            assertEquals(FileUtils.readFileToString(parallelFiles.get(i), UTF_8), FileUtils.readFileToString(serialFiles.get(i), UTF_8));
+        }
+    }
+
+    @Test
+    public void testLowMemoryGeneration() throws Exception {
+        final File defaultOutput = new File(folder.getRoot(), "default");
+        final File lowMemoryOutput = new File(folder.getRoot(), "lowMemory");
+
+        List<File> defaultFiles = generatePetstore(defaultOutput, 1, false);
+        List<File> lowMemoryFiles = generatePetstore(lowMemoryOutput, 1, true);
+
+        assertEquals(lowMemoryFiles.size(), defaultFiles.size());
+        for (int i = 0; i < defaultFiles.size(); i++) {
+            String path = defaultOutput.toURI().relativize(defaultFiles.get(i).toURI()).getPath();
+            assertEquals(lowMemoryOutput.toURI().relativize(lowMemoryFiles.get(i).toURI()).getPath(), path);
+            // the README shows an example call with the parameters of the first operation, which are not kept
+            if (!"README.md".equals(path)) {
+                assertEquals(FileUtils.readFileToString(lowMemoryFiles.get(i), UTF_8),
+                        FileUtils.readFileToString(defaultFiles.get(i), UTF_8), path);
+            }
+        }
+        String readme = FileUtils.readFileToString(new File(lowMemoryOutput, "README.md"), UTF_8);
+        assertTrue(readme.contains("*PetApi* | [**addPet**](docs/PetApi.md#addPet) | **POST** /pet | Add a new pet to the store"));
+        assertTrue(readme.contains("[Pet](docs/Pet.md)"));
+    }
+
+    @Test
+    public void testSystemPropertiesOfConcurrentGenerations() throws Exception {
+        final File modelsOutput = new File(folder.getRoot(), "models");
+        final File apisOutput = new File(folder.getRoot(), "apis");
+        final Map<String, String> modelsProperties = new HashMap<String, String>();
+        modelsProperties.put(CodegenConstants.MODELS, "Pet");
+        final Map<String, String> apisProperties = new HashMap<String, String>();
+        apisProperties.put(CodegenConstants.APIS, "");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<File>> models = executor.submit(petstoreGeneration(modelsOutput, modelsProperties));
+            Future<List<File>> apis = executor.submit(petstoreGeneration(apisOutput, apisProperties));
+            models.get();
+            apis.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(new File(modelsOutput, "src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertFalse(new File(modelsOutput, MODEL_ORDER_FILE).exists());
+        assertFalse(new File(modelsOutput, "src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertTrue(new File(apisOutput, "src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertFalse(new File(apisOutput, "src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertFalse(new File(apisOutput, POM_FILE).exists());
+        assertNull(System.getProperty(CodegenConstants.MODELS));
+        assertNull(System.getProperty(CodegenConstants.APIS));
+    }
+
+    @Test
+    public void testSystemPropertiesHideJvmProperties() throws Exception {
+        final File output = folder.getRoot();
+        final Map<String, String> properties = new HashMap<String, String>();
+        properties.put(CodegenConstants.MODELS, null);
+        System.setProperty(CodegenConstants.MODELS, "Pet");
+        try {
+            petstoreGeneration(output, properties).call();
+        } finally {
+            System.clearProperty(CodegenConstants.MODELS);
+        }
+
+        assertTrue(new File(output, MODEL_ORDER_FILE).exists());
+        assertTrue(new File(output, "src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertTrue(new File(output, POM_FILE).exists());
+    }
+
+    private static Callable<List<File>> petstoreGeneration(final File output, final Map<String, String> systemProperties) {
+        return new Callable<List<File>>() {
+            @Override
+            public List<File> call() {
+                final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+                CodegenConfig codegenConfig = new JavaClientCodegen();
+                codegenConfig.setOutputDir(output.getAbsolutePath());
+                ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger)
+                        .config(codegenConfig).systemProperties(systemProperties);
+                return new DefaultGenerator().opts(clientOptInput).generate();
+            }
+        };
+    }
+
+    @Test
+    public void testZipOutputMatchesFiles() throws Exception {
+        final File fileOutput = new File(folder.getRoot(), "files");
+        final File zipRoot = new File(folder.getRoot(), "zip");
+        List<File> files = generatePetstore(fileOutput, 1);
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(new File(zipRoot, "petstore").getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ZipOutputStream zip = new ZipOutputStream(bytes);
+        ZipGeneratorOutput output = new ZipGeneratorOutput(zipRoot, zip);
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .output(output);
+        new DefaultGenerator().opts(clientOptInput).generate();
+        output.finish();
+        zip.close();
+
+        assertFalse(zipRoot.exists());
+        Map<String, String> entries = new HashMap<String, String>();
+        ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+            entries.put(entry.getName(), IOUtils.toString(in, UTF_8));
+        }
+        in.close();
+
+        assertEquals(entries.size(), files.size());
+        for (File file : files) {
+            String path = "petstore/" + fileOutput.toURI().relativize(file.toURI()).getPath();
+            assertEquals(entries.get(path), FileUtils.readFileToString(file, UTF_8), path);
+        }
+    }
+
+    @Test
+    public void testIncrementalGeneration() throws Exception {
+        final File output = folder.getRoot();
+        final String unusedModelFile = "src/main/java/io/swagger/client/model/Unused.java";
+
+        Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        swagger.addDefinition("Unused", new ModelImpl().type(ModelImpl.OBJECT));
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(incrementalInput(swagger, output)).generate();
+
+        OutputManifest first = generator.getOutputManifest();
+        assertTrue(new File(output, OutputManifest.MANIFEST_FILE).exists());
+        assertTrue(first.getUnchanged().isEmpty());
+        assertTrue(first.getChanged().contains(MODEL_ORDER_FILE.substring(1)));
+        assertTrue(new File(output, unusedModelFile).exists());
+
+        final File order = new File(output, MODEL_ORDER_FILE);
+        assertTrue(order.setLastModified(1000L));
+
+        swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        generator = new DefaultGenerator();
+        generator.opts(incrementalInput(swagger, output)).generate();
+
+        OutputManifest second = generator.getOutputManifest();
+        assertTrue(second.getChanged().isEmpty());
+        assertTrue(second.getUnchanged().contains(MODEL_ORDER_FILE.substring(1)));
+        assertEquals(order.lastModified(), 1000L);
+        assertEquals(second.getDeleted(), new TreeSet<String>(Arrays.asList("docs/Unused.md", unusedModelFile)));
+        assertFalse(new File(output, unusedModelFile).exists());
+        assertTrue(new File(output, "README.md").exists());
+    }
+
+    @Test
+    public void testIncrementalGenerationOfUnchangedInputs() throws Exception {
+        final File output = folder.getRoot();
+        Set<File> generated = new HashSet<File>(new DefaultGenerator()
+                .opts(incrementalInput(new SwaggerParser().read("src/test/resources/petstore.json"), output)).generate());
+        assertTrue(new File(output, GenerationFingerprints.FINGERPRINTS_FILE).exists());
+
+        RecordingGenerator generator = new RecordingGenerator();
+        List<File> files = generator.opts(incrementalInput(new SwaggerParser().read("src/test/resources/petstore.json"), output))
+                .generate();
+
+        assertTrue(generator.rendered.isEmpty(), generator.rendered.toString());
+        assertFalse(generator.getOutputManifest().getUnchanged().isEmpty());
+        assertTrue(generator.getOutputManifest().getChanged().isEmpty());
+        Set<File> kept = new HashSet<File>();
+        for (File file : files) {
+            kept.add(file.getAbsoluteFile());
+        }
+        for (File file : generated) {
+            assertTrue(kept.contains(file.getAbsoluteFile()), file.getPath());
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationRendersChangedModels() throws Exception {
+        final File output = folder.getRoot();
+        new DefaultGenerator().opts(incrementalInput(new SwaggerParser().read("src/test/resources/petstore.json"), output))
+                .generate();
+
+        RecordingGenerator generator = new RecordingGenerator();
+        List<File> files = generator.opts(incrementalInput(petstoreWithCategoryDescription(), output)).generate();
+
+        // the changed model and the model and api depending on it
+        assertTrue(generator.isRendered("src/main/java/io/swagger/client/model/Category.java"));
+        assertTrue(generator.isRendered("src/main/java/io/swagger/client/model/Pet.java"));
+        assertTrue(generator.isRendered("src/main/java/io/swagger/client/api/PetApi.java"));
+        assertTrue(generator.isRendered("docs/Pet.md"));
+        assertTrue(generator.isRendered(API_CLIENT_FILE.substring(1)));
+        assertFalse(generator.isRendered(MODEL_ORDER_FILE.substring(1)));
+        assertFalse(generator.isRendered("src/main/java/io/swagger/client/api/StoreApi.java"));
+        assertTrue(files.contains(new File(output, MODEL_ORDER_FILE.substring(1)).getAbsoluteFile()));
+        assertTrue(containsSearchStrings(new File(output, "src/main/java/io/swagger/client/model/Category.java"),
+                "private String description"));
+
+        // deleted outputs are rendered again
+        final File order = new File(output, MODEL_ORDER_FILE);
+        assertTrue(order.delete());
+        generator = new RecordingGenerator();
+        generator.opts(incrementalInput(petstoreWithCategoryDescription(), output)).generate();
+        assertTrue(generator.isRendered(MODEL_ORDER_FILE.substring(1)));
+        assertFalse(generator.isRendered("src/main/java/io/swagger/client/model/Pet.java"));
+        assertTrue(order.exists());
+    }
+
+    private static Swagger petstoreWithCategoryDescription() {
+        Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        ((ModelImpl) swagger.getDefinitions().get("Category")).addProperty("description", new StringProperty());
+        return swagger;
+    }
+
+    private static class RecordingGenerator extends DefaultGenerator {
+        private final List<String> rendered = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public File writeToFile(String filename, byte[] contents) throws IOException {
+            rendered.add(new File(filename).getAbsolutePath());
+            return super.writeToFile(filename, contents);
+        }
+
+        private boolean isRendered(String path) {
+            return rendered.contains(new File(config.getOutputDir(), path).getAbsolutePath());
+        }
+    }
+
+    private static ClientOptInput incrementalInput(Swagger swagger, File output) {
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        return new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).incremental(true);
+    }
+
+    private static List<File> generatePetstore(File output, int generationThreads) {
+        return generatePetstore(output, generationThreads, false);
+    }
+
+    private static List<File> generatePetstore(File output, int generationThreads, boolean lowMemory) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generationThreads(generationThreads)
+                .lowMemory(lowMemory);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
     @Test
     public void testGenerateUniqueOperationIds() {
         final File output = folder.getRoot();
@@ -834,6 +1110,74 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelOperationsMatchSerial() {
+        Map<String, List<CodegenOperation>> serial = processPetstorePaths(new JavaClientCodegen(), 1);
+        Map<String, List<CodegenOperation>> parallel = processPetstorePaths(new JavaClientCodegen(), 4);
+
+        assertEquals(parallel.keySet(), serial.keySet());
+        for (String tag : serial.keySet()) {
+            assertEquals(parallel.get(tag).size(), serial.get(tag).size(), tag);
+            for (int i = 0; i < serial.get(tag).size(); i++) {
+                CodegenOperation expected = serial.get(tag).get(i);
+                CodegenOperation actual = parallel.get(tag).get(i);
+                assertEquals(actual.operationId, expected.operationId, tag);
+                assertEquals(actual.httpMethod, expected.httpMethod, expected.operationId);
+                assertEquals(actual.path, expected.path, expected.operationId);
+                assertEquals(actual.allParams.size(), expected.allParams.size(), expected.operationId);
+                assertEquals(actual.tags, expected.tags, expected.operationId);
+                assertEquals(actual.hasAuthMethods, expected.hasAuthMethods, expected.operationId);
+                assertEquals(actual.examples, expected.examples, expected.operationId);
+                assertEquals(actual.requestBodyExamples, expected.requestBodyExamples, expected.operationId);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelOperationsNotSupported() {
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        JavaClientCodegen codegenConfig = new JavaClientCodegen() {
+            @Override
+            public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Model> definitions, Swagger swagger) {
+                threads.add(Thread.currentThread());
+                return super.fromOperation(path, httpMethod, operation, definitions, swagger);
+            }
+
+            @Override
+            public boolean isParallelOperationsSupported() {
+                return false;
+            }
+        };
+
+        assertFalse(processPetstorePaths(codegenConfig, 4).isEmpty());
+        assertEquals(threads, Collections.singleton(Thread.currentThread()));
+    }
+
+    @Test
+    public void testParallelOperationsAreOptIn() {
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        StaticHtmlGenerator codegenConfig = new StaticHtmlGenerator() {
+            @Override
+            public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Model> definitions, Swagger swagger) {
+                threads.add(Thread.currentThread());
+                return super.fromOperation(path, httpMethod, operation, definitions, swagger);
+            }
+        };
+
+        assertFalse(processPetstorePaths(codegenConfig, 4).isEmpty());
+        assertEquals(threads, Collections.singleton(Thread.currentThread()));
+    }
+
+    private Map<String, List<CodegenOperation>> processPetstorePaths(CodegenConfig codegenConfig, int generationThreads) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml");
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generationThreads(generationThreads);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(clientOptInput);
+        return generator.processPaths(swagger.getPaths());
+    }
+
     @Test
     public void testResolveTagsAgainstSwaggerTagsDefinition() {
         final File output = folder.getRoot();
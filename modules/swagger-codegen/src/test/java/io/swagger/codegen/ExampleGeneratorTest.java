@@ -1,19 +1,24 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
 import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
 import io.swagger.models.Xml;
 import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.LongProperty;
 import io.swagger.models.properties.RefProperty;
 import io.swagger.models.properties.StringProperty;
+import io.swagger.util.Json;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -70,4 +75,125 @@ public class ExampleGeneratorTest {
         Assert.assertEqualsNoOrder(types.toArray(new String[types.size()]),
                 expectedTypes.toArray(new String[expectedTypes.size()]));
     }
+
+    @Test(description = "check that cached examples are those generated without cache")
+    public void cachedExamplesTest() {
+        // examples are cached per media type
+        final List<String> mediaTypes = Arrays.asList("application/json", "application/xml",
+                "application/json; charset=utf-8", "application/xml; charset=utf-8");
+        final Map<String, Model> definitions = petModels();
+        final Map<String, Model> cachedDefinitions = petModels();
+        final ExampleCache cache = new ExampleCache(cachedDefinitions);
+
+        for (int i = 0; i < 3; i++) {
+            // a generator per example, as for the operations of a generation
+            Assert.assertEquals(new ExampleGenerator(cachedDefinitions, cache).generate(null, mediaTypes, new RefProperty("Pet")),
+                    new ExampleGenerator(definitions).generate(null, mediaTypes, new RefProperty("Pet")));
+            Assert.assertEquals(new ExampleGenerator(cachedDefinitions, cache).generate(null, mediaTypes, "Category"),
+                    new ExampleGenerator(definitions).generate(null, mediaTypes, "Category"));
+            Assert.assertEquals(new ExampleGenerator(cachedDefinitions, cache).generate(null, mediaTypes, new ArrayProperty(new RefProperty("Pet"))),
+                    new ExampleGenerator(definitions).generate(null, mediaTypes, new ArrayProperty(new RefProperty("Pet"))));
+        }
+
+        final String first = new ExampleGenerator(cachedDefinitions, cache).generate(null, mediaTypes, "Pet").get(0).get("example");
+        final String second = new ExampleGenerator(cachedDefinitions, cache).generate(null, mediaTypes, new RefProperty("Pet")).get(0).get("example");
+        Assert.assertSame(second, first);
+        Assert.assertNotSame(new ExampleGenerator(definitions).generate(null, mediaTypes, "Pet").get(0).get("example"),
+                new ExampleGenerator(definitions).generate(null, mediaTypes, "Pet").get(0).get("example"));
+
+        // a cache of other definitions is not used
+        Assert.assertNotSame(new ExampleGenerator(definitions, cache).generate(null, mediaTypes, "Pet").get(0).get("example"), first);
+    }
+
+    @Test(description = "check that deferred examples are generated when run")
+    public void deferredExamplesTest() {
+        final List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        final Map<String, Model> definitions = petModels();
+        final List<Runnable> generations = new ArrayList<Runnable>();
+
+        ExampleGenerator.deferGeneration(generations);
+        final List<Map<String, String>> deferred;
+        final List<Map<String, String>> fromSpec;
+        try {
+            deferred = new ExampleGenerator(definitions).generate(null, mediaTypes, new RefProperty("Pet"));
+            fromSpec = new ExampleGenerator(definitions).generate(ImmutableMap.<String, Object>of("application/json", "{}"), mediaTypes, "Pet");
+        } finally {
+            ExampleGenerator.deferGeneration(null);
+        }
+
+        Assert.assertTrue(deferred.isEmpty());
+        Assert.assertEquals(fromSpec.size(), 1);
+        Assert.assertEquals(generations.size(), 1);
+        generations.get(0).run();
+        Assert.assertEquals(deferred, new ExampleGenerator(petModels()).generate(null, mediaTypes, new RefProperty("Pet")));
+    }
+
+    @Test(description = "check that deeply nested models are cut")
+    public void deepModelsTest() {
+        final Map<String, Model> definitions = new HashMap<String, Model>();
+        for (int i = 0; i < 100; i++) {
+            definitions.put("Level" + i, new ModelImpl().name("Level" + i).property("name", new StringProperty())
+                    .property("next", new RefProperty("Level" + (i + 1))));
+        }
+
+        final List<Map<String, String>> examples = new ExampleGenerator(definitions)
+                .generate(null, Arrays.asList("application/json", "application/xml"), "Level0");
+
+        // resolved examples are kept by the models
+        int depth = 0;
+        Object example = definitions.get("Level0").getExample();
+        while (example instanceof Map) {
+            example = ((Map<?, ?>) example).get("next");
+            depth++;
+        }
+        Assert.assertTrue(depth > 10);
+        Assert.assertTrue(depth < 40, String.valueOf(depth));
+        final String xml = examples.get(1).get("example");
+        Assert.assertTrue(xml.contains("<Level1>"));
+        Assert.assertFalse(xml.contains("<Level40>"), xml);
+    }
+
+    @Test(description = "check that examples of models referencing other models many times are cut", timeOut = 30000)
+    public void wideModelsTest() throws Exception {
+        final Map<String, Model> definitions = new HashMap<String, Model>();
+        for (int i = 0; i < 20; i++) {
+            final RefProperty next = new RefProperty("Level" + (i + 1));
+            final ArrayProperty nextList = new ArrayProperty(new RefProperty("Level" + (i + 1)));
+            nextList.setMaxItems(10);
+            nextList.setXml(new Xml().wrapped(true));
+            definitions.put("Level" + i, new ModelImpl().name("Level" + i).property("name", new StringProperty())
+                    .property("first", next).property("second", next).property("third", next)
+                    .property("list", nextList));
+        }
+
+        final List<Map<String, String>> examples = new ExampleGenerator(definitions)
+                .generate(null, Arrays.asList("application/json", "application/xml"), "Level0");
+
+        // examples kept by the models are serialized with the spec
+        int kept = 0;
+        for (Model model : definitions.values()) {
+            if (model.getExample() != null) {
+                final String json = Json.mapper().writeValueAsString(model.getExample());
+                Assert.assertTrue(json.length() < 1000000, String.valueOf(json.length()));
+                kept++;
+            }
+        }
+        Assert.assertTrue(kept > 0);
+        // a cut example is not kept as the example of the model
+        Assert.assertNull(definitions.get("Level0").getExample());
+        final String xml = examples.get(1).get("example");
+        Assert.assertTrue(xml.contains("<Level1>"));
+        Assert.assertTrue(xml.length() < 1000000, String.valueOf(xml.length()));
+    }
+
+    private static Map<String, Model> petModels() {
+        final Map<String, Model> definitions = new HashMap<String, Model>();
+        definitions.put("Category", new ModelImpl().name("Category").property("id", new LongProperty())
+                .property("name", new StringProperty()));
+        definitions.put("Pet", new ModelImpl().name("Pet").property("id", new LongProperty())
+                .property("name", new StringProperty())
+                .property("category", new RefProperty("Category"))
+                .property("tags", new ArrayProperty(new RefProperty("Category"))));
+        return definitions;
+    }
 }
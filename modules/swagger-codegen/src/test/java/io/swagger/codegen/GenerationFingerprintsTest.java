@@ -0,0 +1,85 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+public class GenerationFingerprintsTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testChangesPropagateToDependentModels() throws Exception {
+        fingerprints(spec(false)).save();
+
+        GenerationFingerprints unchanged = fingerprints(spec(false));
+        assertTrue(unchanged.isUnchanged());
+        assertFalse(unchanged.isModelChanged("Animal"));
+
+        GenerationFingerprints changed = fingerprints(spec(true));
+        assertFalse(changed.isUnchanged());
+        assertTrue(changed.isModelChanged("Dog"));
+        // the parent lists its children, the owner references the child
+        assertTrue(changed.isModelChanged("Animal"));
+        assertTrue(changed.isModelChanged("Owner"));
+        assertFalse(changed.isModelChanged("Address"));
+    }
+
+    @Test
+    public void testOptionsChangeAllModels() throws Exception {
+        fingerprints(spec(false)).save();
+
+        CodegenConfig config = config();
+        config.additionalProperties().put(CodegenConstants.MODEL_PACKAGE, "org.example");
+        GenerationFingerprints fingerprints = GenerationFingerprints.create(config, null,
+                Collections.<String>emptyList(), spec(false));
+        assertFalse(fingerprints.isUnchanged());
+        assertTrue(fingerprints.isModelChanged("Address"));
+    }
+
+    private GenerationFingerprints fingerprints(Swagger swagger) throws Exception {
+        return GenerationFingerprints.create(config(), null, Collections.<String>emptyList(), swagger);
+    }
+
+    private CodegenConfig config() {
+        CodegenConfig config = new JavaClientCodegen();
+        config.setOutputDir(folder.getRoot().getAbsolutePath());
+        return config;
+    }
+
+    private static Swagger spec(boolean changed) {
+        Model dog = new ComposedModel()
+                .parent(new RefModel("Animal"))
+                .child(new ModelImpl().property(changed ? "breed" : "name", new StringProperty()));
+        ((ComposedModel) dog).setAllOf(Arrays.asList(new RefModel("Animal"), ((ComposedModel) dog).getChild()));
+        return new Swagger()
+                .model("Animal", new ModelImpl().discriminator("type").property("type", new StringProperty()))
+                .model("Dog", dog)
+                .model("Owner", new ModelImpl().property("dog", new RefProperty("Dog")))
+                .model("Address", new ModelImpl().property("street", new StringProperty()));
+    }
+}
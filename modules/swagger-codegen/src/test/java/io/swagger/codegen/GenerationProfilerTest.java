@@ -0,0 +1,97 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class GenerationProfilerTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testProfilesGeneration() throws Exception {
+        final GenerationProfiler profiler = new GenerationProfiler();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java")
+                .setInputSpec("src/test/resources/2_0/petstore.json")
+                .setOutputDir(folder.getRoot().getAbsolutePath())
+                .setProfiler(profiler);
+        final ClientOptInput input = configurator.toClientOptInput();
+        final int modelCount = input.getSwagger().getDefinitions().size();
+        final List<File> files = new DefaultGenerator().opts(input).generate();
+
+        final Map<String, GenerationProfiler.Stat> phases = new HashMap<String, GenerationProfiler.Stat>();
+        long templateCount = 0;
+        for (GenerationProfiler.Stat stat : profiler.getStats()) {
+            assertEquals(stat.getGenerator(), "java");
+            if (GenerationProfiler.PHASE.equals(stat.getCategory())) {
+                phases.put(stat.getName(), stat);
+            } else {
+                assertEquals(stat.getCategory(), GenerationProfiler.TEMPLATE);
+                templateCount += stat.getCount();
+            }
+        }
+        assertEquals(phases.get("parse").getCount(), 1);
+        assertEquals(phases.get("generate").getCount(), 1);
+        assertEquals(phases.get("postProcessAllModels").getCount(), 1);
+        assertEquals(phases.get("fromModel").getCount(), modelCount);
+        assertTrue(phases.get("fromOperation").getCount() > 0);
+        assertEquals(phases.get("write").getCount(), files.size());
+        assertTrue(templateCount > 0 && templateCount < files.size());
+        assertTrue(phases.get("generate").getTotalMillis() >= phases.get("models").getTotalMillis());
+    }
+
+    @Test
+    public void testWritesReports() throws Exception {
+        final GenerationProfiler profiler = new GenerationProfiler();
+        profiler.forGenerator("java").start(GenerationProfiler.TEMPLATE, "api, \"quoted\".mustache").stop();
+        profiler.forGenerator("python").start(GenerationProfiler.PHASE, "fromModel").stop();
+        profiler.forGenerator("python").start(GenerationProfiler.PHASE, "fromModel").stop();
+
+        final File json = new File(folder.getRoot(), "report.json");
+        profiler.writeReport(json);
+        final JsonNode stats = Json.mapper().readTree(json).get("stats");
+        assertEquals(stats.size(), 2);
+        assertEquals(stats.get(0).get("generator").asText(), "java");
+        assertEquals(stats.get(1).get("name").asText(), "fromModel");
+        assertEquals(stats.get(1).get("count").asLong(), 2);
+
+        final File csv = new File(folder.getRoot(), "report.csv");
+        profiler.writeReport(csv);
+        final List<String> lines = FileUtils.readLines(csv, StandardCharsets.UTF_8);
+        assertEquals(lines.size(), 3);
+        assertTrue(lines.get(1).startsWith("java,template,\"api, \"\"quoted\"\".mustache\",1,"));
+        assertTrue(lines.get(2).startsWith("python,phase,fromModel,2,"));
+    }
+
+    @Test
+    public void testDisabledProfilerRecordsNothing() throws Exception {
+        final GenerationProfiler profiler = GenerationProfiler.disabled();
+        profiler.forGenerator("java").start(GenerationProfiler.PHASE, "generate").stop();
+        assertFalse(profiler.isEnabled());
+        assertTrue(profiler.getStats().isEmpty());
+    }
+}
@@ -0,0 +1,127 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.IOUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.testng.Assert.*;
+
+public class GeneratorOutputTest {
+    private static final String MODEL_PET_FILE = "src/main/java/io/swagger/client/model/Pet.java";
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testInMemoryOutput() throws Exception {
+        final File outputDir = new File(folder.getRoot(), "petstore");
+        final InMemoryGeneratorOutput output = new InMemoryGeneratorOutput(outputDir);
+
+        List<File> files = generate(outputDir, output);
+
+        assertFalse(outputDir.exists());
+        assertEquals(output.getFiles().size(), files.size());
+        assertTrue(output.getString(MODEL_PET_FILE).contains("public class Pet"));
+        assertTrue(output.exists(new File(outputDir, MODEL_PET_FILE).getPath()));
+        assertNull(output.getContents("missing.txt"));
+    }
+
+    @Test
+    public void testFileSystemOutput() throws Exception {
+        final File outputDir = new File(folder.getRoot(), "petstore");
+        final URI uri = URI.create("jar:" + new File(folder.getRoot(), "petstore.zip").toURI());
+        final FileSystem fileSystem = FileSystems.newFileSystem(uri, Collections.singletonMap("create", "true"));
+        try {
+            final Path target = fileSystem.getPath("/generated");
+            generate(outputDir, new FileSystemGeneratorOutput(outputDir, target));
+
+            assertFalse(outputDir.exists());
+            final Path pet = target.resolve(MODEL_PET_FILE);
+            assertTrue(Files.exists(pet));
+            assertTrue(new String(Files.readAllBytes(pet), StandardCharsets.UTF_8).contains("public class Pet"));
+        } finally {
+            fileSystem.close();
+        }
+    }
+
+    @Test
+    public void testZipOutputKeepsLastWrite() throws Exception {
+        final File outputDir = new File(folder.getRoot(), "petstore");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ZipOutputStream zip = new ZipOutputStream(bytes);
+        final ZipGeneratorOutput output = new ZipGeneratorOutput(folder.getRoot(), zip);
+
+        output.write(new File(outputDir, "README.md").getPath(), "first".getBytes(StandardCharsets.UTF_8));
+        output.write(new File(outputDir, "pom.xml").getPath(), "pom".getBytes(StandardCharsets.UTF_8));
+        output.write(new File(outputDir, "README.md").getPath(), "last".getBytes(StandardCharsets.UTF_8));
+        output.finish();
+        zip.close();
+
+        assertEquals(output.size(), 2);
+        final List<String> names = new ArrayList<String>();
+        final ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+            names.add(entry.getName());
+            if ("petstore/README.md".equals(entry.getName())) {
+                assertEquals(new String(IOUtils.toByteArray(in), StandardCharsets.UTF_8), "last");
+            }
+        }
+        in.close();
+        assertEquals(names, Arrays.asList("petstore/README.md", "petstore/pom.xml"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testZipOutputRejectsWritesAfterFinish() throws Exception {
+        final ZipGeneratorOutput output = new ZipGeneratorOutput(folder.getRoot(), new ZipOutputStream(new ByteArrayOutputStream()));
+        output.finish();
+        output.write(new File(folder.getRoot(), "README.md").getPath(), new byte[0]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsFilesOutsideRoot() throws Exception {
+        final File outputDir = new File(folder.getRoot(), "petstore");
+        new InMemoryGeneratorOutput(outputDir).write(new File(folder.getRoot(), "other.txt").getPath(), new byte[0]);
+    }
+
+    private static List<File> generate(File outputDir, GeneratorOutput output) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(outputDir.getAbsolutePath());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .output(output);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+}
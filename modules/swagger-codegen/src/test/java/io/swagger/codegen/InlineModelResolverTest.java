@@ -1021,4 +1021,51 @@ public class InlineModelResolverTest {
                 .type("string"));
         new InlineModelResolver().flatten(swagger);
     }
+
+    @Test
+    public void resolveInlineModelsWithPropertiesInAnyOrder() throws Exception {
+        Swagger swagger = new Swagger();
+
+        swagger.addDefinition("User", new ModelImpl()
+                .property("address", new ObjectProperty()
+                        .description("description")
+                        .property("street", new StringProperty())
+                        .property("city", new StringProperty())));
+        swagger.addDefinition("Shop", new ModelImpl()
+                .property("address", new ObjectProperty()
+                        .description("description")
+                        .property("city", new StringProperty())
+                        .property("street", new StringProperty())));
+        swagger.addDefinition("Office", new ModelImpl()
+                .property("address", new ObjectProperty()
+                        .description("description")
+                        .property("city", new StringProperty())
+                        .property("street", new StringProperty().description("street name"))));
+
+        new InlineModelResolver().flatten(swagger);
+
+        RefProperty user = (RefProperty) ((ModelImpl) swagger.getDefinitions().get("User")).getProperties().get("address");
+        RefProperty shop = (RefProperty) ((ModelImpl) swagger.getDefinitions().get("Shop")).getProperties().get("address");
+        RefProperty office = (RefProperty) ((ModelImpl) swagger.getDefinitions().get("Office")).getProperties().get("address");
+        assertEquals(user.getSimpleRef(), shop.getSimpleRef());
+        assertFalse(user.getSimpleRef().equals(office.getSimpleRef()));
+        assertEquals(swagger.getDefinitions().size(), 5);
+    }
+
+    @Test
+    public void testUniqueNames() throws Exception {
+        Swagger swagger = new Swagger();
+        swagger.addDefinition("Pet", new ModelImpl());
+        swagger.addDefinition("Pet_1", new ModelImpl());
+        swagger.addDefinition("Pet_3", new ModelImpl());
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.flatten(swagger);
+
+        assertEquals(resolver.uniqueName("Order"), "Order");
+        assertEquals(resolver.uniqueName("P-e-t"), "Pet_2");
+        // not added yet, still free
+        assertEquals(resolver.uniqueName("Pet"), "Pet_2");
+        swagger.addDefinition("Pet_2", new ModelImpl());
+        assertEquals(resolver.uniqueName("Pet"), "Pet_4");
+    }
 }
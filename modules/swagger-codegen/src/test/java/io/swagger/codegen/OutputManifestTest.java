@@ -0,0 +1,47 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.*;
+
+public class OutputManifestTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testEditedFileOfSameLengthIsRewritten() throws Exception {
+        final File output = folder.getRoot();
+        final File file = new File(output, "src/Model.java");
+        final byte[] contents = "class Model {}".getBytes(UTF_8);
+
+        OutputManifest manifest = OutputManifest.load(output);
+        assertTrue(manifest.needsWrite(file, contents));
+        FileUtils.writeByteArrayToFile(file, contents);
+        manifest.save();
+
+        manifest = OutputManifest.load(output);
+        assertFalse(manifest.needsWrite(file, contents));
+
+        FileUtils.writeStringToFile(file, "class Mode1 {}", UTF_8);
+        manifest = OutputManifest.load(output);
+        assertTrue(manifest.needsWrite(file, contents));
+        assertTrue(manifest.getChanged().contains("src/Model.java"));
+    }
+}
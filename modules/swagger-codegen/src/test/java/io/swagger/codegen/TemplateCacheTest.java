@@ -0,0 +1,141 @@
+package io.swagger.codegen;
+
+import com.samskivert.mustache.Template;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.languages.PythonClientCodegen;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.*;
+
+public class TemplateCacheTest {
+
+    @Test
+    public void testCompiledTemplateIsReused() {
+        final DefaultGenerator generator = new DefaultGenerator();
+        final JavaClientCodegen config = new JavaClientCodegen();
+        final TemplateCache cache = new TemplateCache();
+
+        final String templateFile = generator.getFullTemplateFile(config, "model.mustache");
+        Template first = cache.getTemplate(generator, config, templateFile);
+        Template second = cache.getTemplate(generator, config, templateFile);
+
+        assertSame(first, second);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testCacheKeyIncludesConfigAndLibrary() {
+        final DefaultGenerator generator = new DefaultGenerator();
+        final TemplateCache cache = new TemplateCache();
+
+        final JavaClientCodegen java = new JavaClientCodegen();
+        final String templateFile = generator.getFullTemplateFile(java, "model.mustache");
+        Template defaultLibrary = cache.getTemplate(generator, java, templateFile);
+
+        final JavaClientCodegen feign = new JavaClientCodegen();
+        feign.setLibrary("feign");
+        Template feignLibrary = cache.getTemplate(generator, feign, templateFile);
+
+        final PythonClientCodegen python = new PythonClientCodegen();
+        Template pythonTemplate = cache.getTemplate(generator, python, templateFile);
+
+        assertNotSame(defaultLibrary, feignLibrary);
+        assertNotSame(defaultLibrary, pythonTemplate);
+        assertEquals(cache.size(), 3);
+    }
+
+    @Test
+    public void testPartialsAreLoadedThroughCache() throws Exception {
+        final File templates = Files.createTempDirectory("templates").toFile();
+        try {
+            FileUtils.writeStringToFile(new File(templates, "list.mustache"), "{{#items}}{{>item}}{{/items}}", UTF_8);
+            FileUtils.writeStringToFile(new File(templates, "item.mustache"), "[{{.}}]", UTF_8);
+            final Map<String, Integer> resolved = new HashMap<String, Integer>();
+            final DefaultGenerator generator = new DefaultGenerator() {
+                @Override
+                public String getFullTemplateFile(CodegenConfig config, String templateFile) {
+                    Integer count = resolved.get(templateFile);
+                    resolved.put(templateFile, count == null ? 1 : count + 1);
+                    return super.getFullTemplateFile(config, templateFile);
+                }
+            };
+            final JavaClientCodegen config = new JavaClientCodegen() {
+                @Override
+                public String templateDir() {
+                    return templates.getAbsolutePath();
+                }
+            };
+            final TemplateCache cache = new TemplateCache();
+            final String templateFile = new File(templates, "list.mustache").getAbsolutePath();
+            final Map<String, Object> context = new HashMap<String, Object>();
+            context.put("items", Arrays.asList("a", "b", "c"));
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(cache.getTemplate(generator, config, templateFile).execute(context), "[a][b][c]");
+            }
+
+            // the partial is resolved and compiled once, on the first render of the cached template
+            assertEquals(resolved.get("item.mustache"), Integer.valueOf(1));
+            assertEquals(cache.size(), 1);
+            assertEquals(cache.getSource(generator, new File(templates, "item.mustache").getAbsolutePath()), "[{{.}}]");
+
+            cache.clear();
+            assertEquals(cache.size(), 0);
+        } finally {
+            FileUtils.deleteDirectory(templates);
+        }
+    }
+
+    @Test
+    public void testPartialsAreResolvedPerSearchPath() throws Exception {
+        final File templates = Files.createTempDirectory("templates").toFile();
+        try {
+            FileUtils.writeStringToFile(new File(templates, "list.mustache"), "{{#items}}{{>item}}{{/items}}", UTF_8);
+            FileUtils.writeStringToFile(new File(templates, "item.mustache"), "[{{.}}]", UTF_8);
+            FileUtils.writeStringToFile(new File(templates, "libraries/feign/item.mustache"), "<{{.}}>", UTF_8);
+            final File overrides = new File(templates, "overrides");
+            FileUtils.writeStringToFile(new File(overrides, "item.mustache"), "({{.}})", UTF_8);
+
+            final DefaultGenerator generator = new DefaultGenerator();
+            final DefaultGenerator overriding = new DefaultGenerator() {
+                @Override
+                public String getFullTemplateFile(CodegenConfig config, String templateFile) {
+                    return new File(overrides, templateFile).getAbsolutePath();
+                }
+            };
+            final JavaClientCodegen config = withTemplateDir(templates);
+            final JavaClientCodegen feign = withTemplateDir(templates);
+            feign.setLibrary("feign");
+
+            final TemplateCache cache = new TemplateCache();
+            final String templateFile = new File(templates, "list.mustache").getAbsolutePath();
+            final Map<String, Object> context = new HashMap<String, Object>();
+            context.put("items", Arrays.asList("a", "b"));
+
+            assertEquals(cache.getTemplate(generator, config, templateFile).execute(context), "[a][b]");
+            assertEquals(cache.getTemplate(generator, feign, templateFile).execute(context), "<a><b>");
+            assertEquals(cache.getTemplate(overriding, config, templateFile).execute(context), "(a)(b)");
+            assertEquals(cache.getTemplate(generator, config, templateFile).execute(context), "[a][b]");
+            assertEquals(cache.size(), 3);
+        } finally {
+            FileUtils.deleteDirectory(templates);
+        }
+    }
+
+    private static JavaClientCodegen withTemplateDir(final File templates) {
+        return new JavaClientCodegen() {
+            @Override
+            public String templateDir() {
+                return templates.getAbsolutePath();
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package io.swagger.codegen.config;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class BatchGeneratorTest {
+
+    private static final String SPEC = new File("src/test/resources/2_0/petstore.json").getAbsolutePath();
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testReadsManifest() throws Exception {
+        final File manifest = manifest("manifest.yaml", "defaults:\n"
+                + "  inputSpec: specs/pets.yaml\n"
+                + "  apiPackage: org.example.api\n"
+                + "jobs:\n"
+                + "  - lang: [java, python]\n"
+                + "    outputDir: out/{lang}\n"
+                + "  - lang: go\n"
+                + "    inputSpec: http://example.com/store.yaml\n"
+                + "    apiPackage: store\n"
+                + "    outputDir: " + folder.getRoot().getAbsolutePath() + "/go\n");
+
+        final List<CodegenConfigurator> jobs = BatchGenerator.readManifest(manifest);
+
+        assertEquals(jobs.size(), 3);
+        assertEquals(jobs.get(0).getLang(), "java");
+        assertEquals(jobs.get(0).getOutputDir(), new File(folder.getRoot(), "out/java").getAbsolutePath());
+        assertEquals(jobs.get(0).getInputSpec(), new File(folder.getRoot(), "specs/pets.yaml").getPath());
+        assertEquals(jobs.get(0).getApiPackage(), "org.example.api");
+        assertEquals(jobs.get(1).getLang(), "python");
+        assertEquals(jobs.get(1).getOutputDir(), new File(folder.getRoot(), "out/python").getAbsolutePath());
+        assertEquals(jobs.get(2).getLang(), "go");
+        assertEquals(jobs.get(2).getInputSpec(), "http://example.com/store.yaml");
+        assertEquals(jobs.get(2).getApiPackage(), "store");
+        assertEquals(jobs.get(2).getOutputDir(), new File(folder.getRoot(), "go").getAbsolutePath());
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testSeveralLanguagesNeedPlaceholder() throws Exception {
+        BatchGenerator.readManifest(manifest("manifest.json",
+                "{\"jobs\": [{\"inputSpec\": \"pets.yaml\", \"lang\": [\"java\", \"go\"], \"outputDir\": \"out\"}]}"));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testManifestNeedsJobs() throws Exception {
+        BatchGenerator.readManifest(manifest("manifest.yaml", "defaults:\n  lang: java\n"));
+    }
+
+    @Test
+    public void testRunsJobs() throws Exception {
+        final File manifest = manifest("manifest.yaml", "defaults:\n"
+                + "  inputSpec: " + SPEC + "\n"
+                + "jobs:\n"
+                + "  - lang: [java, python, php]\n"
+                + "    outputDir: out/{lang}\n"
+                + "  - lang: no-such-lang\n"
+                + "    outputDir: out/missing\n"
+                + "  - lang: java\n"
+                + "    outputDir: out/models\n"
+                + "    systemProperties:\n"
+                + "      models: ''\n");
+
+        final List<BatchGenerator.Result> results = new BatchGenerator(2).generate(BatchGenerator.readManifest(manifest));
+
+        assertEquals(results.size(), 5);
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(results.get(i).getIndex(), i);
+            assertEquals(results.get(i).isSuccess(), i != 3, results.get(i).toString());
+        }
+        assertTrue(new File(folder.getRoot(), "out/java/src/main/java/io/swagger/client/api/PetApi.java").isFile());
+        assertTrue(new File(folder.getRoot(), "out/python/swagger_client/models/pet.py").isFile());
+        assertTrue(new File(folder.getRoot(), "out/php/SwaggerClient-php/lib/Model/Pet.php").isFile());
+        assertEquals(results.get(0).getLang(), "java");
+        assertTrue(results.get(0).getFileCount() > 0);
+        assertNotNull(results.get(3).getError());
+        assertFalse(new File(folder.getRoot(), "out/missing").exists());
+
+        assertTrue(new File(folder.getRoot(), "out/models/src/main/java/io/swagger/client/model/Pet.java").isFile());
+        assertFalse(new File(folder.getRoot(), "out/models/pom.xml").exists());
+        assertNull(System.getProperty("models"));
+    }
+
+    private File manifest(String name, String content) throws IOException {
+        final File manifest = new File(folder.getRoot(), name);
+        FileUtils.writeStringToFile(manifest, content, StandardCharsets.UTF_8);
+        return manifest;
+    }
+}
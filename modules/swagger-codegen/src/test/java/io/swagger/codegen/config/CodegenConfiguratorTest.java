@@ -10,7 +10,6 @@ import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.parser.util.ParseOptions;
-import mockit.Expectations;
 import mockit.FullVerifications;
 import mockit.Injectable;
 import mockit.Mocked;
@@ -25,6 +24,7 @@ import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("static-method")
@@ -57,18 +57,13 @@ public class CodegenConfiguratorTest {
 
         configurator.setVerbose(true);
 
-        new StrictExpectations(System.class) {{
-            System.setProperty("debugSwagger", "");
-            times = 1;
-            System.setProperty("debugModels", "");
-            times = 1;
-            System.setProperty("debugOperations", "");
-            times = 1;
-            System.setProperty("debugSupportingFiles", "");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        assertValueInMap(clientOptInput.getSystemProperties(), "debugSwagger", "");
+        assertValueInMap(clientOptInput.getSystemProperties(), "debugModels", "");
+        assertValueInMap(clientOptInput.getSystemProperties(), "debugOperations", "");
+        assertValueInMap(clientOptInput.getSystemProperties(), "debugSupportingFiles", "");
+        assertNull(System.getProperty("debugModels"));
     }
 
     @Test
@@ -89,14 +84,13 @@ public class CodegenConfiguratorTest {
         configurator.addSystemProperty("hello", "world")
                 .addSystemProperty("foo", "bar");
 
-        new Expectations(System.class) {{
-            System.setProperty("hello", "world");
-            times = 1;
-            System.setProperty("foo", "bar");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        assertValueInMap(clientOptInput.getSystemProperties(), "hello", "world");
+        assertValueInMap(clientOptInput.getSystemProperties(), "foo", "bar");
+        assertFalse(clientOptInput.getSystemProperties().containsKey("debugModels"));
+        assertNull(System.getProperty("hello"));
+        assertNull(System.getProperty("foo"));
     }
 
     @Test
@@ -0,0 +1,140 @@
+package io.swagger.codegen.config;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class GenerationCacheTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testKeyDependsOnSpecAndOptions() throws Exception {
+        final File spec = folder.newFile("spec.yaml");
+        FileUtils.writeStringToFile(spec, "swagger: '2.0'\ninfo:\n  title: one\n", StandardCharsets.UTF_8);
+        final GenerationCache cache = new GenerationCache(folder.newFolder("cache"));
+
+        final CodegenConfigurator configurator = configurator(spec, folder.newFolder("out"));
+        final String key = cache.key(configurator, null);
+        assertNotNull(key);
+        assertEquals(cache.key(configurator(spec, new File(configurator.getOutputDir())), null), key);
+
+        configurator.setModelPackage("org.example.model");
+        final String optionsKey = cache.key(configurator, null);
+        assertNotEquals(optionsKey, key);
+
+        FileUtils.writeStringToFile(spec, "swagger: '2.0'\ninfo:\n  title: two\n", StandardCharsets.UTF_8);
+        assertNotEquals(cache.key(configurator, null), optionsKey);
+    }
+
+    @Test
+    public void testKeyDependsOnReferencedFiles() throws Exception {
+        final File spec = folder.newFile("spec.yaml");
+        FileUtils.writeStringToFile(spec, "definitions:\n  Pet:\n    $ref: 'models/pet.yaml#/Pet'\n", StandardCharsets.UTF_8);
+        final File pet = new File(folder.getRoot(), "models/pet.yaml");
+        FileUtils.writeStringToFile(pet, "Pet:\n  type: object\n", StandardCharsets.UTF_8);
+        final GenerationCache cache = new GenerationCache(folder.newFolder("cache"));
+        final CodegenConfigurator configurator = configurator(spec, folder.newFolder("out"));
+
+        final String key = cache.key(configurator, null);
+        FileUtils.writeStringToFile(pet, "Pet:\n  type: string\n", StandardCharsets.UTF_8);
+        assertNotEquals(cache.key(configurator, null), key);
+    }
+
+    @Test
+    public void testKeyDependsOnIgnoreRules() throws Exception {
+        final File spec = new File("src/test/resources/2_0/petstore.json");
+        final File output = folder.newFolder("out");
+        final GenerationCache cache = new GenerationCache(folder.newFolder("cache"));
+        final CodegenConfigurator configurator = configurator(spec, output);
+
+        final String key = cache.key(configurator, null);
+        final File ignoreFile = new File(output, ".swagger-codegen-ignore");
+        FileUtils.writeStringToFile(ignoreFile, "# comments only, as generated\n\n", StandardCharsets.UTF_8);
+        assertEquals(cache.key(configurator, null), key);
+        FileUtils.writeStringToFile(ignoreFile, "docs/\n", StandardCharsets.UTF_8);
+        assertNotEquals(cache.key(configurator, null), key);
+    }
+
+    @Test
+    public void testRemoteSpecIsNotCached() throws Exception {
+        final GenerationCache cache = new GenerationCache(folder.newFolder("cache"));
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java")
+                .setInputSpec("http://petstore.swagger.io/v2/swagger.json");
+
+        assertNull(cache.key(configurator, null));
+    }
+
+    @Test
+    public void testStoreAndRestore() throws Exception {
+        final File spec = new File("src/test/resources/2_0/petstore.json");
+        final File output = folder.newFolder("out");
+        final GenerationCache cache = new GenerationCache(folder.newFolder("cache"));
+        final CodegenConfigurator configurator = configurator(spec, output);
+
+        final String key = cache.key(configurator, null);
+        assertFalse(cache.restore(key, output));
+        final List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+        cache.store(key, output, files);
+
+        final File pet = new File(output, "src/main/java/io/swagger/client/model/Pet.java");
+        final String contents = FileUtils.readFileToString(pet, StandardCharsets.UTF_8);
+        FileUtils.deleteDirectory(new File(output, "src"));
+        FileUtils.writeStringToFile(new File(output, "README.md"), "changed", StandardCharsets.UTF_8);
+
+        assertTrue(cache.restore(key, output));
+        assertEquals(FileUtils.readFileToString(pet, StandardCharsets.UTF_8), contents);
+        assertNotEquals(FileUtils.readFileToString(new File(output, "README.md"), StandardCharsets.UTF_8), "changed");
+    }
+
+    @Test
+    public void testPrunesOldestEntries() throws Exception {
+        final File output = folder.newFolder("out");
+        final File file = new File(output, "file.txt");
+        FileUtils.writeStringToFile(file, "contents", StandardCharsets.UTF_8);
+        final File cacheDir = folder.newFolder("cache");
+        final GenerationCache cache = new GenerationCache(cacheDir).maxEntries(2);
+
+        final long now = System.currentTimeMillis();
+        cache.store("a", output, Collections.singletonList(file));
+        new File(cacheDir, "a").setLastModified(now - 20000L);
+        cache.store("b", output, Collections.singletonList(file));
+        new File(cacheDir, "b").setLastModified(now - 10000L);
+        cache.store("c", output, Collections.singletonList(file));
+
+        assertFalse(new File(cacheDir, "a").exists());
+        assertTrue(cache.restore("b", output));
+        assertTrue(cache.restore("c", output));
+    }
+
+    private static CodegenConfigurator configurator(File spec, File output) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java")
+                .setInputSpec(spec.getAbsolutePath())
+                .setOutputDir(output.getAbsolutePath());
+        configurator.addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        return configurator;
+    }
+}
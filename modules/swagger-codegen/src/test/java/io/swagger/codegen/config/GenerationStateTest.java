@@ -0,0 +1,120 @@
+package io.swagger.codegen.config;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class GenerationStateTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testUpToDateWhileOutputsAreUnchanged() throws Exception {
+        final File one = folder.newFile("one.txt");
+        final File two = folder.newFile("two.txt");
+        FileUtils.writeStringToFile(one, "one", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(two, "two", StandardCharsets.UTF_8);
+        final GenerationState state = new GenerationState(new File(folder.getRoot(), "state/default.state"));
+
+        assertFalse(state.isUpToDate("key"));
+        state.save("key", Arrays.asList(one, two));
+        assertTrue(state.isUpToDate("key"));
+        assertFalse(state.isUpToDate("other"));
+        assertFalse(state.isUpToDate(null));
+
+        FileUtils.writeStringToFile(two, "changed", StandardCharsets.UTF_8);
+        assertFalse(state.isUpToDate("key"));
+        state.save("key", Arrays.asList(one, two));
+        assertTrue(state.isUpToDate("key"));
+
+        assertTrue(two.delete());
+        assertFalse(state.isUpToDate("key"));
+    }
+
+    @Test
+    public void testSaveWithoutKeyForgetsTheLastRun() throws Exception {
+        final File output = folder.newFile("output.txt");
+        final File stateFile = new File(folder.getRoot(), "default.state");
+        final GenerationState state = new GenerationState(stateFile);
+
+        state.save("key", Arrays.asList(output));
+        assertTrue(state.isUpToDate("key"));
+        state.save(null, Arrays.asList(output));
+        assertFalse(stateFile.exists());
+        assertFalse(state.isUpToDate("key"));
+    }
+
+    @Test
+    public void testUpToDateAfterGeneration() throws Exception {
+        final File spec = new File("src/test/resources/2_0/petstore.json");
+        final File output = folder.newFolder("out");
+        final GenerationState state = new GenerationState(new File(folder.getRoot(), "default.state"));
+        final CodegenConfigurator configurator = configurator(spec, output);
+
+        final String key = GenerationCache.inputsKey(configurator, null);
+        final CodegenConfigurator unchanged = Json.mapper().convertValue(configurator, CodegenConfigurator.class);
+        assertEquals(GenerationCache.inputsKey(unchanged, null), key);
+        final List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+        // the ignore file written by the generation holds no rules
+        assertEquals(GenerationCache.inputsKey(unchanged, null), key);
+        state.save(key, files);
+
+        assertTrue(state.isUpToDate(GenerationCache.inputsKey(configurator(spec, output), null)));
+        FileUtils.writeStringToFile(new File(output, ".swagger-codegen-ignore"), "*.md", StandardCharsets.UTF_8);
+        assertFalse(state.isUpToDate(GenerationCache.inputsKey(configurator(spec, output), null)));
+    }
+
+    @Test
+    public void testKeyFromRecordedInputFilesHash() throws Exception {
+        final File spec = new File("src/test/resources/2_0/petstore.json");
+        final File output = folder.newFolder("out");
+        final File outputFile = folder.newFile("output.txt");
+        final GenerationState state = new GenerationState(new File(folder.getRoot(), "default.state"));
+        final CodegenConfigurator configurator = configurator(spec, output);
+
+        assertNull(state.inputFilesHash());
+        final String inputFilesHash = GenerationCache.inputFilesHash(configurator);
+        final String key = GenerationCache.inputsKey(configurator, null, inputFilesHash);
+        assertEquals(GenerationCache.inputsKey(configurator, null), key);
+        state.save(key, inputFilesHash, Arrays.asList(outputFile));
+        assertEquals(state.inputFilesHash(), inputFilesHash);
+        assertTrue(state.isUpToDate(key));
+
+        // the rest of the inputs and the outputs are still compared
+        configurator.setLang("python");
+        assertFalse(state.isUpToDate(GenerationCache.inputsKey(configurator, null, state.inputFilesHash())));
+        assertTrue(outputFile.delete());
+        assertFalse(state.isUpToDate(key));
+    }
+
+    private static CodegenConfigurator configurator(File spec, File output) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("java")
+                .setInputSpec(spec.getAbsolutePath())
+                .setOutputDir(output.getAbsolutePath());
+        configurator.addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        return configurator;
+    }
+}
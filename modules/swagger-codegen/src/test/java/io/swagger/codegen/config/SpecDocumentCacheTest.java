@@ -0,0 +1,111 @@
+package io.swagger.codegen.config;
+
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.parser.util.ParseOptions;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.*;
+
+public class SpecDocumentCacheTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testBuildsTheModelsOfTheParser() throws Exception {
+        final SpecDocumentCache cache = new SpecDocumentCache();
+        for (String spec : new String[]{"src/test/resources/2_0/petstore.json",
+                "src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml",
+                "src/test/resources/2_0/relative-ref/nested/directory/main/relative-refs.yml"}) {
+            final Swagger expected = new SwaggerParser().read(spec, null, options());
+            final Swagger first = cache.read(spec, null, options());
+            final Swagger second = cache.read(spec, null, options());
+
+            assertEquals(Json.pretty(first), Json.pretty(expected), spec);
+            assertEquals(Json.pretty(second), Json.pretty(expected), spec);
+            assertNotSame(first, second);
+            assertNotSame(first.getDefinitions().values().iterator().next(), second.getDefinitions().values().iterator().next());
+        }
+        assertEquals(cache.size(), 3);
+    }
+
+    @Test
+    public void testReadsChangedDocumentsAgain() throws Exception {
+        final File spec = folder.newFile("spec.yaml");
+        FileUtils.writeStringToFile(spec, "swagger: '2.0'\ninfo:\n  title: one\npaths: {}\n", StandardCharsets.UTF_8);
+        final SpecDocumentCache cache = new SpecDocumentCache();
+
+        assertEquals(cache.read(spec.getAbsolutePath(), null, options()).getInfo().getTitle(), "one");
+        assertEquals(cache.read(spec.getAbsolutePath(), null, options()).getInfo().getTitle(), "one");
+        FileUtils.writeStringToFile(spec, "swagger: '2.0'\ninfo:\n  title: two\npaths: {}\n", StandardCharsets.UTF_8);
+        assertEquals(cache.read(spec.getAbsolutePath(), null, options()).getInfo().getTitle(), "two");
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        final String spec = "src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml";
+        final String expected = Json.pretty(new SwaggerParser().read(spec, null, options()));
+        final SpecDocumentCache cache = new SpecDocumentCache();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Swagger>> reads = new ArrayList<Future<Swagger>>();
+            for (int i = 0; i < 8; i++) {
+                reads.add(executor.submit(new Callable<Swagger>() {
+                    @Override
+                    public Swagger call() {
+                        final Swagger swagger = cache.read(spec, null, options());
+                        // generators modify their model, which must not show in the others
+                        swagger.getDefinitions().clear();
+                        return swagger;
+                    }
+                }));
+            }
+            for (Future<Swagger> read : reads) {
+                assertTrue(read.get().getDefinitions().isEmpty());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(Json.pretty(cache.read(spec, null, options())), expected);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testMissingSpec() throws Exception {
+        final SpecDocumentCache cache = new SpecDocumentCache();
+        assertNull(cache.read(new File(folder.getRoot(), "missing.yaml").getAbsolutePath(), null, options()));
+        assertNull(cache.read(null, null, options()));
+    }
+
+    private static ParseOptions options() {
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        return options;
+    }
+}
@@ -0,0 +1,131 @@
+package io.swagger.codegen.ignore.rules;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class IgnoreRuleTreeTest {
+
+    private static final List<String> DEFINITIONS = Arrays.asList(
+            "build.sh", "*.sh", "/README.md", "/*.txt", "docs/**", "!docs/UserApi.md", "docs/**/Users/",
+            "!docs/1/Users/UserApi.md", "src/main/java/io/swagger/client/model/*.java",
+            "!src/main/java/io/swagger/client/model/Pet.java", "src/test/", "!src/test/java/io/swagger/keep/",
+            "**/*.{java,md}", "!**/Category.*", "gradle/wrapper/", "**/*[0-9]*", "!**/Tag2.java", "lib/*/api/",
+            "#comment", "!.", "..", "foo/**/bar.txt", "!foo/keep/bar.txt", "api/v1/", "!v1/", "**/generated/",
+            "!src/generated/"
+    );
+
+    private static final List<String> PATHS = Arrays.asList(
+            "build.sh", "src/build.sh", "README.md", "docs/README.md", "notes.txt", "docs/notes.txt",
+            "docs/UserApi.md", "docs/PetApi.md", "docs/1/Users/UserApi.md", "docs/1/Users/Other.md",
+            "docs/1/Users1/a", "src/main/java/io/swagger/client/model/Pet.java",
+            "src/main/java/io/swagger/client/model/Category.java", "src/main/java/io/swagger/client/model/Tag2.java",
+            "src/main/java/io/swagger/client/model/nested/Order.java", "src/main/java/io/swagger/client/api/PetApi.java",
+            "src/test/java/io/swagger/client/api/PetApiTest.java", "src/test/java/io/swagger/keep/KeepTest.java",
+            "gradle/wrapper/gradle-wrapper.jar", "gradle/wrapper/nested/file", "gradlew", "lib/a/api/x.rb",
+            "lib/a/b/api/x.rb", "lib/a/api", "foo/bar.txt", "foo/a/b/bar.txt", "foo/keep/bar.txt", "api/v1/pets.go",
+            "v1/pets.go", "src/generated/x.go", "pkg/generated/x.go", "pom.xml", "file9.txt", "a/b/c/d/e.f"
+    );
+
+    @Test
+    public void testMatchesLinearEvaluation() throws Exception {
+        // every prefix of the definitions, so rules see each other in all orders of negation
+        for (int size = 0; size <= DEFINITIONS.size(); size++) {
+            assertSameDecisions(DEFINITIONS.subList(0, size));
+            assertSameDecisions(DEFINITIONS.subList(DEFINITIONS.size() - size, DEFINITIONS.size()));
+        }
+    }
+
+    @Test
+    public void testExcludedDirectory() throws Exception {
+        IgnoreRuleTree tree = tree(Arrays.asList("docs/", "!docs/keep/", "!docs/README.md"));
+
+        assertFalse(tree.allows("docs/README.md"));
+        assertFalse(tree.allows("docs/PetApi.md"));
+        assertFalse(tree.allows("docs/nested/PetApi.md"));
+        assertTrue(tree.allows("docs/keep/PetApi.md"));
+        assertTrue(tree.allows("README.md"));
+    }
+
+    @Test
+    public void testEverythingRuleTerminates() throws Exception {
+        List<Rule> exclusions = new ArrayList<>();
+        exclusions.add(Rule.create("*.md"));
+        exclusions.add(new EverythingRule(null, "**"));
+        exclusions.add(Rule.create("*.sh"));
+        IgnoreRuleTree tree = new IgnoreRuleTree(exclusions, new ArrayList<Rule>());
+
+        for (String path : Arrays.asList("README.md", "build.sh", "pom.xml")) {
+            assertEquals(tree.allows(path), linearAllows(exclusions, new ArrayList<Rule>(), path), path);
+        }
+        assertFalse(tree.allows("README.md"));
+        assertTrue(tree.allows("build.sh"));
+    }
+
+    private static void assertSameDecisions(List<String> definitions) {
+        List<Rule> exclusions = new ArrayList<>();
+        List<Rule> inclusions = new ArrayList<>();
+        split(definitions, exclusions, inclusions);
+        IgnoreRuleTree tree = new IgnoreRuleTree(exclusions, inclusions);
+
+        // twice, the second pass is answered from the directory decisions
+        for (int pass = 0; pass < 2; pass++) {
+            for (String path : PATHS) {
+                assertEquals(tree.allows(path), linearAllows(exclusions, inclusions, path), definitions + " " + path);
+            }
+        }
+    }
+
+    private static IgnoreRuleTree tree(List<String> definitions) {
+        List<Rule> exclusions = new ArrayList<>();
+        List<Rule> inclusions = new ArrayList<>();
+        split(definitions, exclusions, inclusions);
+        return new IgnoreRuleTree(exclusions, inclusions);
+    }
+
+    private static void split(List<String> definitions, List<Rule> exclusions, List<Rule> inclusions) {
+        for (String definition : definitions) {
+            Rule rule = Rule.create(definition);
+            if (rule == null) {
+                continue;
+            }
+            if (Boolean.TRUE.equals(rule.getNegated())) {
+                inclusions.add(rule);
+            } else {
+                exclusions.add(rule);
+            }
+        }
+    }
+
+    /**
+     * Rules evaluated one after the other, as the ignore processor used to.
+     */
+    private static boolean linearAllows(List<Rule> exclusions, List<Rule> inclusions, String path) {
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+        for (int i = 0; i < exclusions.size(); i++) {
+            Rule current = exclusions.get(i);
+            Rule.Operation op = current.evaluate(path);
+            if (op == Rule.Operation.EXCLUDE) {
+                exclude = true;
+                if (current instanceof DirectoryRule) {
+                    directoryExcluded = true;
+                }
+            } else if (op == Rule.Operation.EXCLUDE_AND_TERMINATE) {
+                break;
+            }
+        }
+        for (int i = 0; exclude && i < inclusions.size(); i++) {
+            Rule current = inclusions.get(i);
+            if (current.evaluate(path) == Rule.Operation.INCLUDE
+                    && (!directoryExcluded || current instanceof DirectoryRule)) {
+                exclude = false;
+            }
+        }
+        return !exclude;
+    }
+}
@@ -3,6 +3,7 @@ package io.swagger.codegen.javascript;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.config.CodegenConfigurator;
+import org.apache.commons.io.FileUtils;
 import org.junit.rules.TemporaryFolder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -12,6 +13,8 @@ import io.swagger.codegen.languages.JavascriptClientCodegen;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 public class JavascriptClientCodegenTest {
 
@@ -72,4 +75,31 @@ public class JavascriptClientCodegenTest {
 
     }
 
+    @Test
+    public void testParallelGenerationMatchesSerial() throws IOException {
+        final TemporaryFolder folder = new TemporaryFolder();
+
+        folder.create();
+        final List<File> serialFiles = generatePetstore(new File(folder.getRoot(), "serial"), 1);
+        final List<File> parallelFiles = generatePetstore(new File(folder.getRoot(), "parallel"), 4);
+
+        Assert.assertEquals(parallelFiles.size(), serialFiles.size());
+        for (int i = 0; i < serialFiles.size(); i++) {
+            Assert.assertEquals(FileUtils.readFileToString(parallelFiles.get(i), StandardCharsets.UTF_8),
+                    FileUtils.readFileToString(serialFiles.get(i), StandardCharsets.UTF_8));
+        }
+
+        folder.delete();
+    }
+
+    private static List<File> generatePetstore(File output, int generationThreads) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setLang("javascript")
+                .setInputSpec("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                .setOutputDir(output.getAbsolutePath())
+                .setGenerationThreads(generationThreads);
+
+        return new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+    }
+
 }
@@ -0,0 +1,45 @@
+package io.swagger.codegen.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.testng.Assert.*;
+
+public class ImplementationVersionTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void codeSourcesChangeWithTheJar() throws Exception {
+        final File jar = new File(folder.getRoot(), "generator.jar");
+        FileUtils.copyFile(new File(IOUtils.class.getProtectionDomain().getCodeSource().getLocation().toURI()), jar);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, null)) {
+            final Class<?> generatorClass = loader.loadClass(IOUtils.class.getName());
+            final String sources = ImplementationVersion.codeSources(generatorClass);
+            assertTrue(sources.contains(jar.getAbsolutePath() + " " + jar.length() + " "), sources);
+            assertEquals(ImplementationVersion.codeSources(generatorClass), sources);
+
+            assertTrue(jar.setLastModified(jar.lastModified() - 60000));
+            assertNotEquals(ImplementationVersion.codeSources(generatorClass), sources);
+        }
+    }
+}
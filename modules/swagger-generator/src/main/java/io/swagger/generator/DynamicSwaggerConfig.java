@@ -1,7 +1,7 @@
 package io.swagger.generator;
 
-import io.swagger.codegen.Codegen;
 import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigRegistry;
 import io.swagger.codegen.CodegenType;
 import io.swagger.jaxrs.config.BeanConfig;
 import io.swagger.models.Operation;
@@ -19,7 +19,7 @@ public class DynamicSwaggerConfig extends BeanConfig {
     static List<String> servers = new ArrayList<String>();
 
     static {
-        List<CodegenConfig> extensions = Codegen.getExtensions();
+        List<CodegenConfig> extensions = CodegenConfigRegistry.getInstance().getPrototypes();
         for (CodegenConfig config : extensions) {
             if (config.getTag().equals(CodegenType.CLIENT)
                     || config.getTag().equals(CodegenType.DOCUMENTATION)) {
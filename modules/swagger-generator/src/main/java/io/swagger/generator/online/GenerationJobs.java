@@ -0,0 +1,300 @@
+package io.swagger.generator.online;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.TooManyRequestsException;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs generations on a bounded pool of workers and spools their zipped results to temporary files until they
+ * are downloaded, expire or have to make room for newer results.
+ *
+ * Limits are read from the environment by {@link #fromEnvironment()}:
+ * GENERATOR_THREADS (workers, defaults to the number of processors), GENERATOR_QUEUE_SIZE (pending jobs, 50),
+ * GENERATOR_RESULT_TTL_SECONDS (600), GENERATOR_MAX_RESULTS (100) and GENERATOR_MAX_RESULT_BYTES (512 MB).
+ */
+public class GenerationJobs {
+    static Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    public static class Job {
+        private final String code;
+        private final String friendlyName;
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile Status status = Status.QUEUED;
+        private volatile File result;
+        private volatile long size;
+        private volatile String message;
+        private volatile long finishedAt;
+
+        Job(String code, String friendlyName) {
+            this.code = code;
+            this.friendlyName = friendlyName;
+        }
+
+        void run(ClientOptInput input) {
+            status = Status.RUNNING;
+            File file = null;
+            OutputStream out = null;
+            try {
+                file = File.createTempFile("generated-", ".zip");
+                out = new BufferedOutputStream(new FileOutputStream(file));
+                Generator.writeZip(input, out);
+                out.close();
+                size = file.length();
+                result = file;
+                status = Status.DONE;
+            } catch (ApiException e) {
+                fail(e.getMessage());
+            } catch (IOException e) {
+                LOGGER.error("generation " + code + " failed", e);
+                fail("Unable to build target: " + e.getMessage());
+            } catch (RuntimeException e) {
+                LOGGER.error("generation " + code + " failed", e);
+                fail("Unable to build target: " + e.getMessage());
+            } finally {
+                IOUtils.closeQuietly(out);
+                if (result == null && file != null && !file.delete()) {
+                    LOGGER.warn("Unable to delete " + file);
+                }
+                finishedAt = System.currentTimeMillis();
+                finished.countDown();
+            }
+        }
+
+        private void fail(String message) {
+            this.message = message;
+            this.status = Status.FAILED;
+        }
+
+        /**
+         * Waits for the job to finish.
+         *
+         * @param timeout maximum time to wait
+         * @param unit unit of the timeout
+         * @return {@code true} if the job is finished
+         * @throws InterruptedException if interrupted while waiting
+         */
+        public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return finished.await(timeout, unit);
+        }
+
+        public boolean isFinished() {
+            return finished.getCount() == 0;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getFriendlyName() {
+            return friendlyName;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return the zipped result once the job is done, deleted by {@link #discard()}
+         */
+        public File getResult() {
+            return result;
+        }
+
+        /**
+         * Deletes the result, e.g. once it was downloaded.
+         */
+        public void discard() {
+            File file = result;
+            result = null;
+            if (file != null && file.exists() && !file.delete()) {
+                LOGGER.warn("Unable to delete " + file);
+            }
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        long getFinishedAt() {
+            return finishedAt;
+        }
+
+        long getSize() {
+            return result == null ? 0 : size;
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<String, Job>();
+    private final long resultTtlMillis;
+    private final int maxResults;
+    private final long maxResultBytes;
+
+    public GenerationJobs(int threads, int queueSize, long resultTtlMillis, int maxResults, long maxResultBytes) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(Math.max(1, queueSize)), new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "generator-worker-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        this.resultTtlMillis = resultTtlMillis;
+        this.maxResults = maxResults;
+        this.maxResultBytes = maxResultBytes;
+    }
+
+    public static GenerationJobs fromEnvironment() {
+        return new GenerationJobs(
+                (int) setting("GENERATOR_THREADS", Runtime.getRuntime().availableProcessors()),
+                (int) setting("GENERATOR_QUEUE_SIZE", 50),
+                TimeUnit.SECONDS.toMillis(setting("GENERATOR_RESULT_TTL_SECONDS", 600)),
+                (int) setting("GENERATOR_MAX_RESULTS", 100),
+                setting("GENERATOR_MAX_RESULT_BYTES", 512L * 1024 * 1024));
+    }
+
+    /**
+     * Queues a generation.
+     *
+     * @param friendlyName name of the generated archive
+     * @param input prepared generation input, see {@link Generator#prepareClient}
+     * @return the queued job
+     * @throws TooManyRequestsException if all workers are busy and the queue is full
+     */
+    public Job submit(String friendlyName, final ClientOptInput input) throws TooManyRequestsException {
+        evict();
+        final Job job = new Job(UUID.randomUUID().toString(), friendlyName);
+        jobs.put(job.getCode(), job);
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    job.run(input);
+                    evict();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getCode());
+            throw new TooManyRequestsException("Too many pending generations, please retry later");
+        }
+        return job;
+    }
+
+    /**
+     * @param code job code
+     * @return the job, or null if it is unknown or its result expired
+     */
+    public Job get(String code) {
+        evict();
+        return jobs.get(code);
+    }
+
+    /**
+     * Removes a job without deleting its result, e.g. to download it.
+     *
+     * @param code job code
+     * @return whether the job was still there, {@code false} if it was removed concurrently
+     */
+    public boolean remove(String code) {
+        return jobs.remove(code) != null;
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        for (Job job : jobs.values()) {
+            job.discard();
+        }
+        jobs.clear();
+    }
+
+    /**
+     * Drops expired results, then the oldest results while over the count or size limits.
+     */
+    synchronized void evict() {
+        long now = System.currentTimeMillis();
+        List<Job> finished = new ArrayList<Job>();
+        for (Job job : jobs.values()) {
+            if (!job.isFinished()) {
+                continue;
+            }
+            if (now - job.getFinishedAt() > resultTtlMillis) {
+                if (jobs.remove(job.getCode(), job)) {
+                    job.discard();
+                }
+            } else {
+                finished.add(job);
+            }
+        }
+        Collections.sort(finished, new Comparator<Job>() {
+            @Override
+            public int compare(Job one, Job another) {
+                return Long.compare(one.getFinishedAt(), another.getFinishedAt());
+            }
+        });
+        long bytes = 0;
+        for (Job job : finished) {
+            bytes += job.getSize();
+        }
+        int count = finished.size();
+        for (Job job : finished) {
+            if (count <= maxResults && bytes <= maxResultBytes) {
+                break;
+            }
+            count--;
+            bytes -= job.getSize();
+            if (jobs.remove(job.getCode(), job)) {
+                LOGGER.debug("evicted generation " + job.getCode());
+                job.discard();
+            }
+        }
+    }
+
+    private static long setting(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring invalid value " + value + " of " + name);
+            return defaultValue;
+        }
+    }
+}
@@ -6,28 +6,37 @@ import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
 import io.swagger.generator.model.GeneratorInput;
 import io.swagger.generator.model.InputOption;
-import io.swagger.generator.util.ZipUtil;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipOutputStream;
 
 public class Generator {
     static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
 
     public static Map<String, CliOption> getOptions(String language) throws ApiException {
-        CodegenConfig config = null;
+        // options are only read, so the shared instance spares constructing a config per request
+        CodegenConfig config = CodegenConfigRegistry.getInstance().getPrototype(language);
         try {
-            config = CodegenConfigLoader.forName(language);
+            if (config == null) {
+                config = CodegenConfigLoader.forName(language);
+            }
         } catch (Exception e) {
             throw new BadRequestException(String.format("Unsupported target %s supplied. %s",
                     language, e));
@@ -54,14 +63,84 @@ public class Generator {
     }
 
     public static String generateClient(String language, GeneratorInput opts) throws ApiException {
-        return generate(language, opts, Type.CLIENT);
+        return generate(prepare(language, opts, Type.CLIENT));
     }
 
     public static String generateServer(String language, GeneratorInput opts) throws ApiException {
-        return generate(language, opts, Type.SERVER);
+        return generate(prepare(language, opts, Type.SERVER));
+    }
+
+    /**
+     * Parses the spec and sets up the config of a client generation, without generating anything yet.
+     *
+     * @param language target language
+     * @param opts generation input
+     * @return input to pass to {@link #writeZip(ClientOptInput, OutputStream)}
+     * @throws ApiException if the spec or language is not valid
+     */
+    public static ClientOptInput prepareClient(String language, GeneratorInput opts) throws ApiException {
+        return prepare(language, opts, Type.CLIENT);
+    }
+
+    /**
+     * Parses the spec and sets up the config of a server generation, without generating anything yet.
+     *
+     * @param language target framework
+     * @param opts generation input
+     * @return input to pass to {@link #writeZip(ClientOptInput, OutputStream)}
+     * @throws ApiException if the spec or framework is not valid
+     */
+    public static ClientOptInput prepareServer(String language, GeneratorInput opts) throws ApiException {
+        return prepare(language, opts, Type.SERVER);
+    }
+
+    /**
+     * Generates directly into a zip archive written to the given stream. The output folder is the top level
+     * directory of the archive, nothing is written to disk.
+     *
+     * @param clientOptInput prepared generation input
+     * @param out stream receiving the archive, left open
+     * @throws ApiException if the generation fails or produces no files
+     */
+    public static void writeZip(ClientOptInput clientOptInput, OutputStream out) throws ApiException {
+        File outputFolder = new File(clientOptInput.getConfig().getOutputDir());
+        ZipOutputStream zip = new ZipOutputStream(out);
+        ZipGeneratorOutput output = new ZipGeneratorOutput(outputFolder.getParentFile(), zip);
+        clientOptInput.output(output);
+        try {
+            new Codegen().opts(clientOptInput).generate();
+            if (output.size() == 0) {
+                throw new BadRequestException(
+                        "A target generation was attempted, but no files were created!");
+            }
+            output.finish();
+        } catch (ApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BadRequestException("Unable to build target: " + e.getMessage());
+        }
+    }
+
+    private static String generate(ClientOptInput clientOptInput) throws ApiException {
+        File outputFolder = getTmpFolder();
+        if (outputFolder == null) {
+            throw new BadRequestException("Unable to create a temporary folder");
+        }
+        String outputFilename = outputFolder.getAbsolutePath() + File.separator
+                + new File(clientOptInput.getConfig().getOutputDir()).getName() + "-bundle.zip";
+        OutputStream out = null;
+        try {
+            out = new BufferedOutputStream(new FileOutputStream(outputFilename));
+            writeZip(clientOptInput, out);
+        } catch (IOException e) {
+            throw new BadRequestException("Unable to build target: " + e.getMessage());
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+        return outputFilename;
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type)
+    private static ClientOptInput prepare(String language, GeneratorInput opts, Type type)
             throws ApiException {
         LOGGER.debug(String.format("generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
@@ -96,7 +175,8 @@ public class Generator {
         } else {
             swagger = new SwaggerParser().read(node, true);
         }
-        if (swagger == null) {
+        // checked before queueing the generation, so that the caller gets the error rather than a download code
+        if (swagger == null || (swagger.getPaths() == null && swagger.getDefinitions() == null)) {
             throw new BadRequestException("The swagger specification supplied was not valid");
         }
 
@@ -111,8 +191,9 @@ public class Generator {
 
         ClientOptInput clientOptInput = new ClientOptInput();
         ClientOpts clientOpts = new ClientOpts();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        // never created, files are streamed into the zip with paths relative to its parent
+        String outputFolder = new File(System.getProperty("java.io.tmpdir"),
+                "codegen-" + UUID.randomUUID()).getAbsolutePath() + File.separator + destPath;
 
         clientOptInput.opts(clientOpts).swagger(swagger);
 
@@ -133,35 +214,7 @@ public class Generator {
         LOGGER.debug(Json.pretty(clientOpts));
 
         clientOptInput.setConfig(codegenConfig);
-
-        try {
-            List<File> files = new Codegen().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<File>();
-                LOGGER.debug("adding to " + outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
-                throw new BadRequestException(
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath());
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder);
-            }
-        } catch (Exception e) {
-            throw new BadRequestException("Unable to build target: " + e.getMessage());
-        }
-        return outputFilename;
+        return clientOptInput;
     }
 
     public static InputOption clientOptions(@SuppressWarnings("unused") String language) {
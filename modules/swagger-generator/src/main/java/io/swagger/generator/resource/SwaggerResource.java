@@ -4,13 +4,15 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.codegen.CliOption;
-import io.swagger.codegen.Codegen;
+import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigRegistry;
 import io.swagger.codegen.CodegenType;
 import io.swagger.generator.exception.BadRequestException;
-import io.swagger.generator.model.Generated;
 import io.swagger.generator.model.GeneratorInput;
+import io.swagger.generator.model.JobStatus;
 import io.swagger.generator.model.ResponseCode;
+import io.swagger.generator.online.GenerationJobs;
 import io.swagger.generator.online.Generator;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -20,7 +22,10 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 @Path("/gen")
@@ -29,10 +34,10 @@ import java.util.*;
 public class SwaggerResource {
     static List<String> clients = new ArrayList<String>();
     static List<String> servers = new ArrayList<String>();
-    private static Map<String, Generated> fileMap = new HashMap<String, Generated>();
+    private static GenerationJobs jobs = GenerationJobs.fromEnvironment();
 
     static {
-        List<CodegenConfig> extensions = Codegen.getExtensions();
+        List<CodegenConfig> extensions = CodegenConfigRegistry.getInstance().getPrototypes();
         for (CodegenConfig config : extensions) {
             if (config.getTag().equals(CodegenType.CLIENT)
                     || config.getTag().equals(CodegenType.DOCUMENTATION)) {
@@ -53,29 +58,56 @@ public class SwaggerResource {
             value = "Downloads a pre-generated file",
             notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST "
                     + "operations.  The fileId code can be used just once, after which a new `fileId` will need to "
-                    + "be requested.", response = String.class, tags = {"clients", "servers"})
+                    + "be requested.  Returns 202 with the job status right away if the generation is still running.",
+            response = String.class, tags = {"clients", "servers"})
     public Response downloadFile(@PathParam("fileId") String fileId) throws Exception {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-        if (g.getFilename() != null) {
-            File file = new java.io.File(g.getFilename());
-            byte[] bytes = org.apache.commons.io.FileUtils.readFileToByteArray(file);
-
-            try {
-                FileUtils.deleteDirectory(file.getParentFile());
-            } catch (Exception e) {
-                System.out.println("failed to delete file " + file.getAbsolutePath());
+        final GenerationJobs.Job job = jobs.get(fileId);
+        if (job == null) {
+            return Response.status(404).build();
+        }
+        if (!job.isFinished()) {
+            return Response.status(Response.Status.ACCEPTED).entity(status(job, null))
+                    .type(MediaType.APPLICATION_JSON).header("Retry-After", 5).build();
+        }
+        if (!jobs.remove(fileId)) {
+            // downloaded or evicted concurrently
+            return Response.status(404).build();
+        }
+        if (job.getStatus() == GenerationJobs.Status.FAILED) {
+            throw new BadRequestException(job.getMessage());
+        }
+
+        final File file = job.getResult();
+        StreamingOutput stream = new StreamingOutput() {
+            @Override
+            public void write(OutputStream output) throws IOException {
+                try {
+                    FileUtils.copyFile(file, output);
+                } finally {
+                    job.discard();
+                }
             }
+        };
+        return Response
+                .ok(stream, "application/zip")
+                .header("Content-Disposition",
+                        "attachment; filename=\"" + job.getFriendlyName() + "-generated.zip\"")
+                .header("Accept-Range", "bytes").header("Content-Length", file.length()).build();
+    }
 
-            return Response
-                    .ok(bytes, "application/zip")
-                    .header("Content-Disposition",
-                            "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
-                    .header("Accept-Range", "bytes").header("Content-Length", bytes.length).build();
-        } else {
+    @GET
+    @Path("/jobs/{fileId}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Returns the status of a generation",
+            notes = "The `fileId` is returned by the `/clients/{language}` or `/servers/{language}` POST operations.",
+            response = JobStatus.class, tags = {"clients", "servers"})
+    public Response getJobStatus(@Context HttpServletRequest request,
+            @ApiParam(value = "The generation code", required = true) @PathParam("fileId") String fileId) {
+        GenerationJobs.Job job = jobs.get(fileId);
+        if (job == null) {
             return Response.status(404).build();
         }
+        return Response.ok().entity(status(job, getHost(request) + "/api/gen/download/" + fileId)).build();
     }
 
     @POST
@@ -90,30 +122,13 @@ public class SwaggerResource {
             @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts)
             throws Exception {
 
-        String filename = Generator.generateClient(language, opts);
-        String host = System.getenv("GENERATOR_HOST");
+        ClientOptInput input = Generator.prepareClient(language, opts);
+        String host = getHost(request);
 
-        if (StringUtils.isBlank(host)) {
-            String scheme = request.getHeader("X-SSL");
-            String port = "";
-            if ("1".equals(scheme)) {
-                scheme = "https";
-            } else {
-                scheme = request.getScheme();
-                port = ":" + request.getServerPort();
-            }
-            host = scheme + "://" + request.getServerName() + port;
-        }
-
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(language + "-client");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = host + "/api/gen/download/" + code;
-            return Response.ok().entity(new ResponseCode(code, link)).build();
+        if (input != null) {
+            GenerationJobs.Job job = jobs.submit(language + "-client", input);
+            String link = host + "/api/gen/download/" + job.getCode();
+            return Response.ok().entity(new ResponseCode(job.getCode(), link)).build();
         } else {
             return Response.status(500).build();
         }
@@ -189,24 +204,40 @@ public class SwaggerResource {
         if (framework == null) {
             throw new BadRequestException("Framework is required");
         }
-        String filename = Generator.generateServer(framework, opts);
-        System.out.println("generated name: " + filename);
+        ClientOptInput input = Generator.prepareServer(framework, opts);
 
         String host =
                 request.getScheme() + "://" + request.getServerName() + ":"
                         + request.getServerPort();
 
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(framework + "-server");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = host + "/api/gen/download/" + code;
-            return Response.ok().entity(new ResponseCode(code, link)).build();
+        if (input != null) {
+            GenerationJobs.Job job = jobs.submit(framework + "-server", input);
+            String link = host + "/api/gen/download/" + job.getCode();
+            return Response.ok().entity(new ResponseCode(job.getCode(), link)).build();
         } else {
             return Response.status(500).build();
         }
     }
+
+    private static String getHost(HttpServletRequest request) {
+        String host = System.getenv("GENERATOR_HOST");
+
+        if (StringUtils.isBlank(host)) {
+            String scheme = request.getHeader("X-SSL");
+            String port = "";
+            if ("1".equals(scheme)) {
+                scheme = "https";
+            } else {
+                scheme = request.getScheme();
+                port = ":" + request.getServerPort();
+            }
+            host = scheme + "://" + request.getServerName() + port;
+        }
+        return host;
+    }
+
+    private static JobStatus status(GenerationJobs.Job job, String link) {
+        return new JobStatus(job.getCode(), job.getStatus().name(), job.getMessage(),
+                job.getStatus() == GenerationJobs.Status.DONE ? link : null);
+    }
 }
@@ -0,0 +1,132 @@
+package io.swagger.generator.online;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.TooManyRequestsException;
+import io.swagger.generator.model.GeneratorInput;
+import io.swagger.models.Swagger;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("static-method")
+public class GenerationJobsTest {
+
+    @Test
+    public void runsJobTest() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(1, 1, 60000L, 10, Long.MAX_VALUE);
+        try {
+            final GenerationJobs.Job job = jobs.submit("java-client", Generator.prepareClient("java", petstore()));
+
+            assertTrue(job.await(60, TimeUnit.SECONDS));
+            assertEquals(job.getStatus(), GenerationJobs.Status.DONE);
+            final File result = job.getResult();
+            assertTrue(result.length() > 0);
+            assertNotNull(jobs.get(job.getCode()));
+
+            assertTrue(jobs.remove(job.getCode()));
+            assertTrue(result.isFile());
+            job.discard();
+            assertFalse(result.exists());
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectsWhenQueueIsFullTest() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(1, 1, 60000L, 10, Long.MAX_VALUE);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            final GenerationJobs.Job running = jobs.submit("running", blocking(release));
+            final GenerationJobs.Job queued = jobs.submit("queued", blocking(release));
+            try {
+                jobs.submit("rejected", blocking(release));
+                fail("expected the third job to be rejected");
+            } catch (TooManyRequestsException e) {
+                assertEquals(e.getCode(), TooManyRequestsException.SC_TOO_MANY_REQUESTS);
+            }
+            assertEquals(jobs.size(), 2);
+
+            release.countDown();
+            assertTrue(running.await(60, TimeUnit.SECONDS));
+            assertTrue(queued.await(60, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void evictsOldestResultsTest() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(1, 2, 60000L, 1, Long.MAX_VALUE);
+        try {
+            final GenerationJobs.Job first = jobs.submit("first", Generator.prepareClient("java", petstore()));
+            assertTrue(first.await(60, TimeUnit.SECONDS));
+            final File firstResult = first.getResult();
+            Thread.sleep(5);
+            final GenerationJobs.Job second = jobs.submit("second", Generator.prepareClient("java", petstore()));
+            assertTrue(second.await(60, TimeUnit.SECONDS));
+
+            assertNull(jobs.get(first.getCode()));
+            assertFalse(firstResult.exists());
+            assertNotNull(jobs.get(second.getCode()));
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void failedJobTest() throws Exception {
+        final GenerationJobs jobs = new GenerationJobs(1, 1, 60000L, 10, Long.MAX_VALUE);
+        try {
+            final ClientOptInput input = Generator.prepareClient("java", petstore());
+            input.setSwagger(null);
+            final GenerationJobs.Job job = jobs.submit("java-client", input);
+
+            assertTrue(job.await(60, TimeUnit.SECONDS));
+            assertEquals(job.getStatus(), GenerationJobs.Status.FAILED);
+            assertNotNull(job.getMessage());
+            assertNull(job.getResult());
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    private static ClientOptInput blocking(final CountDownLatch release) throws ApiException, IOException {
+        final ClientOptInput input = Generator.prepareClient("java", petstore());
+        final JavaClientCodegen config = new JavaClientCodegen() {
+            @Override
+            public void preprocessSwagger(Swagger swagger) {
+                try {
+                    release.await(60, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.preprocessSwagger(swagger);
+            }
+        };
+        config.setOutputDir(input.getConfig().getOutputDir());
+        return input.config(config);
+    }
+
+    private static GeneratorInput petstore() throws IOException {
+        final GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(
+                GenerationJobsTest.class.getClassLoader().getResourceAsStream("petstore.json")));
+        return input;
+    }
+}
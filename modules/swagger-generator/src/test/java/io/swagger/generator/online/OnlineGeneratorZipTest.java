@@ -0,0 +1,72 @@
+package io.swagger.generator.online;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.model.GeneratorInput;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+@SuppressWarnings("static-method")
+public class OnlineGeneratorZipTest {
+
+    @Test
+    public void writeZipTest() throws ApiException, IOException {
+        final ClientOptInput clientOptInput = Generator.prepareClient("java", petstore());
+        final Set<String> entries = zipEntries(clientOptInput);
+
+        assertTrue(entries.contains("java-client/pom.xml"));
+        assertTrue(entries.contains("java-client/src/main/java/io/swagger/client/model/Pet.java"));
+        assertFalse(new File(clientOptInput.getConfig().getOutputDir()).exists());
+    }
+
+    @Test
+    public void writeSpecZipTest() throws ApiException, IOException {
+        final ClientOptInput json = Generator.prepareClient("swagger", petstore());
+        assertTrue(zipEntries(json).contains("swagger-client/swagger.json"));
+        assertFalse(new File(json.getConfig().getOutputDir()).getParentFile().exists());
+
+        final ClientOptInput yaml = Generator.prepareClient("swagger-yaml", petstore());
+        assertTrue(zipEntries(yaml).contains("swagger-yaml-client/swagger.yaml"));
+        assertFalse(new File(yaml.getConfig().getOutputDir()).getParentFile().exists());
+    }
+
+    @Test(expectedExceptions = BadRequestException.class)
+    public void rejectsInvalidSpecTest() throws ApiException, IOException {
+        final GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree("{\"foo\": 1}"));
+        Generator.prepareClient("java", input);
+    }
+
+    private GeneratorInput petstore() throws IOException {
+        final GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(getClass().getClassLoader().getResourceAsStream("petstore.json")));
+        return input;
+    }
+
+    private static Set<String> zipEntries(ClientOptInput clientOptInput) throws ApiException, IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Generator.writeZip(clientOptInput, out);
+
+        final Set<String> entries = new HashSet<String>();
+        final ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()));
+        for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            entries.add(entry.getName());
+        }
+        zip.close();
+        return entries;
+    }
+}